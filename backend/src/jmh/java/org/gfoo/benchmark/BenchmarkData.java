@@ -0,0 +1,47 @@
+package org.gfoo.benchmark;
+
+import org.bson.types.ObjectId;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+
+import java.util.Date;
+
+/**
+ * Realistic news content shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    private static final long BASE_DATE = 1_700_000_000_000L;
+
+    private BenchmarkData() {
+    }
+
+    public static NewsDocument document(int index) {
+        NewsDocument document = new NewsDocument();
+        document.id = new ObjectId();
+        document.title = "Conférence annuelle de la faculté des sciences et de médecine n°" + index;
+        document.catchLine = "Les chercheurs présentent leurs travaux récents sur la biologie computationnelle, "
+            + "suivis d'une table ronde ouverte au public et d'un apéritif dans le hall principal.";
+        document.isEvent = index % 3 == 0;
+        document.language = index % 2 == 0 ? "fr" : "en";
+        document.status = index % 10 == 0 ? "deleted" : "usable";
+        document.userCreated = "editor" + (index % 50);
+        document.userLastModified = "editor" + (index % 50);
+        document.dateCreated = new Date(BASE_DATE - index * 60_000L);
+        document.dateLastModified = new Date(BASE_DATE);
+        return document;
+    }
+
+    public static NewsSummary summary(NewsDocument document) {
+        NewsSummary summary = new NewsSummary();
+        summary.id = document.id;
+        summary.title = document.title;
+        summary.catchLine = document.catchLine;
+        summary.isEvent = document.isEvent;
+        summary.language = document.language;
+        summary.status = document.status;
+        summary.dateCreated = document.dateCreated;
+        summary.dateLastModified = document.dateLastModified;
+        return summary;
+    }
+}
@@ -0,0 +1,43 @@
+package org.gfoo.benchmark;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.io.BasicOutputBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Raw BSON encoding and decoding with the same POJO codecs as the application.
+ */
+public final class Bson {
+
+    public static final CodecRegistry REGISTRY = CodecRegistries.fromRegistries(
+        MongoClientSettings.getDefaultCodecRegistry(),
+        CodecRegistries.fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private Bson() {
+    }
+
+    public static <T> byte[] encode(T value, Codec<T> codec) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, value, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        }
+        return buffer.toByteArray();
+    }
+
+    public static <T> T decode(byte[] bytes, Codec<T> codec) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return codec.decode(reader, DECODER_CONTEXT);
+        }
+    }
+}
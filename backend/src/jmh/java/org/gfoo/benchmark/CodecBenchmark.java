@@ -0,0 +1,78 @@
+package org.gfoo.benchmark;
+
+import org.bson.codecs.Codec;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.mapper.NewsMapperImpl;
+import org.gfoo.repository.NewsResponseCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding throughput of one news into a {@link NewsResponse}: POJO codecs followed by the
+ * mapper versus {@link NewsResponseCodec}, on the projected fields and on a whole document.
+ *
+ * <p>Run with {@code -prof gc} to compare the bytes allocated per decoded news
+ * ({@code gc.alloc.rate.norm}).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private final NewsMapper mapper = new NewsMapperImpl();
+
+    private final NewsResponseCodec responseCodec = new NewsResponseCodec();
+
+    private Codec<NewsDocument> documentCodec;
+    private Codec<NewsSummary> summaryCodec;
+    private byte[] documentBytes;
+    private byte[] summaryBytes;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setup() {
+        documentCodec = Bson.REGISTRY.get(NewsDocument.class);
+        summaryCodec = Bson.REGISTRY.get(NewsSummary.class);
+        NewsDocument document = BenchmarkData.document(42);
+        NewsSummary summary = BenchmarkData.summary(document);
+        documentBytes = Bson.encode(document, documentCodec);
+        summaryBytes = Bson.encode(summary, summaryCodec);
+        responseBytes = Bson.encode(mapper.toSummaryResponse(summary), responseCodec);
+    }
+
+    @Benchmark
+    public NewsResponse pojoDocument() {
+        return mapper.toResponse(Bson.decode(documentBytes, documentCodec));
+    }
+
+    @Benchmark
+    public NewsResponse pojoSummary() {
+        return mapper.toSummaryResponse(Bson.decode(summaryBytes, summaryCodec));
+    }
+
+    @Benchmark
+    public NewsResponse codecDocument() {
+        return Bson.decode(documentBytes, responseCodec);
+    }
+
+    @Benchmark
+    public NewsResponse codecProjection() {
+        return Bson.decode(responseBytes, responseCodec);
+    }
+}
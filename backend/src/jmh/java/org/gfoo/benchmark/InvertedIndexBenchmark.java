@@ -0,0 +1,79 @@
+package org.gfoo.benchmark;
+
+import org.gfoo.search.AnalyzedText;
+import org.gfoo.search.InvertedIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top 20 of {@link InvertedIndex#search} on news of 30 terms drawn from a Zipfian vocabulary,
+ * for a frequent term, a rare one, and a query mixing both; the index size is displayed at
+ * startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvertedIndexBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000"})
+    int documents;
+
+    private InvertedIndex<Integer> index;
+
+    private final List<String> frequent = List.of("t1");
+
+    private final List<String> rare = List.of("t5000");
+
+    private final List<String> mixed = List.of("t3", "t40", "t700");
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new InvertedIndex<>(Comparator.<Integer>naturalOrder());
+        for (int doc = 0; doc < documents; doc++) {
+            List<String> terms = new ArrayList<>(30);
+            for (int i = 0; i < 30; i++) {
+                terms.add("t" + (int) Math.pow(VOCABULARY, random.nextDouble()));
+            }
+            index.add(doc, new AnalyzedText().add(terms, 1));
+        }
+        System.out.printf("%n%d documents, %d terms%n", index.size(), index.terms());
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit<Integer>> frequentTerm() {
+        return index.search(frequent, item -> true, LIMIT);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit<Integer>> rareTerm() {
+        return index.search(rare, item -> true, LIMIT);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit<Integer>> mixedTerms() {
+        return index.search(mixed, item -> true, LIMIT);
+    }
+}
@@ -0,0 +1,62 @@
+package org.gfoo.benchmark;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.mapper.NewsMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link NewsMapper#toResponse(NewsDocument)} and
+ * {@link NewsMapper#toResponseList(List)} at several list sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    private final NewsMapper mapper = new NewsMapperImpl();
+
+    private NewsDocument document;
+
+    private List<NewsDocument> documents;
+
+    @Setup
+    public void setup() {
+        document = BenchmarkData.document(42);
+        documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            documents.add(BenchmarkData.document(i));
+        }
+    }
+
+    @Benchmark
+    public NewsResponse toResponse() {
+        return mapper.toResponse(document);
+    }
+
+    @Benchmark
+    public List<NewsResponse> toResponseList() {
+        return mapper.toResponseList(documents);
+    }
+}
@@ -0,0 +1,64 @@
+package org.gfoo.benchmark;
+
+import org.bson.codecs.Codec;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.mapper.NewsMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading one news for the API, from the BSON bytes received from MongoDB to the
+ * {@link NewsResponse}: whole {@link NewsDocument} versus {@link NewsSummary} projection.
+ *
+ * <p>The byte sizes printed at setup are the document sizes sent on the wire in each case.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private final NewsMapper mapper = new NewsMapperImpl();
+
+    private Codec<NewsDocument> documentCodec;
+    private Codec<NewsSummary> summaryCodec;
+    private byte[] documentBytes;
+    private byte[] summaryBytes;
+
+    @Setup
+    public void setup() {
+        documentCodec = Bson.REGISTRY.get(NewsDocument.class);
+        summaryCodec = Bson.REGISTRY.get(NewsSummary.class);
+        NewsDocument document = BenchmarkData.document(42);
+        documentBytes = Bson.encode(document, documentCodec);
+        summaryBytes = Bson.encode(BenchmarkData.summary(document), summaryCodec);
+        System.out.printf("%nBytes per news: document=%d, projection=%d (-%d%%)%n",
+            documentBytes.length, summaryBytes.length,
+            100 - summaryBytes.length * 100 / documentBytes.length);
+    }
+
+    @Benchmark
+    public NewsResponse document() {
+        return mapper.toResponse(Bson.decode(documentBytes, documentCodec));
+    }
+
+    @Benchmark
+    public NewsResponse projection() {
+        return mapper.toSummaryResponse(Bson.decode(summaryBytes, summaryCodec));
+    }
+}
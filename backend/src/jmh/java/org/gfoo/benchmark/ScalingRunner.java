@@ -0,0 +1,59 @@
+package org.gfoo.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the selected benchmarks once per thread count and writes one JSON result file per run,
+ * to see how throughput scales across cores and to compare releases.
+ *
+ * <p>Arguments are the usual JMH command line ones. Thread counts come from the
+ * {@code jmh.threads} system property (comma separated, default 1, 2, 4... up to the number of
+ * cores) and results go to {@code jmh.results} (default {@code target/jmh}), as
+ * {@code <threads>-threads.json}.</p>
+ */
+public final class ScalingRunner {
+
+    private ScalingRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        File results = new File(System.getProperty("jmh.results", "target/jmh"));
+        if (!results.isDirectory() && !results.mkdirs()) {
+            throw new IllegalStateException("Cannot create " + results);
+        }
+        for (int threads : threadCounts(System.getProperty("jmh.threads", ""))) {
+            File result = new File(results, threads + "-threads.json");
+            new Runner(new OptionsBuilder()
+                .parent(options)
+                .threads(threads)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath())
+                .build()).run();
+            System.out.printf("%nResults at %d thread(s) written to %s%n", threads, result);
+        }
+    }
+
+    static List<Integer> threadCounts(String property) {
+        if (!property.isBlank()) {
+            return Arrays.stream(property.split(",")).map(String::trim).map(Integer::valueOf).toList();
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(cores);
+        return counts;
+    }
+}
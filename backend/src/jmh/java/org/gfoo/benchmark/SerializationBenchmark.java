@@ -0,0 +1,70 @@
+package org.gfoo.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.PagedResponse;
+import org.gfoo.mapper.NewsMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a {@code PagedResponse<NewsResponse>} at several page sizes, through
+ * the {@link ObjectMapper} as the REST layer does and through a writer resolved once for the type.
+ *
+ * <p>The JSON size of each page is printed at setup.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "50", "100", "1000"})
+    int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ObjectWriter writer;
+
+    private PagedResponse<NewsResponse> page;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        NewsMapperImpl mapper = new NewsMapperImpl();
+        List<NewsResponse> data = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            data.add(mapper.toResponse(BenchmarkData.document(i)));
+        }
+        page = new PagedResponse<>(data, 0, pageSize, 10_000L, null);
+        writer = objectMapper.writerFor(new TypeReference<PagedResponse<NewsResponse>>() {});
+        System.out.printf("%nBytes per page of %d: %d%n", pageSize, objectMapper.writeValueAsBytes(page).length);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] typedWriter() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
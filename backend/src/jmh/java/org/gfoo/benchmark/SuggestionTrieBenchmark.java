@@ -0,0 +1,65 @@
+package org.gfoo.benchmark;
+
+import org.gfoo.search.SuggestionTrie;
+import org.gfoo.search.TextAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ten suggestions from a {@link SuggestionTrie} of titles made of common words, for prefixes of
+ * increasing length; the number of nodes is displayed at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestionTrieBenchmark {
+
+    private static final List<String> WORDS = List.of(
+        "conférence", "concert", "campus", "rentrée", "académique", "recherche", "étudiants", "sciences",
+        "faculté", "laboratoire", "prix", "semaine", "journée", "portes", "ouvertes");
+
+    @Param({"100000", "1000000"})
+    int titles;
+
+    @Param({"c", "conf", "conference camp"})
+    String prefix;
+
+    private SuggestionTrie<Integer> trie;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        List<SuggestionTrie.Entry<Integer>> entries = new ArrayList<>(titles);
+        for (int i = 0; i < titles; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int j = 0; j < 6; j++) {
+                title.append(WORDS.get(random.nextInt(WORDS.size()))).append(' ');
+            }
+            entries.add(new SuggestionTrie.Entry<>(TextAnalyzer.fold(title.append(i).toString()), random.nextLong(), i));
+        }
+        trie = SuggestionTrie.build(entries);
+        System.out.printf("%n%d titles, %d nodes%n", trie.size(), trie.nodes());
+    }
+
+    @Benchmark
+    public List<SuggestionTrie.Suggestion<Integer>> suggest() {
+        return trie.suggest(prefix, 10);
+    }
+}
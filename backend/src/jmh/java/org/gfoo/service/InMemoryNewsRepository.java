@@ -0,0 +1,89 @@
+package org.gfoo.service;
+
+import org.bson.types.ObjectId;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.mapper.NewsMapperImpl;
+import org.gfoo.repository.NewsCursor;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Stand-in for {@link NewsRepository} answering the read queries of {@link NewsService} from
+ * memory, so that the service benchmarks measure the service itself rather than MongoDB.
+ */
+class InMemoryNewsRepository extends NewsRepository {
+    
+    private static final Comparator<NewsSummary> KEYSET_ORDER = Comparator
+        .comparing((NewsSummary summary) -> summary.dateCreated, Comparator.nullsLast(Comparator.<Date>reverseOrder()))
+        .thenComparing(summary -> summary.id, Comparator.reverseOrder());
+    
+    private final NewsMapper mapper = new NewsMapperImpl();
+    
+    private final List<NewsSummary> summaries;
+    
+    private final Map<ObjectId, NewsSummary> byId = new HashMap<>();
+    
+    InMemoryNewsRepository(List<NewsSummary> summaries) {
+        this.summaries = summaries.stream().sorted(KEYSET_ORDER).toList();
+        this.summaries.forEach(summary -> byId.put(summary.id, summary));
+    }
+    
+    @Override
+    public List<NewsSummary> findSummaries(NewsFilter filter, int page, int size) {
+        return select(filter)
+            .skip((long) page * size)
+            .limit(size)
+            .toList();
+    }
+    
+    @Override
+    public List<NewsSummary> findSummariesAfter(NewsFilter filter, NewsCursor after, int limit) {
+        Stream<NewsSummary> selected = select(filter);
+        if (after != null) {
+            NewsSummary position = new NewsSummary();
+            position.dateCreated = after.dateCreated();
+            position.id = after.id();
+            selected = selected.filter(summary -> KEYSET_ORDER.compare(summary, position) > 0);
+        }
+        return selected.limit(limit).toList();
+    }
+    
+    @Override
+    public Stream<NewsSummary> streamSummaries(NewsFilter filter, int batchSize) {
+        return select(filter);
+    }
+    
+    @Override
+    public List<NewsResponse> findResponses(NewsFilter filter, int page, int size) {
+        return mapper.toSummaryResponseList(findSummaries(filter, page, size));
+    }
+    
+    @Override
+    public Stream<NewsResponse> streamResponses(NewsFilter filter, int batchSize) {
+        return select(filter).map(mapper::toSummaryResponse);
+    }
+    
+    @Override
+    public Optional<NewsSummary> findSummaryById(ObjectId id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+    
+    private Stream<NewsSummary> select(NewsFilter filter) {
+        return summaries.stream()
+            .filter(summary -> filter.matches(summary.language, summary.status, summary.isEvent))
+            .filter(summary -> filter.createdFrom() == null
+                || summary.dateCreated != null && !summary.dateCreated.before(filter.createdFrom()))
+            .filter(summary -> filter.createdTo() == null
+                || summary.dateCreated != null && summary.dateCreated.before(filter.createdTo()));
+    }
+}
@@ -0,0 +1,112 @@
+package org.gfoo.service;
+
+import org.gfoo.benchmark.BenchmarkData;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.mapper.NewsMapperImpl;
+import org.gfoo.repository.NewsFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link NewsService} read paths over an {@link InMemoryNewsRepository}:
+ * validation, repository call, mapping, slicing, cache and materialized view, without MongoDB.
+ *
+ * <p>Run it at several thread counts to see how the service scales across cores, e.g. with
+ * {@code ScalingRunner}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewsServiceBenchmark {
+    
+    private static final NewsFilter USABLE_EN = new NewsFilter("en", "usable", null);
+    
+    @Param({"10000"})
+    int collectionSize;
+    
+    @Param({"20"})
+    int pageSize;
+    
+    /**
+     * {@code repository}: lists read through the repository stand-in and mapped on each call;
+     * {@code view}: lists of usable news served by {@link UsableNewsView}.
+     */
+    @Param({"repository", "view"})
+    String source;
+    
+    private NewsService newsService;
+    
+    private List<String> ids;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        List<NewsSummary> summaries = new ArrayList<>(collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+            summaries.add(BenchmarkData.summary(BenchmarkData.document(i)));
+        }
+        InMemoryNewsRepository repository = new InMemoryNewsRepository(summaries);
+        NewsMapperImpl mapper = new NewsMapperImpl();
+        
+        NewsCache cache = new NewsCache();
+        cache.enabled = true;
+        cache.maximumWeight = 64L * 1024 * 1024;
+        cache.ttl = Duration.ofMinutes(10);
+        cache.missingTtl = Duration.ofSeconds(30);
+        cache.init();
+        
+        UsableNewsView view = new UsableNewsView();
+        view.newsRepository = repository;
+        view.newsMapper = mapper;
+        view.enabled = "view".equals(source);
+        view.rebuild();
+        
+        newsService = new NewsService();
+        newsService.newsRepository = repository;
+        newsService.newsMapper = mapper;
+        newsService.newsCache = cache;
+        newsService.usableNewsView = view;
+        
+        ids = summaries.stream().map(summary -> summary.id.toHexString()).toList();
+    }
+    
+    @Benchmark
+    public List<NewsResponse> firstPage() {
+        return newsService.getNews(USABLE_EN, 0, pageSize);
+    }
+    
+    @Benchmark
+    public List<NewsResponse> deepPage() {
+        return newsService.getNews(USABLE_EN, 100, pageSize);
+    }
+    
+    @Benchmark
+    public NewsSlice firstSlice() {
+        return newsService.getNewsAfter(USABLE_EN, null, pageSize);
+    }
+    
+    @Benchmark
+    public Optional<NewsResponse> byId() {
+        return newsService.getNewsById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+}
@@ -0,0 +1,60 @@
+package org.gfoo;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+
+/**
+ * Caps the request bodies of every route but {@code POST /news/bulk}.
+ *
+ * <p>{@code quarkus.http.limits.max-body-size} applies to all routes, and is raised so that the
+ * bulk route can stream large files. The other routes buffer their body in memory and are held
+ * to {@code news.http.max-body-size} instead: a larger {@code Content-Length} gets a
+ * {@code 413}, and a body sent without a length a {@code 411}.</p>
+ */
+public class BodySizeFilter {
+    
+    static final String BULK_PATH = "/news/bulk";
+    
+    @ConfigProperty(name = "news.http.max-body-size", defaultValue = "10M")
+    MemorySize maxBodySize;
+    
+    @ServerRequestFilter(preMatching = true)
+    public Response filter(ContainerRequestContext request) {
+        if ("POST".equals(request.getMethod()) && BULK_PATH.equals(path(request))) {
+            return null;
+        }
+        String length = request.getHeaderString(HttpHeaders.CONTENT_LENGTH);
+        if (length == null) {
+            if (request.getHeaderString("Transfer-Encoding") != null) {
+                return reject(Response.Status.LENGTH_REQUIRED, "Content-Length is required");
+            }
+            return null;
+        }
+        try {
+            if (Long.parseLong(length.trim()) <= maxBodySize.asLongValue()) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            return reject(Response.Status.BAD_REQUEST, "Invalid Content-Length");
+        }
+        return reject(Response.Status.REQUEST_ENTITY_TOO_LARGE,
+            "Body must not exceed " + maxBodySize.asLongValue() + " bytes");
+    }
+    
+    private static String path(ContainerRequestContext request) {
+        String path = request.getUriInfo().getPath();
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+    
+    private static Response reject(Response.Status status, String message) {
+        return Response.status(status)
+            .type(MediaType.TEXT_PLAIN)
+            .entity(message)
+            .build();
+    }
+}
@@ -0,0 +1,44 @@
+package org.gfoo;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.PagedResponse;
+import org.gfoo.service.NewsEtag;
+import org.gfoo.service.VersionedNews;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import java.util.Date;
+
+/**
+ * Builds the responses of the news endpoints for conditional GETs: a {@code 304 Not Modified}
+ * without body when the client's {@code If-None-Match} or {@code If-Modified-Since} still
+ * matches, the representation with its {@code ETag} (and {@code Last-Modified}) otherwise.
+ */
+final class ConditionalResponses {
+    
+    private ConditionalResponses() {
+    }
+    
+    static Response of(Request request, PagedResponse<NewsResponse> page) {
+        EntityTag tag = new EntityTag(NewsEtag.of(page));
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.tag(tag).build();
+        }
+        return Response.ok(page).tag(tag).build();
+    }
+    
+    static Response of(Request request, VersionedNews news) {
+        EntityTag tag = new EntityTag(news.etag());
+        // HTTP dates have a one second precision
+        Date lastModified = news.lastModified() == null
+            ? null
+            : new Date(news.lastModified().getTime() / 1000 * 1000);
+        Response.ResponseBuilder notModified = lastModified == null
+            ? request.evaluatePreconditions(tag)
+            : request.evaluatePreconditions(lastModified, tag);
+        Response.ResponseBuilder builder = notModified != null ? notModified : Response.ok(news.news());
+        return builder.tag(tag).lastModified(lastModified).build();
+    }
+}
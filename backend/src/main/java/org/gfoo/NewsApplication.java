@@ -0,0 +1,65 @@
+package org.gfoo;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.Quarkus;
+import io.quarkus.runtime.QuarkusApplication;
+import io.quarkus.runtime.annotations.QuarkusMain;
+import io.quarkus.runtime.configuration.ConfigUtils;
+import jakarta.inject.Inject;
+import org.gfoo.service.NewsImportReport;
+import org.gfoo.service.NewsImporter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Entry point of the application: serves the API until stopped when run without arguments, or
+ * runs a command and exits.
+ *
+ * <p>{@code import <file> [checkpoint]} imports a NDJSON file of news with {@link NewsImporter},
+ * resuming from the checkpoint ({@code <file>.checkpoint} by default) when one exists. It is
+ * meant to run under the {@value #IMPORT_PROFILE} profile, which leaves out the startup work and
+ * schedulers of the server.</p>
+ */
+@QuarkusMain
+public class NewsApplication implements QuarkusApplication {
+
+    static final int USAGE_ERROR = 2;
+
+    static final String IMPORT_PROFILE = "import";
+
+    @Inject
+    NewsImporter newsImporter;
+
+    @Override
+    public int run(String... args) throws InterruptedException {
+        if (args.length == 0) {
+            Quarkus.waitForExit();
+            return 0;
+        }
+        if (!"import".equals(args[0]) || args.length < 2 || args.length > 3) {
+            Log.error("Usage: import <file> [checkpoint]");
+            return USAGE_ERROR;
+        }
+        if (!ConfigUtils.getProfiles().contains(IMPORT_PROFILE)) {
+            Log.warnf("Importing without the %s profile: the views, indexes and counters of the server are built "
+                + "for nothing, run with -Dquarkus.profile=prod,%s", IMPORT_PROFILE, IMPORT_PROFILE);
+        }
+        Path file = Path.of(args[1]);
+        Path checkpoint = args.length == 3 ? Path.of(args[2]) : file.resolveSibling(file.getFileName() + ".checkpoint");
+        try {
+            NewsImportReport report = newsImporter.importFile(file, checkpoint);
+            Log.infof("Imported %s in %s: %d lines, %d news created, %d already present, %d rejected; "
+                    + "%d of %d chunks resumed; %.0f news/s, %.1f MB/s",
+                file, report.elapsed(), report.lines(), report.inserted(), report.existing(), report.rejected(),
+                report.resumedChunks(), report.chunks(), report.newsPerSecond(), report.megabytesPerSecond());
+            return 0;
+        } catch (IllegalArgumentException | IOException e) {
+            Log.errorf("Unable to import %s: %s", file, e.getMessage());
+            return 1;
+        } catch (RuntimeException e) {
+            Log.errorf(e, "Import of %s interrupted, run it again to resume from %s", file, checkpoint);
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.gfoo;
+
+import org.gfoo.service.NewsBulkService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Creation of news in bulk.
+ */
+@Path("/news/bulk")
+public class NewsBulkResource {
+    
+    private static final MediaType NDJSON = MediaType.valueOf(NewsExportResource.APPLICATION_NDJSON);
+    
+    @Inject
+    NewsBulkService newsBulkService;
+    
+    /**
+     * Creates the news of the body, either one JSON object per line ({@code application/x-ndjson})
+     * or a JSON array ({@code application/json}), and returns the outcome of each item: the id of
+     * the created news or the reason of its rejection.
+     *
+     * <p>The body is read as it arrives and written in batches, it is never held in memory as a
+     * whole. Rejected items do not prevent the others from being created.</p>
+     */
+    @POST
+    @Consumes({NewsExportResource.APPLICATION_NDJSON, MediaType.APPLICATION_JSON})
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response insert(InputStream body, @Context HttpHeaders headers) throws IOException {
+        boolean ndjson = headers.getMediaType() != null && NDJSON.isCompatible(headers.getMediaType());
+        try {
+            return Response.ok(newsBulkService.insert(body, ndjson)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .type(MediaType.TEXT_PLAIN)
+                .entity(e.getMessage())
+                .build();
+        }
+    }
+}
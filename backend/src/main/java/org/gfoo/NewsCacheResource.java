@@ -0,0 +1,49 @@
+package org.gfoo;
+
+import org.gfoo.service.NewsCache;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Management endpoint of the cache of news served by id.
+ */
+@Path("/admin/news/cache")
+@Produces(MediaType.APPLICATION_JSON)
+public class NewsCacheResource {
+    
+    @Inject
+    NewsCache newsCache;
+    
+    /**
+     * Returns the size and hit/miss/eviction counters of the cache.
+     */
+    @GET
+    public Response getCache() {
+        return Response.ok(newsCache.report()).build();
+    }
+    
+    /**
+     * Empties the cache.
+     */
+    @DELETE
+    public Response invalidateAll() {
+        newsCache.invalidateAll();
+        return Response.noContent().build();
+    }
+    
+    /**
+     * Removes the news with the given id from the cache.
+     */
+    @DELETE
+    @Path("/{id}")
+    public Response invalidate(@PathParam("id") String id) {
+        newsCache.invalidate(id);
+        return Response.noContent().build();
+    }
+}
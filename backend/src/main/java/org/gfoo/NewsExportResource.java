@@ -0,0 +1,75 @@
+package org.gfoo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.service.NewsService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Export of the news collection as newline-delimited JSON.
+ */
+@Path("/news/export")
+public class NewsExportResource {
+    
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+    
+    @Inject
+    NewsService newsService;
+    
+    @Inject
+    ObjectMapper objectMapper;
+    
+    @ConfigProperty(name = "news.export.batch-size", defaultValue = "1000")
+    int batchSize;
+    
+    /**
+     * Streams every news selected by the same filters as {@code GET /news}, one JSON object per line.
+     *
+     * <p>Items are written straight from the MongoDB cursor to the response: the next batch is only
+     * fetched once the previous one has been written, so a slow client slows the export down instead
+     * of filling the heap. Paging parameters are ignored.</p>
+     */
+    @GET
+    @Produces(APPLICATION_NDJSON)
+    public Response export(@BeanParam NewsQueryParams params) {
+        NewsFilter filter;
+        try {
+            filter = params.toFilter();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .type(MediaType.TEXT_PLAIN)
+                .entity(e.getMessage())
+                .build();
+        }
+        StreamingOutput body = output -> {
+            try (Stream<NewsResponse> news = newsService.streamNews(filter, batchSize);
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                // Lines are separated by the raw newlines only, not by the default space between root values
+                generator.setRootValueSeparator(null);
+                Iterator<NewsResponse> iterator = news.iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    generator.writeRaw('\n');
+                    if (++written % batchSize == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        };
+        return Response.ok(body, APPLICATION_NDJSON).build();
+    }
+}
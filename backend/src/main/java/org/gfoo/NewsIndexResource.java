@@ -0,0 +1,38 @@
+package org.gfoo;
+
+import org.gfoo.service.NewsIndexService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Management endpoint of the news collection indexes.
+ */
+@Path("/admin/news/indexes")
+@Produces(MediaType.APPLICATION_JSON)
+public class NewsIndexResource {
+    
+    @Inject
+    NewsIndexService newsIndexService;
+    
+    /**
+     * Returns declared and actual indexes along with the drift between them.
+     */
+    @GET
+    public Response getIndexes() {
+        return Response.ok(newsIndexService.report()).build();
+    }
+    
+    /**
+     * Creates the declared indexes missing from the collection, then returns the resulting report.
+     */
+    @POST
+    public Response createMissingIndexes() {
+        newsIndexService.createMissingIndexes();
+        return Response.ok(newsIndexService.report()).build();
+    }
+}
@@ -0,0 +1,109 @@
+package org.gfoo;
+
+import org.gfoo.repository.NewsFilter;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.QueryParam;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Query parameters of the news list endpoints.
+ */
+public class NewsQueryParams {
+    
+    @QueryParam("page")
+    @DefaultValue("0")
+    public int page;
+    
+    @QueryParam("size")
+    @DefaultValue("10")
+    public int size;
+    
+    /** Keyset cursor, see {@link NewsResource#getNews}. */
+    @QueryParam("after")
+    public String after;
+    
+    @QueryParam("withTotal")
+    @DefaultValue("true")
+    public boolean withTotal;
+    
+    @QueryParam("language")
+    public String language;
+    
+    @QueryParam("status")
+    public String status;
+    
+    /** "news" or "event". */
+    @QueryParam("type")
+    public String type;
+    
+    /** Lower bound of the creation date, inclusive (ISO-8601 date or instant). */
+    @QueryParam("from")
+    public String from;
+    
+    /** Upper bound of the creation date, exclusive (ISO-8601 date or instant). */
+    @QueryParam("to")
+    public String to;
+    
+    /** Comma-separated ids: when present, the news with these ids are returned instead of a page. */
+    @QueryParam("ids")
+    public String ids;
+    
+    /**
+     * Returns the ids of the {@code ids} parameter, blank items skipped.
+     */
+    public List<String> idList() {
+        return Arrays.stream(ids.split(","))
+            .map(String::trim)
+            .filter(id -> !id.isEmpty())
+            .toList();
+    }
+    
+    /**
+     * Builds the filter described by the parameters.
+     *
+     * @throws IllegalArgumentException if the type or a date is invalid
+     */
+    public NewsFilter toFilter() {
+        return new NewsFilter(blankToNull(language), blankToNull(status), parseType(type),
+            parseDate("from", from), parseDate("to", to));
+    }
+    
+    static Boolean parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        switch (type) {
+            case "news":
+                return false;
+            case "event":
+                return true;
+            default:
+                throw new IllegalArgumentException("Type must be 'news' or 'event'");
+        }
+    }
+    
+    static Date parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            if (value.length() == 10) {
+                return Date.from(LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant());
+            }
+            return Date.from(Instant.parse(value));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid '" + name + "' date: " + value);
+        }
+    }
+    
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
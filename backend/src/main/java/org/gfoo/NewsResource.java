@@ -1,35 +1,89 @@
 package org.gfoo;
 
+import org.gfoo.dto.NewsBatchRequest;
 import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.NewsWriteRequest;
 import org.gfoo.dto.PagedResponse;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.service.NewsCountService;
+import org.gfoo.service.NewsIngestionQueue;
 import org.gfoo.service.NewsService;
+import org.gfoo.service.NewsSlice;
+import io.quarkus.arc.properties.IfBuildProperty;
 import jakarta.inject.Inject;
-import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
-import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
 
+/**
+ * News API running on worker threads, the default execution model
+ * ({@code news.api.execution-model=worker}).
+ */
 @Path("/news")
 @Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = "news.api.execution-model", stringValue = "worker", enableIfMissing = true)
 public class NewsResource {
     
+    /** Delay suggested to a client whose write was rejected, the queue draining in milliseconds. */
+    static final int RETRY_AFTER_SECONDS = 1;
+    
     @Inject
     NewsService newsService;
     
+    @Inject
+    NewsCountService newsCountService;
+    
+    @Inject
+    NewsIngestionQueue newsIngestionQueue;
+    
+    /**
+     * Lists the news selected by the {@code language}, {@code status}, {@code type} and
+     * {@code from}/{@code to} creation date filters, most recent first.
+     *
+     * <p>Pages are addressed either by number ({@code page}/{@code size}) or, when {@code after}
+     * is present, in keyset mode: an empty {@code after} starts from the most recent news and
+     * each response carries the {@code next} cursor to pass back for the following page.</p>
+     *
+     * <p>The {@code total} is served by {@link NewsCountService}; {@code withTotal=false} skips it.</p>
+     *
+     * <p>Responses carry a strong {@code ETag} computed from their content; a request whose
+     * {@code If-None-Match} matches gets a {@code 304} without body.</p>
+     *
+     * <p>With {@code ids}, the news with these ids are returned instead, as
+     * {@link #getNewsBatch(NewsBatchRequest)} does.</p>
+     */
     @GET
-    public Response getNews(
-            @QueryParam("page") @DefaultValue("0") int page,
-            @QueryParam("size") @DefaultValue("10") int size) {
+    public Response getNews(@BeanParam NewsQueryParams params, @Context Request request) {
         try {
-            List<NewsResponse> news = newsService.getNews(page, size);
-            long total = newsService.count();
-            return Response.ok(new PagedResponse<>(news, page, size, total)).build();
+            if (params.ids != null) {
+                return Response.ok(newsService.getNewsByIds(params.idList())).build();
+            }
+            NewsFilter filter = params.toFilter();
+            if (params.after != null) {
+                NewsSlice slice = newsService.getNewsAfter(filter, params.after, params.size);
+                Long total = params.withTotal ? newsCountService.count(filter) : null;
+                return ConditionalResponses.of(request,
+                    new PagedResponse<>(slice.data(), 0, params.size, total, slice.next()));
+            }
+            List<NewsResponse> news = newsService.getNews(filter, params.page, params.size);
+            Long total = params.withTotal ? newsCountService.count(filter) : null;
+            return ConditionalResponses.of(request, new PagedResponse<>(news, params.page, params.size, total, null));
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
                 .entity(e.getMessage())
@@ -37,12 +91,69 @@ public class NewsResource {
         }
     }
     
+    /**
+     * Returns the news with the given id, or a {@code 304} when the client's copy is current.
+     */
     @GET
     @Path("/{id}")
-    public Response getNewsById(@PathParam("id") String id) {
-        return newsService.getNewsById(id)
-            .map(Response::ok)
-            .orElse(Response.status(Response.Status.NOT_FOUND))
-            .build();
+    public Response getNewsById(@PathParam("id") String id, @Context Request request) {
+        return newsService.getVersionedNewsById(id)
+            .map(news -> ConditionalResponses.of(request, news))
+            .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+    
+    /**
+     * Returns the news with the given ids in request order, with the ids matching no news, in a
+     * single MongoDB round trip. At most {@code news.batch.max-ids} ids are accepted.
+     */
+    @POST
+    @Path("/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Response getNewsBatch(NewsBatchRequest batch) {
+        try {
+            return Response.ok(newsService.getNewsByIds(batch == null ? null : batch.ids())).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(e.getMessage())
+                .build();
+        }
+    }
+    
+    /**
+     * Creates a news through the {@link NewsIngestionQueue}. The response is sent once the batch
+     * holding the news is written: {@code 201} with the created news, {@code 400} if it is
+     * invalid or refused by MongoDB, {@code 429} with a {@code Retry-After} when the queue is full.
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    public CompletionStage<Response> createNews(NewsWriteRequest news) {
+        return created(newsIngestionQueue, news);
+    }
+    
+    static CompletionStage<Response> created(NewsIngestionQueue queue, NewsWriteRequest news) {
+        CompletableFuture<NewsResponse> created;
+        try {
+            created = queue.create(news);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                .entity(e.getMessage())
+                .build());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .entity(e.getMessage())
+                .build());
+        }
+        return created
+            .thenApply(response -> Response.created(URI.create("/news/" + response.id())).entity(response).build())
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (cause instanceof IllegalArgumentException) {
+                    return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(cause.getMessage())
+                        .build();
+                }
+                throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+            });
     }
 }
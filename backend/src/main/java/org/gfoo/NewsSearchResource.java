@@ -0,0 +1,47 @@
+package org.gfoo;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.PagedResponse;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.service.NewsSearchService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.List;
+
+/**
+ * Full-text search of the news.
+ */
+@Path("/news/search")
+@Produces(MediaType.APPLICATION_JSON)
+public class NewsSearchResource {
+    
+    @Inject
+    NewsSearchService newsSearchService;
+    
+    /**
+     * Returns the news whose title or catchLine match the {@code q} terms, most relevant first,
+     * paginated by {@code page}/{@code size} and restricted by the same filters as
+     * {@code GET /news}. The {@code language} filter also selects the language the terms are
+     * analyzed in.
+     */
+    @GET
+    public Response search(@QueryParam("q") String q, @BeanParam NewsQueryParams params) {
+        try {
+            NewsFilter filter = params.toFilter();
+            List<NewsResponse> news = newsSearchService.search(q, filter, params.page, params.size);
+            Long total = params.withTotal ? newsSearchService.count(q, filter) : null;
+            return Response.ok(new PagedResponse<>(news, params.page, params.size, total, null)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(e.getMessage())
+                .build();
+        }
+    }
+}
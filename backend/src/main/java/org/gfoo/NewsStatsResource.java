@@ -0,0 +1,40 @@
+package org.gfoo;
+
+import org.gfoo.service.NewsStatsService;
+import org.gfoo.service.StatsInterval;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Statistics of the news for dashboards.
+ */
+@Path("/news/stats")
+@Produces(MediaType.APPLICATION_JSON)
+public class NewsStatsResource {
+
+    @Inject
+    NewsStatsService newsStatsService;
+
+    /**
+     * Returns the counts by language, type and status of the news selected by the same filters as
+     * {@code GET /news}, and their number by creation {@code interval} (day, week, month or year).
+     */
+    @GET
+    public Response stats(@BeanParam NewsQueryParams params,
+            @QueryParam("interval") @DefaultValue("month") String interval) {
+        try {
+            return Response.ok(newsStatsService.stats(params.toFilter(), StatsInterval.parse(interval))).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(e.getMessage())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.gfoo;
+
+import org.gfoo.service.NewsSuggestService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Title suggestions while typing a search.
+ */
+@Path("/news/suggest")
+@Produces(MediaType.APPLICATION_JSON)
+public class NewsSuggestResource {
+
+    @Inject
+    NewsSuggestService newsSuggestService;
+
+    /**
+     * Returns at most {@code size} usable news whose title starts with {@code prefix}, ignoring
+     * case and accents, most recent first, optionally restricted to a {@code language}.
+     */
+    @GET
+    public Response suggest(@QueryParam("prefix") String prefix, @QueryParam("language") String language,
+            @QueryParam("size") @DefaultValue("10") int size) {
+        try {
+            return Response.ok(newsSuggestService.suggest(prefix, language, size)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(e.getMessage())
+                .build();
+        }
+    }
+}
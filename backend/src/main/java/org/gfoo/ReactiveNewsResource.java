@@ -0,0 +1,121 @@
+package org.gfoo;
+
+import org.gfoo.dto.NewsBatchRequest;
+import org.gfoo.dto.NewsBatchResponse;
+import org.gfoo.dto.NewsWriteRequest;
+import org.gfoo.dto.PagedResponse;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.service.NewsCountService;
+import org.gfoo.service.NewsIngestionQueue;
+import org.gfoo.service.ReactiveNewsService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Non-blocking variant of {@link NewsResource}, enabled with
+ * {@code news.api.execution-model=reactive}.
+ *
+ * <p>Methods return {@link Uni}s and run on the Vert.x event loop, so that a request does not
+ * hold a worker thread while waiting for MongoDB. The page and its total are queried
+ * concurrently.</p>
+ */
+@Path("/news")
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = "news.api.execution-model", stringValue = "reactive")
+public class ReactiveNewsResource {
+    
+    @Inject
+    ReactiveNewsService reactiveNewsService;
+    
+    @Inject
+    NewsCountService newsCountService;
+    
+    @Inject
+    NewsIngestionQueue newsIngestionQueue;
+    
+    /**
+     * Same contract as {@link NewsResource#getNews(NewsQueryParams, Request)}.
+     */
+    @GET
+    public Uni<Response> getNews(@BeanParam NewsQueryParams params, @Context Request request) {
+        if (params.ids != null) {
+            return batch(reactiveNewsService.getNewsByIds(params.idList()));
+        }
+        NewsFilter filter;
+        try {
+            filter = params.toFilter();
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().item(badRequest(e));
+        }
+        Uni<Long> total = params.withTotal
+            ? newsCountService.reactiveCount(filter)
+            : Uni.createFrom().nullItem();
+        Uni<Response> response;
+        if (params.after != null) {
+            response = Uni.combine().all()
+                .unis(reactiveNewsService.getNewsAfter(filter, params.after, params.size), total)
+                .asTuple()
+                .map(result -> ConditionalResponses.of(request, new PagedResponse<>(
+                    result.getItem1().data(), 0, params.size, result.getItem2(), result.getItem1().next())));
+        } else {
+            response = Uni.combine().all()
+                .unis(reactiveNewsService.getNews(filter, params.page, params.size), total)
+                .asTuple()
+                .map(result -> ConditionalResponses.of(request, new PagedResponse<>(
+                    result.getItem1(), params.page, params.size, result.getItem2(), null)));
+        }
+        return response.onFailure(IllegalArgumentException.class).recoverWithItem(ReactiveNewsResource::badRequest);
+    }
+    
+    @GET
+    @Path("/{id}")
+    public Uni<Response> getNewsById(@PathParam("id") String id, @Context Request request) {
+        return reactiveNewsService.getVersionedNewsById(id)
+            .map(news -> news == null
+                ? Response.status(Response.Status.NOT_FOUND).build()
+                : ConditionalResponses.of(request, news));
+    }
+    
+    /**
+     * Same contract as {@link NewsResource#getNewsBatch(NewsBatchRequest)}.
+     */
+    @POST
+    @Path("/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Uni<Response> getNewsBatch(NewsBatchRequest batch) {
+        return batch(reactiveNewsService.getNewsByIds(batch == null ? null : batch.ids()));
+    }
+    
+    /**
+     * Same contract as {@link NewsResource#createNews(NewsWriteRequest)}.
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Uni<Response> createNews(NewsWriteRequest news) {
+        return Uni.createFrom().completionStage(() -> NewsResource.created(newsIngestionQueue, news));
+    }
+    
+    private static Uni<Response> batch(Uni<NewsBatchResponse> news) {
+        return news
+            .map(response -> Response.ok(response).build())
+            .onFailure(IllegalArgumentException.class).recoverWithItem(ReactiveNewsResource::badRequest);
+    }
+    
+    private static Response badRequest(Throwable e) {
+        return Response.status(Response.Status.BAD_REQUEST)
+            .entity(e.getMessage())
+            .build();
+    }
+}
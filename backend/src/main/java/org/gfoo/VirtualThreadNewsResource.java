@@ -0,0 +1,62 @@
+package org.gfoo;
+
+import org.gfoo.dto.NewsBatchRequest;
+import org.gfoo.dto.NewsWriteRequest;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Variant of {@link NewsResource} running each request on its own virtual thread, enabled with
+ * {@code news.api.execution-model=virtual-threads}.
+ *
+ * <p>The blocking repository code is kept as is: a virtual thread waiting for MongoDB unmounts
+ * from its carrier, so the number of concurrent requests is no longer bounded by the worker
+ * pool. {@code VirtualThreadPinningTest} checks that the MongoDB calls do not pin carriers.</p>
+ */
+@Path("/news")
+@Produces(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
+@IfBuildProperty(name = "news.api.execution-model", stringValue = "virtual-threads")
+public class VirtualThreadNewsResource extends NewsResource {
+    
+    @GET
+    @Override
+    public Response getNews(@BeanParam NewsQueryParams params, @Context Request request) {
+        return super.getNews(params, request);
+    }
+    
+    @GET
+    @Path("/{id}")
+    @Override
+    public Response getNewsById(@PathParam("id") String id, @Context Request request) {
+        return super.getNewsById(id, request);
+    }
+    
+    @POST
+    @Path("/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Override
+    public Response getNewsBatch(NewsBatchRequest batch) {
+        return super.getNewsBatch(batch);
+    }
+    
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Override
+    public CompletionStage<Response> createNews(NewsWriteRequest news) {
+        return super.createNews(news);
+    }
+}
@@ -0,0 +1,24 @@
+package org.gfoo.dto;
+
+/**
+ * State and counters of an in-process cache since startup.
+ *
+ * @param name           Cache name
+ * @param enabled        Whether lookups go through the cache
+ * @param size           Estimated number of entries
+ * @param hitCount       Lookups served from the cache
+ * @param missCount      Lookups that had to load the value
+ * @param hitRate        Ratio of hits over lookups, 1 when there was no lookup
+ * @param evictionCount  Entries evicted by size or expiration
+ * @param evictionWeight Total weight of the evicted entries
+ */
+public record CacheReport(
+    String name,
+    boolean enabled,
+    long size,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount,
+    long evictionWeight
+) {}
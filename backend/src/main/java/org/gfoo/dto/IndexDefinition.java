@@ -0,0 +1,20 @@
+package org.gfoo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Description of a MongoDB index.
+ *
+ * @param name                    Index name
+ * @param keys                    Key pattern, in index order
+ * @param partialFilterExpression Filter of a partial index, omitted for full indexes
+ * @param languageOverride        Field holding the language of a text index, omitted for other indexes
+ */
+public record IndexDefinition(
+    String name,
+    Map<String, Object> keys,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Map<String, Object> partialFilterExpression,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String languageOverride
+) {}
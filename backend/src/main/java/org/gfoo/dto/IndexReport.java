@@ -0,0 +1,27 @@
+package org.gfoo.dto;
+
+import java.util.List;
+
+/**
+ * Comparison between the indexes declared in code and those present on a collection.
+ *
+ * @param collection Collection name
+ * @param declared   Indexes declared in code
+ * @param actual     Indexes present on the collection
+ * @param missing    Names of declared indexes absent from the collection
+ * @param mismatched Names of indexes present with a different definition than declared
+ * @param unexpected Names of indexes present on the collection but not declared
+ */
+public record IndexReport(
+    String collection,
+    List<IndexDefinition> declared,
+    List<IndexDefinition> actual,
+    List<String> missing,
+    List<String> mismatched,
+    List<String> unexpected
+) {
+
+    public boolean inSync() {
+        return missing.isEmpty() && mismatched.isEmpty() && unexpected.isEmpty();
+    }
+}
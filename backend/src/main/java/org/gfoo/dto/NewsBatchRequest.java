@@ -0,0 +1,10 @@
+package org.gfoo.dto;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /news/batch}.
+ *
+ * @param ids Ids of the news to return, in the order of the response
+ */
+public record NewsBatchRequest(List<String> ids) {}
@@ -0,0 +1,14 @@
+package org.gfoo.dto;
+
+import java.util.List;
+
+/**
+ * News returned by a batch lookup.
+ *
+ * @param data    News found, in the order of the requested ids, each id appearing once
+ * @param missing Requested ids matching no news, in request order
+ */
+public record NewsBatchResponse(
+    List<NewsResponse> data,
+    List<String> missing
+) {}
@@ -0,0 +1,25 @@
+package org.gfoo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk write.
+ *
+ * @param index Position of the item in the request, from 0
+ * @param id    Id of the created news, omitted when the item was rejected
+ * @param error Reason of the rejection, omitted when the news was created
+ */
+public record NewsBulkItemResult(
+    int index,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String id,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String error
+) {
+
+    public static NewsBulkItemResult created(int index, String id) {
+        return new NewsBulkItemResult(index, id, null);
+    }
+
+    public static NewsBulkItemResult rejected(int index, String error) {
+        return new NewsBulkItemResult(index, null, error);
+    }
+}
@@ -0,0 +1,18 @@
+package org.gfoo.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk write.
+ *
+ * @param received Number of items read from the request
+ * @param inserted Number of news created
+ * @param rejected Number of items rejected, invalid or refused by MongoDB
+ * @param results  Outcome of each item, in request order
+ */
+public record NewsBulkResponse(
+    int received,
+    int inserted,
+    int rejected,
+    List<NewsBulkItemResult> results
+) {}
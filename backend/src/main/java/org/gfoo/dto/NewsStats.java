@@ -0,0 +1,27 @@
+package org.gfoo.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts of the news selected by a filter.
+ *
+ * @param total    Number of news
+ * @param language Number of news by language, largest first
+ * @param type     Number of news by type ({@code news}/{@code event}), largest first
+ * @param status   Number of news by status, largest first
+ * @param interval Period of the buckets of {@code created} (day/week/month/year)
+ * @param created  Number of news by creation period, oldest first; periods without news are omitted
+ */
+public record NewsStats(
+    long total,
+    Map<String, Long> language,
+    Map<String, Long> type,
+    Map<String, Long> status,
+    String interval,
+    List<NewsStatsBucket> created
+) {
+
+    /** Key of the news without a value for a counted field. */
+    public static final String UNKNOWN = "unknown";
+}
@@ -0,0 +1,12 @@
+package org.gfoo.dto;
+
+/**
+ * Bucket of a histogram of news.
+ *
+ * @param period Period of the bucket, formatted after the interval of the histogram
+ * @param count  Number of news in the period
+ */
+public record NewsStatsBucket(
+    String period,
+    long count
+) {}
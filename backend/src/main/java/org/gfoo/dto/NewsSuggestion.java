@@ -0,0 +1,14 @@
+package org.gfoo.dto;
+
+/**
+ * Title proposed while typing a search.
+ *
+ * @param id       Identifier of the news (ObjectId as string)
+ * @param title    Title of the news
+ * @param language Language code (fr/en)
+ */
+public record NewsSuggestion(
+    String id,
+    String title,
+    String language
+) {}
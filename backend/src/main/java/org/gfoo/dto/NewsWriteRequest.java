@@ -0,0 +1,24 @@
+package org.gfoo.dto;
+
+import java.util.Date;
+
+/**
+ * News to create, as sent to {@code POST /news/bulk}.
+ *
+ * @param title       Title of the news or event, required
+ * @param catchLine   Brief description or tagline
+ * @param type        "news" or "event", required
+ * @param language    Two-letter language code (fr/en), required
+ * @param status      Status (usable/draft/archived/deleted), required
+ * @param user        Author, recorded as creator and last modifier
+ * @param dateCreated Creation date, the time of the import when absent
+ */
+public record NewsWriteRequest(
+    String title,
+    String catchLine,
+    String type,
+    String language,
+    String status,
+    String user,
+    Date dateCreated
+) {}
@@ -1,5 +1,7 @@
 package org.gfoo.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
@@ -13,11 +15,18 @@ import java.util.List;
  * @param data    List of items for the current page
  * @param page    Current page number (0-indexed)
  * @param size    Number of items per page
- * @param total   Total number of items across all pages
+ * @param total   Total number of items across all pages, omitted when not requested
+ * @param next    Cursor of the following page in keyset mode, omitted when absent
  */
 public record PagedResponse<T>(
     List<T> data,
     int page,
     int size,
-    long total
-) {}
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long total,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String next
+) {
+
+    public PagedResponse(List<T> data, int page, int size, long total) {
+        this(data, page, size, total, null);
+    }
+}
@@ -15,4 +15,9 @@ public class NewsDocument extends PanacheMongoEntity {
     public String userLastModified;
     public Date dateCreated;
     public Date dateLastModified;
+    /**
+     * Language in which the text index analyzes the news: {@code language} when MongoDB supports
+     * it, {@code none} otherwise. Set by {@code NewsRepository} on every write.
+     */
+    public String textLanguage;
 }
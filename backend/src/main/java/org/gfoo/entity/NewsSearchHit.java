@@ -0,0 +1,9 @@
+package org.gfoo.entity;
+
+/**
+ * {@link NewsSummary} matched by a full-text search, with its relevance.
+ */
+public class NewsSearchHit extends NewsSummary {
+    /** MongoDB text score: higher is more relevant. */
+    public double score;
+}
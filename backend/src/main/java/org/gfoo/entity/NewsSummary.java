@@ -0,0 +1,24 @@
+package org.gfoo.entity;
+
+import io.quarkus.mongodb.panache.common.ProjectionFor;
+import org.bson.types.ObjectId;
+import java.util.Date;
+
+/**
+ * Projection of {@link NewsDocument} restricted to the fields exposed by the API.
+ *
+ * <p>Reading this class instead of the entity makes MongoDB send, and the driver decode, only
+ * these fields. {@code dateCreated} is kept as it is the keyset pagination sort key, and
+ * {@code dateLastModified} for the {@code Last-Modified} header.</p>
+ */
+@ProjectionFor(NewsDocument.class)
+public class NewsSummary {
+    public ObjectId id;
+    public String title;
+    public String catchLine;
+    public Boolean isEvent;
+    public String language;
+    public String status;
+    public Date dateCreated;
+    public Date dateLastModified;
+}
@@ -0,0 +1,25 @@
+package org.gfoo.event;
+
+import org.gfoo.entity.NewsDocument;
+
+import java.util.List;
+
+/**
+ * CDI event fired after a batch of news was inserted with a single write, instead of one
+ * {@link NewsChangeEvent} per news.
+ *
+ * <p>Observers apply the batch at once: an in-memory structure copied on write is copied once
+ * per batch rather than once per news. Like the {@link NewsChangeEvent.Origin#LOCAL} events, it
+ * is fired by the instance that made the write only.</p>
+ *
+ * @param documents Documents inserted, those refused by MongoDB excluded
+ */
+public record NewsBatchInsertedEvent(List<NewsDocument> documents) {
+
+    /**
+     * Inserted events of the documents, one per news.
+     */
+    public List<NewsChangeEvent> events() {
+        return documents.stream().map(NewsChangeEvent::inserted).toList();
+    }
+}
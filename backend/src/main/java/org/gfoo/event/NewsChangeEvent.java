@@ -0,0 +1,95 @@
+package org.gfoo.event;
+
+import org.bson.BsonTimestamp;
+import org.bson.types.ObjectId;
+import org.gfoo.entity.NewsDocument;
+
+/**
+ * CDI event fired after a write to the news collection.
+ *
+ * <p>In-process derived state (counts, caches...) observes this event to stay in line with
+ * the collection without querying it again.</p>
+ *
+ * <p>Events are fired by {@code NewsRepository} right after its own writes
+ * ({@link Origin#LOCAL}) and, when {@code news.change-stream.enabled} is set, by
+ * {@code NewsChangeStreamListener} for every write seen on the collection, whichever instance
+ * made it ({@link Origin#CHANGE_STREAM}). A local write is then observed twice: idempotent
+ * consumers such as invalidations can react to both, incremental ones must pick one origin.</p>
+ *
+ * <p>News inserted by a single batch write are notified locally by one
+ * {@link NewsBatchInsertedEvent} instead.</p>
+ *
+ * @param type        Kind of write
+ * @param id          Identifier of the written document, {@code null} for {@link Type#CLEARED}
+ *                    and {@link Type#INVALIDATED}
+ * @param document    Document as written, {@code null} when unknown (e.g. delete by id)
+ * @param origin      Where the event comes from
+ * @param clusterTime Time of the write in the cluster, known for {@link Origin#CHANGE_STREAM}
+ *                    events only
+ */
+public record NewsChangeEvent(
+    Type type,
+    ObjectId id,
+    NewsDocument document,
+    Origin origin,
+    BsonTimestamp clusterTime
+) {
+
+    public NewsChangeEvent(Type type, ObjectId id, NewsDocument document, Origin origin) {
+        this(type, id, document, origin, null);
+    }
+
+    public enum Type {
+        INSERTED,
+        UPDATED,
+        DELETED,
+        CLEARED,
+        /**
+         * Writes may have been missed: any document may have changed.
+         */
+        INVALIDATED
+    }
+
+    public enum Origin {
+        LOCAL,
+        CHANGE_STREAM
+    }
+
+    public static NewsChangeEvent inserted(NewsDocument document) {
+        return new NewsChangeEvent(Type.INSERTED, document.id, document, Origin.LOCAL);
+    }
+
+    public static NewsChangeEvent updated(NewsDocument document) {
+        return new NewsChangeEvent(Type.UPDATED, document.id, document, Origin.LOCAL);
+    }
+
+    public static NewsChangeEvent deleted(NewsDocument document) {
+        return new NewsChangeEvent(Type.DELETED, document.id, document, Origin.LOCAL);
+    }
+
+    public static NewsChangeEvent deletedById(ObjectId id) {
+        return new NewsChangeEvent(Type.DELETED, id, null, Origin.LOCAL);
+    }
+
+    public static NewsChangeEvent cleared() {
+        return new NewsChangeEvent(Type.CLEARED, null, null, Origin.LOCAL);
+    }
+
+    public static NewsChangeEvent invalidated() {
+        return new NewsChangeEvent(Type.INVALIDATED, null, null, Origin.LOCAL);
+    }
+
+    /**
+     * Copy of this event with the given origin.
+     */
+    public NewsChangeEvent withOrigin(Origin origin) {
+        return new NewsChangeEvent(type, id, document, origin, clusterTime);
+    }
+
+    /**
+     * Copy of this event with the given cluster time.
+     */
+    public NewsChangeEvent withClusterTime(BsonTimestamp clusterTime) {
+        return new NewsChangeEvent(type, id, document, origin, clusterTime);
+    }
+}
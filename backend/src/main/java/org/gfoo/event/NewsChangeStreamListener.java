@@ -0,0 +1,231 @@
+package org.gfoo.event;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.BsonDocument;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.repository.ResumeTokenRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes every write to the news collection, whichever instance made it, as a
+ * {@link NewsChangeEvent} of origin {@link NewsChangeEvent.Origin#CHANGE_STREAM}.
+ *
+ * <p>Enabled with {@code news.change-stream.enabled} (requires a replica set). The listener
+ * follows a MongoDB change stream on a dedicated thread and checkpoints its resume token in
+ * {@link ResumeTokenRepository} every {@code news.change-stream.checkpoint-every} events and
+ * whenever the stream is idle, so that a restarted instance replays the writes it missed. Each
+ * instance saves its own token, under {@code news.change-stream.instance-id}; an idle stream
+ * refreshes it every {@link #TOKEN_REFRESH_INTERVAL}, so that the token of a live instance does
+ * not expire. Replayed events carry their cluster time, for consumers that seeded their state
+ * after those writes. When the token can no longer be resumed from (oplog rolled over,
+ * collection dropped or renamed) the stream restarts from the current time and an
+ * {@link NewsChangeEvent.Type#INVALIDATED} event tells consumers that they may have missed
+ * writes.</p>
+ */
+@ApplicationScoped
+public class NewsChangeStreamListener {
+    
+    /**
+     * Prefix of the resume token of each instance.
+     */
+    static final String LISTENER = "news";
+    
+    /**
+     * Server error raised when a resume token is no longer in the oplog.
+     */
+    static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    
+    /**
+     * Period after which an idle stream saves its token again.
+     */
+    static final Duration TOKEN_REFRESH_INTERVAL = Duration.ofHours(1);
+    
+    @Inject
+    NewsRepository newsRepository;
+    
+    @Inject
+    ResumeTokenRepository resumeTokenRepository;
+    
+    @Inject
+    Event<NewsChangeEvent> changeEvents;
+    
+    @ConfigProperty(name = "news.change-stream.enabled", defaultValue = "false")
+    boolean enabled;
+    
+    @ConfigProperty(name = "news.change-stream.checkpoint-every", defaultValue = "100")
+    int checkpointEvery;
+    
+    @ConfigProperty(name = "news.change-stream.retry-delay", defaultValue = "5s")
+    Duration retryDelay;
+    
+    @ConfigProperty(name = "news.change-stream.instance-id", defaultValue = "default")
+    String instanceId;
+    
+    private volatile boolean running;
+    
+    private volatile Thread thread;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("news-change-stream").daemon().start(this::run);
+    }
+    
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+    
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * Name under which the resume token of this instance is saved.
+     */
+    String listener() {
+        return LISTENER + ":" + instanceId;
+    }
+    
+    void run() {
+        while (running) {
+            Optional<BsonDocument> token = resumeTokenRepository.load(listener());
+            try {
+                follow(token.orElse(null));
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    Log.warnf("News change stream cannot resume from its saved token, restarting from now");
+                    restartFromNow();
+                } else {
+                    retryLater(e);
+                }
+            } catch (RuntimeException e) {
+                retryLater(e);
+            }
+        }
+    }
+    
+    /**
+     * Forgets the saved token, so that the stream restarts from the current time, and tells
+     * consumers that the writes made meanwhile were not seen.
+     */
+    private void restartFromNow() {
+        resumeTokenRepository.delete(listener());
+        changeEvents.fire(NewsChangeEvent.invalidated().withOrigin(NewsChangeEvent.Origin.CHANGE_STREAM));
+    }
+    
+    /**
+     * Follows the change stream until the listener stops or the stream is invalidated.
+     */
+    private void follow(BsonDocument token) {
+        ChangeStreamIterable<NewsDocument> stream = newsRepository.mongoCollection()
+            .watch()
+            .fullDocument(FullDocument.UPDATE_LOOKUP)
+            .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (token != null) {
+            stream = stream.resumeAfter(token);
+        }
+        try (MongoChangeStreamCursor<ChangeStreamDocument<NewsDocument>> cursor = stream.cursor()) {
+            Log.infof("News change stream started%s", token == null ? "" : " from saved token");
+            int pending = 0;
+            long checkpointed = System.nanoTime();
+            while (running) {
+                ChangeStreamDocument<NewsDocument> change = cursor.tryNext();
+                if (change != null) {
+                    if (change.getOperationType() == OperationType.INVALIDATE) {
+                        // The collection was dropped or renamed, the token cannot be resumed after
+                        restartFromNow();
+                        return;
+                    }
+                    toEvent(change).ifPresent(changeEvents::fire);
+                    pending++;
+                }
+                boolean refresh = change == null
+                    && System.nanoTime() - checkpointed > TOKEN_REFRESH_INTERVAL.toNanos();
+                if (pending >= checkpointEvery || (change == null && pending > 0) || refresh) {
+                    checkpoint(cursor.getResumeToken());
+                    pending = 0;
+                    checkpointed = System.nanoTime();
+                }
+            }
+            checkpoint(cursor.getResumeToken());
+        }
+    }
+    
+    private void checkpoint(BsonDocument token) {
+        if (token != null) {
+            resumeTokenRepository.save(listener(), token);
+        }
+    }
+    
+    private void retryLater(RuntimeException e) {
+        if (!running) {
+            return;
+        }
+        Log.warnf(e, "News change stream interrupted, retrying in %s", retryDelay);
+        try {
+            Thread.sleep(retryDelay.toMillis());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+    
+    static Optional<NewsChangeEvent> toEvent(ChangeStreamDocument<NewsDocument> change) {
+        ObjectId id = documentId(change);
+        NewsDocument document = change.getFullDocument();
+        NewsChangeEvent event;
+        switch (change.getOperationType()) {
+            case INSERT:
+                event = new NewsChangeEvent(NewsChangeEvent.Type.INSERTED, id, document, null);
+                break;
+            case UPDATE:
+            case REPLACE:
+                event = new NewsChangeEvent(NewsChangeEvent.Type.UPDATED, id, document, null);
+                break;
+            case DELETE:
+                event = NewsChangeEvent.deletedById(id);
+                break;
+            case DROP:
+            case DROP_DATABASE:
+            case RENAME:
+                event = NewsChangeEvent.cleared();
+                break;
+            default:
+                return Optional.empty();
+        }
+        return Optional.of(event.withOrigin(NewsChangeEvent.Origin.CHANGE_STREAM)
+            .withClusterTime(change.getClusterTime()));
+    }
+    
+    private static ObjectId documentId(ChangeStreamDocument<NewsDocument> change) {
+        BsonDocument key = change.getDocumentKey();
+        if (key == null || !key.isObjectId("_id")) {
+            return null;
+        }
+        return key.getObjectId("_id").getValue();
+    }
+}
@@ -4,7 +4,9 @@ import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.NewsWriteRequest;
 import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
 
 @Mapper(componentModel = "jakarta-cdi")
 public interface NewsMapper {
@@ -15,4 +17,18 @@ public interface NewsMapper {
     NewsResponse toResponse(NewsDocument document);
 
     List<NewsResponse> toResponseList(List<NewsDocument> documents);
+
+    @Mapping(target = "id", expression = "java(summary.id != null ? summary.id.toString() : null)")
+    @Mapping(target = "type",
+            expression = "java(summary.isEvent != null ? (summary.isEvent ? \"event\" : \"news\") : null)")
+    NewsResponse toSummaryResponse(NewsSummary summary);
+
+    List<NewsResponse> toSummaryResponseList(List<NewsSummary> summaries);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isEvent", expression = "java(request.type() != null ? \"event\".equals(request.type()) : null)")
+    @Mapping(target = "userCreated", source = "user")
+    @Mapping(target = "userLastModified", source = "user")
+    @Mapping(target = "dateLastModified", ignore = true)
+    NewsDocument toDocument(NewsWriteRequest request);
 }
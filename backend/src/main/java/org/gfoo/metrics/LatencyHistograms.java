@@ -0,0 +1,37 @@
+package org.gfoo.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+/**
+ * Publishes percentile histograms for the request, service, repository and MongoDB command
+ * timers, so that latency percentiles can be aggregated across instances by Prometheus.
+ */
+@Singleton
+public class LatencyHistograms {
+    
+    static final List<String> TIMERS = List.of(
+        "http.server.requests", "news.service", "news.repository", "mongodb.driver.commands");
+    
+    @Produces
+    @Singleton
+    public MeterFilter latencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() == Meter.Type.TIMER && TIMERS.contains(id.getName())) {
+                    return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package org.gfoo.metrics;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+import io.quarkus.mongodb.runtime.MongoClientCustomizer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers the MongoDB driver listeners on the clients.
+ *
+ * <ul>
+ *     <li>{@code mongodb.driver.commands}: duration of each command, tagged by command name and
+ *     status.</li>
+ *     <li>{@code mongodb.driver.pool.checkout}: time spent waiting for a pooled connection, tagged
+ *     by outcome. A growing checkout time with a flat command time points at the pool size
+ *     rather than at the database.</li>
+ * </ul>
+ *
+ * <p>The pool size gauges ({@code mongodb.driver.pool.*}) come from the extension itself, with
+ * {@code quarkus.mongodb.metrics.enabled}.</p>
+ */
+@ApplicationScoped
+public class MongoMetricsCustomizer implements MongoClientCustomizer {
+    
+    static final String CHECKOUT_TIMER = "mongodb.driver.pool.checkout";
+    
+    @Inject
+    MeterRegistry meterRegistry;
+    
+    @Override
+    public MongoClientSettings.Builder customize(MongoClientSettings.Builder builder) {
+        return builder
+            .addCommandListener(new MongoMetricsCommandListener(meterRegistry))
+            .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(new CheckoutListener(meterRegistry)));
+    }
+    
+    static final class CheckoutListener implements ConnectionPoolListener {
+        
+        private final MeterRegistry registry;
+        
+        private final Timer succeeded;
+        
+        CheckoutListener(MeterRegistry registry) {
+            this.registry = registry;
+            this.succeeded = timer(registry, "success");
+        }
+        
+        @Override
+        public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+            succeeded.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+        
+        @Override
+        public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+            timer(registry, event.getReason().name().toLowerCase(Locale.ROOT))
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+        
+        private static Timer timer(MeterRegistry registry, String outcome) {
+            return Timer.builder(CHECKOUT_TIMER)
+                .description("Time spent waiting for a pooled MongoDB connection")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+        }
+    }
+}
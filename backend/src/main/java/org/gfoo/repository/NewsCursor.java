@@ -0,0 +1,94 @@
+package org.gfoo.repository;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Position in the keyset ordering of the news collection.
+ *
+ * <p>News are ordered by {@code dateCreated} descending, then {@code _id} descending, so the pair
+ * uniquely identifies a document position. A cursor is handed to clients as an opaque URL-safe
+ * token and turned back into a range query, which lets MongoDB seek directly into the
+ * {@code {dateCreated: -1, _id: -1}} index instead of skipping over previous pages.</p>
+ *
+ * <p>Documents without {@code dateCreated} sort after all dated documents, as MongoDB orders
+ * {@code null} lowest.</p>
+ *
+ * @param dateCreated Creation date of the last document returned, may be {@code null}
+ * @param id          Identifier of the last document returned
+ */
+public record NewsCursor(Date dateCreated, ObjectId id) {
+
+    private static final String NULL_DATE = "-";
+    private static final char SEPARATOR = ':';
+
+    public NewsCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id cannot be null");
+        }
+    }
+
+    public static NewsCursor of(Date dateCreated, ObjectId id) {
+        return new NewsCursor(dateCreated, id);
+    }
+
+    public static NewsCursor of(NewsDocument document) {
+        return new NewsCursor(document.dateCreated, document.id);
+    }
+
+    public static NewsCursor of(NewsSummary summary) {
+        return new NewsCursor(summary.dateCreated, summary.id);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static NewsCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor cannot be empty");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String date = raw.substring(0, separator);
+            ObjectId id = new ObjectId(raw.substring(separator + 1));
+            return new NewsCursor(NULL_DATE.equals(date) ? null : new Date(Long.parseLong(date)), id);
+        } catch (IllegalArgumentException e) {
+            // Covers malformed Base64, ObjectId and number formats
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String date = dateCreated != null ? Long.toString(dateCreated.getTime()) : NULL_DATE;
+        String raw = date + SEPARATOR + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the range filter matching every document positioned after this cursor.
+     */
+    public Document toQuery() {
+        if (dateCreated == null) {
+            return new Document("dateCreated", null)
+                .append("_id", new Document("$lt", id));
+        }
+        return new Document("$or", List.of(
+            new Document("dateCreated", new Document("$lt", dateCreated)),
+            new Document("dateCreated", dateCreated).append("_id", new Document("$lt", id)),
+            new Document("dateCreated", null)
+        ));
+    }
+}
@@ -0,0 +1,75 @@
+package org.gfoo.repository;
+
+import org.bson.Document;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Criteria selecting a subset of the news collection.
+ *
+ * <p>A {@code null} criterion matches any value. Every combination of criteria is served by one
+ * of the indexes declared in {@link NewsIndexes}.</p>
+ *
+ * @param language    Language code (fr/en)
+ * @param status      Status (usable/deleted...)
+ * @param isEvent     {@code true} for events, {@code false} for news
+ * @param createdFrom Lower bound of {@code dateCreated}, inclusive
+ * @param createdTo   Upper bound of {@code dateCreated}, exclusive
+ */
+public record NewsFilter(
+    String language,
+    String status,
+    Boolean isEvent,
+    Date createdFrom,
+    Date createdTo
+) {
+
+    public static final NewsFilter ALL = new NewsFilter(null, null, null, null, null);
+
+    public NewsFilter(String language, String status, Boolean isEvent) {
+        this(language, status, isEvent, null, null);
+    }
+
+    public boolean isEmpty() {
+        return language == null && status == null && isEvent == null && !hasDateRange();
+    }
+
+    public boolean hasDateRange() {
+        return createdFrom != null || createdTo != null;
+    }
+
+    /**
+     * Tells whether a document with the given field values is selected by the language, status
+     * and type criteria of this filter; the date range is not considered.
+     */
+    public boolean matches(String language, String status, Boolean isEvent) {
+        return (this.language == null || this.language.equals(language))
+            && (this.status == null || this.status.equals(status))
+            && (this.isEvent == null || Objects.equals(this.isEvent, isEvent));
+    }
+
+    public Document toQuery() {
+        Document query = new Document();
+        if (status != null) {
+            query.append("status", status);
+        }
+        if (language != null) {
+            query.append("language", language);
+        }
+        if (isEvent != null) {
+            query.append("isEvent", isEvent);
+        }
+        if (hasDateRange()) {
+            Document range = new Document();
+            if (createdFrom != null) {
+                range.append("$gte", createdFrom);
+            }
+            if (createdTo != null) {
+                range.append("$lt", createdTo);
+            }
+            query.append("dateCreated", range);
+        }
+        return query;
+    }
+}
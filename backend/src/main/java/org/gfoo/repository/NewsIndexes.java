@@ -0,0 +1,89 @@
+package org.gfoo.repository;
+
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import org.bson.Document;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Indexes of the news collection, declared in code so that every environment gets the same set.
+ *
+ * <p>Index names are part of the declaration: drift between declared and actual indexes is
+ * detected by name, then by key pattern and partial filter.</p>
+ */
+public final class NewsIndexes {
+
+    /** Equality filters on status, language and type, then creation date ordering. */
+    public static final String FILTER = "news_filter";
+
+    /** Language-only lookups ({@code findByLanguage}), by creation date. */
+    public static final String LANGUAGE = "news_language";
+
+    /** Keyset pagination order over the whole collection. */
+    public static final String KEYSET = "news_keyset";
+
+    /** Keyset order restricted to usable news ({@code findUsableNews}), which most reads target. */
+    public static final String USABLE = "news_usable";
+
+    /**
+     * Full-text search on title and catchLine ({@code GET /news/search}). Each document is analyzed
+     * in the language of its {@code textLanguage} field; documents without one are not stemmed.
+     */
+    public static final String TEXT = "news_text";
+
+    /**
+     * Field overriding the language of the text index. A dedicated field rather than
+     * {@code language}: MongoDB refuses to write a document whose override is not a language it
+     * supports, and any language can be stored.
+     */
+    public static final String TEXT_LANGUAGE = "textLanguage";
+
+    /** Text analysis without stop words nor stemming. */
+    public static final String NO_ANALYSIS = "none";
+
+    /** Languages of the MongoDB text search, by ISO 639-1 code. */
+    public static final Set<String> TEXT_LANGUAGES = Set.of(
+        "da", "de", "en", "es", "fi", "fr", "hu", "it", "nb", "nl", "pt", "ro", "ru", "sv", "tr");
+
+    private NewsIndexes() {
+    }
+
+    public static List<IndexModel> declared() {
+        return List.of(
+            new IndexModel(
+                new Document("status", 1).append("language", 1).append("isEvent", 1)
+                    .append("dateCreated", -1).append("_id", -1),
+                options(FILTER)),
+            new IndexModel(
+                new Document("language", 1).append("dateCreated", -1).append("_id", -1),
+                options(LANGUAGE)),
+            new IndexModel(
+                new Document("dateCreated", -1).append("_id", -1),
+                options(KEYSET)),
+            // The constant status key keeps the pattern distinct from the keyset index
+            new IndexModel(
+                new Document("status", 1).append("dateCreated", -1).append("_id", -1),
+                options(USABLE).partialFilterExpression(new Document("status", "usable"))),
+            // Text fields in alphabetical order, as MongoDB lists them back
+            new IndexModel(
+                new Document("catchLine", "text").append("title", "text"),
+                options(TEXT)
+                    .weights(new Document("catchLine", 1).append("title", 3))
+                    .defaultLanguage("none")
+                    .languageOverride(TEXT_LANGUAGE))
+        );
+    }
+
+    /**
+     * Value of {@link #TEXT_LANGUAGE} for a news in the given language.
+     */
+    public static String textLanguage(String language) {
+        return TEXT_LANGUAGES.contains(language) ? language : NO_ANALYSIS;
+    }
+
+    private static IndexOptions options(String name) {
+        return new IndexOptions().name(name).background(true);
+    }
+}
@@ -1,28 +1,553 @@
 package org.gfoo.repository;
 
+import org.gfoo.dto.NewsResponse;
 import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSearchHit;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import io.quarkus.mongodb.panache.PanacheMongoRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Repository of the news collection.
+ *
+ * <p>Writes go through the Panache operations and are followed by a {@link NewsChangeEvent},
+ * so that in-process derived state stays in line with the collection.</p>
+ */
 @ApplicationScoped
+@Timed("news.repository")
 public class NewsRepository implements PanacheMongoRepository<NewsDocument> {
     
+    @Inject
+    Event<NewsChangeEvent> changeEvents;
+    
+    @Inject
+    Event<NewsBatchInsertedEvent> batchEvents;
+    
+    /**
+     * Keyset ordering, backed by the {@code {dateCreated: -1, _id: -1}} index.
+     */
+    static final Document KEYSET_SORT = new Document("dateCreated", -1).append("_id", -1);
+    
+    /**
+     * Fields of {@link NewsSummary}, for queries run on the driver collection.
+     */
+    static final Bson SUMMARY_PROJECTION = Projections.include(
+        "title", "catchLine", "isEvent", "language", "status", "dateCreated", "dateLastModified");
+    
+    /**
+     * Fields of {@link NewsResponse}, decoded by {@link NewsResponseCodec}.
+     */
+    static final Bson RESPONSE_PROJECTION = Projections.include(
+        "title", "catchLine", "isEvent", "language", "status");
+    
+    /**
+     * Projection of the search results: the {@link NewsSummary} fields and the text score.
+     */
+    static final Bson SEARCH_PROJECTION = Projections.fields(SUMMARY_PROJECTION, Projections.metaTextScore("score"));
+    
+    /**
+     * Relevance order of the search results, most recent first among equal scores.
+     */
+    static final Bson SEARCH_SORT = Sorts.orderBy(Sorts.metaTextScore("score"), KEYSET_SORT);
+    
+    /**
+     * Returns all the news of a language, loaded at once: for small result sets only, large ones
+     * being read with {@link #streamByLanguage} or one page at a time.
+     */
     public List<NewsDocument> findByLanguage(String language) {
+        return list("language", requireLanguage(language));
+    }
+    
+    /**
+     * Returns the given page of the news of a language, in keyset order.
+     */
+    public List<NewsDocument> findByLanguage(String language, int page, int size) {
+        return findPage(new NewsFilter(requireLanguage(language), null, null), page, size);
+    }
+    
+    /**
+     * Returns up to {@code limit} news of a language positioned after the cursor in keyset order,
+     * {@code null} starting from the most recent; the next cursor is the one of the last news.
+     */
+    public List<NewsDocument> findByLanguageAfter(String language, NewsCursor after, int limit) {
+        return findAfter(new NewsFilter(requireLanguage(language), null, null), after, limit);
+    }
+    
+    /**
+     * Streams the news of a language in keyset order, read from a server cursor
+     * {@code batchSize} at a time. The stream must be closed to release the cursor.
+     */
+    public Stream<NewsDocument> streamByLanguage(String language, int batchSize) {
+        return streamDocuments(new NewsFilter(requireLanguage(language), null, null), batchSize);
+    }
+    
+    /**
+     * Returns all the news of a status, loaded at once: for small result sets only, large ones
+     * being read with {@link #streamByStatus} or one page at a time.
+     */
+    public List<NewsDocument> findByStatus(String status) {
+        return list("status", requireStatus(status));
+    }
+    
+    /**
+     * Returns the given page of the news of a status, in keyset order.
+     */
+    public List<NewsDocument> findByStatus(String status, int page, int size) {
+        return findPage(new NewsFilter(null, requireStatus(status), null), page, size);
+    }
+    
+    /**
+     * Returns up to {@code limit} news of a status positioned after the cursor in keyset order.
+     *
+     * @see #findByLanguageAfter(String, NewsCursor, int)
+     */
+    public List<NewsDocument> findByStatusAfter(String status, NewsCursor after, int limit) {
+        return findAfter(new NewsFilter(null, requireStatus(status), null), after, limit);
+    }
+    
+    /**
+     * Streams the news of a status in keyset order.
+     *
+     * @see #streamByLanguage(String, int)
+     */
+    public Stream<NewsDocument> streamByStatus(String status, int batchSize) {
+        return streamDocuments(new NewsFilter(null, requireStatus(status), null), batchSize);
+    }
+    
+    /**
+     * Returns all the usable news, loaded at once: for small result sets only, large ones being
+     * read with {@link #streamUsableNews} or one page at a time.
+     */
+    public List<NewsDocument> findUsableNews() {
+        return list("status", "usable");
+    }
+    
+    /**
+     * Returns the given page of the usable news, in keyset order.
+     */
+    public List<NewsDocument> findUsableNews(int page, int size) {
+        return findByStatus("usable", page, size);
+    }
+    
+    /**
+     * Returns up to {@code limit} usable news positioned after the cursor in keyset order.
+     *
+     * @see #findByLanguageAfter(String, NewsCursor, int)
+     */
+    public List<NewsDocument> findUsableNewsAfter(NewsCursor after, int limit) {
+        return findByStatusAfter("usable", after, limit);
+    }
+    
+    /**
+     * Streams the usable news in keyset order.
+     *
+     * @see #streamByLanguage(String, int)
+     */
+    public Stream<NewsDocument> streamUsableNews(int batchSize) {
+        return streamByStatus("usable", batchSize);
+    }
+    
+    private static String requireLanguage(String language) {
         if (language == null) {
             throw new IllegalArgumentException("Language cannot be null");
         }
-        return list("language", language);
+        return language;
     }
     
-    public List<NewsDocument> findByStatus(String status) {
+    private static String requireStatus(String status) {
         if (status == null) {
             throw new IllegalArgumentException("Status cannot be null");
         }
-        return list("status", status);
+        return status;
     }
     
-    public List<NewsDocument> findUsableNews() {
-        return list("status", "usable");
+    /**
+     * Keyset order is served by {@code news_language} for a language, {@code news_usable} for the
+     * usable news, and {@code news_keyset} with a filter for the other statuses: no page or stream
+     * is sorted in memory.
+     */
+    private List<NewsDocument> findPage(NewsFilter filter, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be >= 0");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be > 0");
+        }
+        return find(filter.toQuery(), KEYSET_SORT)
+            .page(page, size)
+            .list();
+    }
+    
+    private List<NewsDocument> findAfter(NewsFilter filter, NewsCursor after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be > 0");
+        }
+        return find(keysetQuery(filter, after), KEYSET_SORT)
+            .page(0, limit)
+            .list();
+    }
+    
+    private Stream<NewsDocument> streamDocuments(NewsFilter filter, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be > 0");
+        }
+        MongoCursor<NewsDocument> cursor = mongoCollection()
+            .find(filter.toQuery())
+            .sort(KEYSET_SORT)
+            .batchSize(batchSize)
+            .cursor();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+            .onClose(cursor::close);
+    }
+    
+    /**
+     * Returns the given page of the news selected by the filter, in keyset order and projected
+     * on the fields exposed by the API.
+     */
+    public List<NewsSummary> findSummaries(NewsFilter filter, int page, int size) {
+        return find(filter.toQuery(), KEYSET_SORT)
+            .project(NewsSummary.class)
+            .page(page, size)
+            .list();
+    }
+    
+    /**
+     * Returns up to {@code limit} news selected by the filter and positioned after the given
+     * cursor in keyset order, projected on the fields exposed by the API.
+     *
+     * @param filter criteria of the news to return
+     * @param after  cursor of the last document already seen, or {@code null} to start from the top
+     * @param limit  maximum number of documents to return
+     */
+    public List<NewsSummary> findSummariesAfter(NewsFilter filter, NewsCursor after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be > 0");
+        }
+        return find(keysetQuery(filter, after), KEYSET_SORT)
+            .project(NewsSummary.class)
+            .page(0, limit)
+            .list();
+    }
+    
+    /**
+     * Streams the news selected by the filter, projected on the fields exposed by the API.
+     *
+     * <p>Documents are read from a server cursor, {@code batchSize} at a time, so memory use does
+     * not depend on the number of results. The stream must be closed to release the cursor.</p>
+     */
+    public Stream<NewsSummary> streamSummaries(NewsFilter filter, int batchSize) {
+        return streamSummaries(filter, null, null, batchSize);
+    }
+    
+    /**
+     * Streams the news selected by the filter whose id is at least {@code from} and less than
+     * {@code to}, a {@code null} bound being open. Disjoint ranges can be read concurrently to
+     * scan the collection in parallel.
+     *
+     * @see #streamSummaries(NewsFilter, int)
+     */
+    public Stream<NewsSummary> streamSummaries(NewsFilter filter, ObjectId from, ObjectId to, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be > 0");
+        }
+        Document query = filter.toQuery();
+        if (from != null || to != null) {
+            Document range = new Document();
+            if (from != null) {
+                range.append("$gte", from);
+            }
+            if (to != null) {
+                range.append("$lt", to);
+            }
+            query.append("_id", range);
+        }
+        MongoCursor<NewsSummary> cursor = mongoCollection()
+            .find(query, NewsSummary.class)
+            .projection(SUMMARY_PROJECTION)
+            .batchSize(batchSize)
+            .cursor();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+            .onClose(cursor::close);
+    }
+    
+    /**
+     * Returns the given page of the news selected by the filter, in keyset order, decoded
+     * straight into responses by {@link NewsResponseCodec}.
+     *
+     * @throws IllegalArgumentException if the offset of the page does not fit in an int
+     */
+    public List<NewsResponse> findResponses(NewsFilter filter, int page, int size) {
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page offset must not exceed " + Integer.MAX_VALUE);
+        }
+        return responseCollection()
+            .find(filter.toQuery())
+            .projection(RESPONSE_PROJECTION)
+            .sort(KEYSET_SORT)
+            .skip((int) offset)
+            .limit(size)
+            .into(new ArrayList<>());
+    }
+    
+    /**
+     * Streams the news selected by the filter, decoded straight into responses by
+     * {@link NewsResponseCodec}. The stream must be closed to release the cursor.
+     *
+     * @see #streamSummaries(NewsFilter, int)
+     */
+    public Stream<NewsResponse> streamResponses(NewsFilter filter, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be > 0");
+        }
+        MongoCursor<NewsResponse> cursor = responseCollection()
+            .find(filter.toQuery())
+            .projection(RESPONSE_PROJECTION)
+            .batchSize(batchSize)
+            .cursor();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+            .onClose(cursor::close);
+    }
+    
+    private MongoCollection<NewsResponse> responseCollection() {
+        return mongoCollection()
+            .withCodecRegistry(NewsResponseCodec.REGISTRY)
+            .withDocumentClass(NewsResponse.class);
+    }
+    
+    /**
+     * Returns the smallest, or largest, id of the news selected by the filter.
+     */
+    public Optional<ObjectId> findBoundaryId(NewsFilter filter, boolean largest) {
+        Document first = mongoCollection().find(filter.toQuery(), Document.class)
+            .projection(Projections.include("_id"))
+            .sort(new Document("_id", largest ? -1 : 1))
+            .limit(1)
+            .first();
+        return Optional.ofNullable(first).map(document -> document.getObjectId("_id"));
+    }
+    
+    public Optional<NewsSummary> findSummaryById(ObjectId id) {
+        return find("_id", id)
+            .project(NewsSummary.class)
+            .firstResultOptional();
+    }
+    
+    /**
+     * Returns the news with the given ids, in no particular order, with a single {@code $in}
+     * query on {@code _id}. Unknown ids are skipped.
+     */
+    public List<NewsSummary> findSummariesByIds(Collection<ObjectId> ids) {
+        return find(new Document("_id", new Document("$in", ids)))
+            .project(NewsSummary.class)
+            .list();
+    }
+    
+    /**
+     * Returns the news matching the text search and the query, most relevant first.
+     *
+     * @param text         terms and phrases, in the {@code $text} syntax
+     * @param textLanguage language of the analysis of the terms ({@code none} for no stemming),
+     *                     which must be the one the matching documents were indexed in
+     * @param query        additional criteria
+     */
+    public List<NewsSearchHit> search(String text, String textLanguage, Document query, int skip, int limit) {
+        return mongoCollection().find(searchQuery(text, textLanguage, query), NewsSearchHit.class)
+            .projection(SEARCH_PROJECTION)
+            .sort(SEARCH_SORT)
+            .skip(skip)
+            .limit(limit)
+            .into(new ArrayList<>());
+    }
+    
+    /**
+     * Counts the news matching the text search and the query.
+     */
+    public long countSearch(String text, String textLanguage, Document query) {
+        return mongoCollection().countDocuments(searchQuery(text, textLanguage, query));
+    }
+    
+    static Document searchQuery(String text, String textLanguage, Document query) {
+        return new Document(query)
+            .append("$text", new Document("$search", text).append("$language", textLanguage));
+    }
+    
+    static Document keysetQuery(NewsFilter filter, NewsCursor after) {
+        Document query = filter.toQuery();
+        if (after == null) {
+            return query;
+        }
+        if (query.isEmpty()) {
+            return after.toQuery();
+        }
+        return new Document("$and", List.of(query, after.toQuery()));
+    }
+    
+    @Override
+    public void persist(NewsDocument entity) {
+        analyzed(entity);
+        PanacheMongoRepository.super.persist(entity);
+        changeEvents.fire(NewsChangeEvent.inserted(entity));
+    }
+    
+    /**
+     * Inserts the entities and fires a single {@link NewsBatchInsertedEvent} for them.
+     */
+    @Override
+    public void persist(Iterable<NewsDocument> entities) {
+        entities.forEach(NewsRepository::analyzed);
+        PanacheMongoRepository.super.persist(entities);
+        List<NewsDocument> inserted = new ArrayList<>();
+        entities.forEach(inserted::add);
+        if (!inserted.isEmpty()) {
+            batchEvents.fire(new NewsBatchInsertedEvent(inserted));
+        }
+    }
+    
+    @Override
+    public void persist(NewsDocument firstEntity, NewsDocument... entities) {
+        List<NewsDocument> all = new ArrayList<>(entities.length + 1);
+        all.add(firstEntity);
+        all.addAll(List.of(entities));
+        persist(all);
+    }
+    
+    @Override
+    public void persist(Stream<NewsDocument> entities) {
+        persist(entities.toList());
+    }
+    
+    /**
+     * Inserts the documents with one unordered {@code insertMany}: a document refused by MongoDB
+     * does not stop the others. Documents without id get one before the write.
+     *
+     * <p>With {@code notify}, a single {@link NewsBatchInsertedEvent} is fired for the inserted
+     * documents, which the observers apply at once. Otherwise
+     * none is, and the caller fires a single {@link #invalidate()} once done, which is cheaper
+     * for the observers than thousands of incremental updates.</p>
+     *
+     * @return error messages of the refused documents, by position in the list
+     */
+    public Map<Integer, String> insertUnordered(List<NewsDocument> documents, boolean notify) {
+        if (documents.isEmpty()) {
+            return Map.of();
+        }
+        documents.forEach(document -> {
+            if (document.id == null) {
+                document.id = new ObjectId();
+            }
+            analyzed(document);
+        });
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            mongoCollection().insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                throw e;
+            }
+            e.getWriteErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+        }
+        if (notify && errors.size() < documents.size()) {
+            List<NewsDocument> inserted = new ArrayList<>(documents.size() - errors.size());
+            for (int i = 0; i < documents.size(); i++) {
+                if (!errors.containsKey(i)) {
+                    inserted.add(documents.get(i));
+                }
+            }
+            batchEvents.fire(new NewsBatchInsertedEvent(inserted));
+        }
+        return errors;
+    }
+    
+    /**
+     * Sets the language of the text analysis of the document from its language.
+     */
+    private static void analyzed(NewsDocument document) {
+        document.textLanguage = NewsIndexes.textLanguage(document.language);
+    }
+    
+    /**
+     * Sets the language of the text analysis of the documents written without it, by this
+     * application before it was introduced or by other writers.
+     *
+     * @return number of documents updated
+     */
+    public long backfillTextLanguage() {
+        Document textLanguage = new Document("$cond", List.of(
+            new Document("$in", List.of("$language", List.copyOf(NewsIndexes.TEXT_LANGUAGES))),
+            "$language",
+            NewsIndexes.NO_ANALYSIS));
+        return mongoCollection().updateMany(
+            new Document(NewsIndexes.TEXT_LANGUAGE, null),
+            List.of(new Document("$set", new Document(NewsIndexes.TEXT_LANGUAGE, textLanguage))))
+            .getModifiedCount();
+    }
+    
+    /**
+     * Tells the observers of the news that any document may have changed, after writes made
+     * without notification.
+     */
+    public void invalidate() {
+        changeEvents.fire(NewsChangeEvent.invalidated());
+    }
+    
+    @Override
+    public void update(NewsDocument entity) {
+        analyzed(entity);
+        PanacheMongoRepository.super.update(entity);
+        changeEvents.fire(NewsChangeEvent.updated(entity));
+    }
+    
+    @Override
+    public void persistOrUpdate(NewsDocument entity) {
+        analyzed(entity);
+        PanacheMongoRepository.super.persistOrUpdate(entity);
+        changeEvents.fire(NewsChangeEvent.updated(entity));
+    }
+    
+    @Override
+    public void delete(NewsDocument entity) {
+        PanacheMongoRepository.super.delete(entity);
+        changeEvents.fire(NewsChangeEvent.deleted(entity));
+    }
+    
+    @Override
+    public boolean deleteById(ObjectId id) {
+        boolean deleted = mongoCollection().deleteOne(new Document("_id", id)).getDeletedCount() > 0;
+        if (deleted) {
+            changeEvents.fire(NewsChangeEvent.deletedById(id));
+        }
+        return deleted;
+    }
+    
+    @Override
+    public long deleteAll() {
+        long deleted = mongoCollection().deleteMany(new Document()).getDeletedCount();
+        changeEvents.fire(NewsChangeEvent.cleared());
+        return deleted;
     }
 }
@@ -0,0 +1,103 @@
+package org.gfoo.repository;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.gfoo.dto.NewsResponse;
+
+/**
+ * Decodes the documents of the news collection straight into {@link NewsResponse}.
+ *
+ * <p>Reading a {@code NewsSummary} and mapping it allocates two objects per document, and the POJO
+ * codec sets its fields by reflection. This codec reads the BSON fields in a single pass, derives
+ * {@code type} from {@code isEvent} on the fly and skips the fields the response does not expose,
+ * so that it can also decode whole documents.</p>
+ */
+public final class NewsResponseCodec implements Codec<NewsResponse> {
+
+    /**
+     * This codec, then the default codecs of the driver for the filters and sorts of the queries.
+     */
+    public static final CodecRegistry REGISTRY = CodecRegistries.fromRegistries(
+        CodecRegistries.fromCodecs(new NewsResponseCodec()),
+        MongoClientSettings.getDefaultCodecRegistry());
+
+    @Override
+    public NewsResponse decode(BsonReader reader, DecoderContext decoderContext) {
+        String id = null;
+        String title = null;
+        String type = null;
+        String catchLine = null;
+        String language = null;
+        String status = null;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> id = reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                    ? reader.readObjectId().toHexString()
+                    : readString(reader);
+                case "title" -> title = readString(reader);
+                case "isEvent" -> type = readType(reader);
+                case "catchLine" -> catchLine = readString(reader);
+                case "language" -> language = readString(reader);
+                case "status" -> status = readString(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new NewsResponse(id, title, type, catchLine, language, status);
+    }
+
+    private static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    private static String readType(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readBoolean() ? "event" : "news";
+    }
+
+    /**
+     * Writes the fields of the response as a news document, {@code type} as {@code isEvent}.
+     */
+    @Override
+    public void encode(BsonWriter writer, NewsResponse value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (value.id() != null) {
+            writer.writeObjectId("_id", new ObjectId(value.id()));
+        }
+        writeString(writer, "title", value.title());
+        if (value.type() != null) {
+            writer.writeBoolean("isEvent", "event".equals(value.type()));
+        }
+        writeString(writer, "catchLine", value.catchLine());
+        writeString(writer, "language", value.language());
+        writeString(writer, "status", value.status());
+        writer.writeEndDocument();
+    }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    @Override
+    public Class<NewsResponse> getEncoderClass() {
+        return NewsResponse.class;
+    }
+}
@@ -0,0 +1,85 @@
+package org.gfoo.repository;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.panache.reactive.ReactivePanacheMongoRepository;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Non-blocking read access to the news collection, for the reactive API.
+ *
+ * <p>Queries are the same as the {@link NewsRepository} ones, backed by the same indexes, but
+ * run on the reactive MongoDB client and complete on the Vert.x event loop. Writes stay on
+ * {@link NewsRepository}, which publishes the change events.</p>
+ */
+@ApplicationScoped
+@Timed("news.repository")
+public class ReactiveNewsRepository implements ReactivePanacheMongoRepository<NewsDocument> {
+    
+    /**
+     * Returns the given page of the news selected by the filter, in keyset order and projected
+     * on the fields exposed by the API.
+     */
+    public Uni<List<NewsSummary>> findSummaries(NewsFilter filter, int page, int size) {
+        return find(filter.toQuery(), NewsRepository.KEYSET_SORT)
+            .project(NewsSummary.class)
+            .page(page, size)
+            .list();
+    }
+    
+    /**
+     * Returns up to {@code limit} news selected by the filter and positioned after the given
+     * cursor in keyset order, projected on the fields exposed by the API.
+     *
+     * @see NewsRepository#findSummariesAfter(NewsFilter, NewsCursor, int)
+     */
+    public Uni<List<NewsSummary>> findSummariesAfter(NewsFilter filter, NewsCursor after, int limit) {
+        if (limit <= 0) {
+            return Uni.createFrom().failure(new IllegalArgumentException("Limit must be > 0"));
+        }
+        return find(NewsRepository.keysetQuery(filter, after), NewsRepository.KEYSET_SORT)
+            .project(NewsSummary.class)
+            .page(0, limit)
+            .list();
+    }
+    
+    /**
+     * Streams the news selected by the filter, projected on the fields exposed by the API and
+     * read {@code batchSize} at a time. Items are requested from the server as the subscriber
+     * consumes them.
+     */
+    public Multi<NewsSummary> streamSummaries(NewsFilter filter, int batchSize) {
+        if (batchSize <= 0) {
+            return Multi.createFrom().failure(new IllegalArgumentException("Batch size must be > 0"));
+        }
+        FindOptions options = new FindOptions()
+            .filter(filter.toQuery())
+            .projection(NewsRepository.SUMMARY_PROJECTION)
+            .batchSize(batchSize);
+        return mongoCollection().find(NewsSummary.class, options);
+    }
+    
+    public Uni<NewsSummary> findSummaryById(ObjectId id) {
+        return find("_id", id)
+            .project(NewsSummary.class)
+            .firstResult();
+    }
+    
+    /**
+     * Returns the news with the given ids, in no particular order, with a single {@code $in} query.
+     */
+    public Uni<List<NewsSummary>> findSummariesByIds(Collection<ObjectId> ids) {
+        return find(new Document("_id", new Document("$in", ids)))
+            .project(NewsSummary.class)
+            .list();
+    }
+}
@@ -0,0 +1,96 @@
+package org.gfoo.repository;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists change stream resume tokens, one per named listener, so that a listener resumes
+ * where it stopped after a restart.
+ *
+ * <p>Tokens not saved for {@code news.change-stream.token-ttl} are removed by a TTL index, so
+ * that the tokens of instances that are gone for good (pods named after their host) do not
+ * pile up.</p>
+ */
+@ApplicationScoped
+public class ResumeTokenRepository {
+    
+    static final String COLLECTION = "change_stream_tokens";
+    
+    static final String TTL_INDEX = "token_ttl";
+    
+    /**
+     * Server error raised when an index exists with other options.
+     */
+    private static final int INDEX_OPTIONS_CONFLICT = 85;
+    
+    @Inject
+    MongoClient mongoClient;
+    
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String database;
+    
+    @ConfigProperty(name = "news.change-stream.token-ttl", defaultValue = "7d")
+    Duration tokenTtl;
+    
+    private volatile boolean indexed;
+    
+    public Optional<BsonDocument> load(String listener) {
+        BsonDocument saved = collection().find(Filters.eq("_id", listener)).first();
+        if (saved == null || !saved.isDocument("token")) {
+            return Optional.empty();
+        }
+        return Optional.of(saved.getDocument("token"));
+    }
+    
+    public void save(String listener, BsonDocument token) {
+        if (!indexed) {
+            createTtlIndex(tokenTtl);
+            indexed = true;
+        }
+        BsonDocument saved = new BsonDocument("_id", new BsonString(listener))
+            .append("token", token)
+            .append("dateLastModified", new BsonDateTime(System.currentTimeMillis()));
+        collection().replaceOne(Filters.eq("_id", listener), saved, new ReplaceOptions().upsert(true));
+    }
+    
+    public void delete(String listener) {
+        collection().deleteOne(Filters.eq("_id", listener));
+    }
+    
+    /**
+     * Creates the TTL index on the date of the last save, or updates its expiration when it
+     * was created with another one.
+     */
+    void createTtlIndex(Duration ttl) {
+        long seconds = ttl.toSeconds();
+        try {
+            collection().createIndex(new Document("dateLastModified", 1),
+                new IndexOptions().name(TTL_INDEX).expireAfter(seconds, TimeUnit.SECONDS));
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != INDEX_OPTIONS_CONFLICT) {
+                throw e;
+            }
+            mongoClient.getDatabase(database).runCommand(new Document("collMod", COLLECTION)
+                .append("index", new Document("name", TTL_INDEX).append("expireAfterSeconds", seconds)));
+        }
+    }
+    
+    private MongoCollection<BsonDocument> collection() {
+        return mongoClient.getDatabase(database).getCollection(COLLECTION, BsonDocument.class);
+    }
+}
@@ -0,0 +1,40 @@
+package org.gfoo.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Terms of a document, made of weighted fields, with their weighted frequencies.
+ */
+public final class AnalyzedText {
+    
+    private final Map<String, Integer> frequencies = new HashMap<>();
+    
+    private int length;
+    
+    /**
+     * Adds the terms of a field, each occurrence counting {@code weight} times.
+     */
+    public AnalyzedText add(List<String> terms, int weight) {
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        length += terms.size() * weight;
+        return this;
+    }
+    
+    /**
+     * Weighted frequency of each distinct term.
+     */
+    public Map<String, Integer> frequencies() {
+        return frequencies;
+    }
+    
+    /**
+     * Weighted number of terms, the document length of BM25.
+     */
+    public int length() {
+        return length;
+    }
+}
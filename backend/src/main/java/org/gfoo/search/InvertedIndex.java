@@ -0,0 +1,280 @@
+package org.gfoo.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index ranking documents by BM25.
+ *
+ * <p>Each document gets the next integer id and its terms are appended to their
+ * {@link PostingList}s. Removed documents are only marked as such: their postings stay until the
+ * index is rebuilt, {@link #deleted()} telling how many there are.</p>
+ *
+ * <p>Writes are serialized; searches run concurrently with them without locking. A search sees
+ * the documents added before it started, postings of later documents being ignored, and may or
+ * may not see the removals made while it runs.</p>
+ *
+ * @param <T> item returned for each document
+ */
+public final class InvertedIndex<T> {
+    
+    static final double K1 = 1.2;
+    
+    static final double B = 0.75;
+    
+    private final ConcurrentHashMap<String, PostingList> postings = new ConcurrentHashMap<>();
+    
+    private final Comparator<? super T> tieBreak;
+    
+    private volatile State state = new State(new Object[64], new int[64], 0, 0, 0);
+    
+    /**
+     * Items and lengths by document id, of which the first {@code count} are visible. A removed
+     * document has a {@code null} item.
+     */
+    private record State(Object[] items, int[] lengths, int count, int live, long totalLength) {}
+    
+    /**
+     * @param tieBreak order of the documents with equal scores
+     */
+    public InvertedIndex(Comparator<? super T> tieBreak) {
+        this.tieBreak = tieBreak;
+    }
+    
+    /**
+     * Indexes a document.
+     *
+     * @return id of the document
+     */
+    public synchronized int add(T item, AnalyzedText text) {
+        State current = state;
+        int doc = current.count();
+        Object[] items = current.items();
+        int[] lengths = current.lengths();
+        if (doc == items.length) {
+            items = Arrays.copyOf(items, doc * 2);
+            lengths = Arrays.copyOf(lengths, doc * 2);
+        }
+        // Slots past the visible count are not read until the new state is published
+        items[doc] = item;
+        lengths[doc] = text.length();
+        text.frequencies().forEach((term, frequency) ->
+            postings.compute(term, (key, list) -> (list == null ? PostingList.EMPTY : list).append(doc, frequency)));
+        state = new State(items, lengths, doc + 1, current.live() + 1, current.totalLength() + text.length());
+        return doc;
+    }
+    
+    /**
+     * Removes a document from the results.
+     */
+    public synchronized void remove(int doc) {
+        State current = state;
+        if (doc < 0 || doc >= current.count() || current.items()[doc] == null) {
+            return;
+        }
+        current.items()[doc] = null;
+        state = new State(current.items(), current.lengths(), current.count(), current.live() - 1,
+            current.totalLength() - current.lengths()[doc]);
+    }
+    
+    /**
+     * Number of documents in the results.
+     */
+    public int size() {
+        return state.live();
+    }
+    
+    /**
+     * Number of removed documents whose postings are still in the index.
+     */
+    public int deleted() {
+        State current = state;
+        return current.count() - current.live();
+    }
+    
+    /**
+     * Number of distinct terms.
+     */
+    public int terms() {
+        return postings.size();
+    }
+    
+    /**
+     * Returns the {@code limit} best documents containing any of the terms and accepted by the
+     * filter, by decreasing BM25 score.
+     *
+     * <p>Evaluation is document at a time with MaxScore pruning: once {@code limit} documents are
+     * collected, the terms whose summed maximum contributions cannot beat the last one only
+     * advance, with their skip entries, to the documents found through the other terms.</p>
+     */
+    public List<Hit<T>> search(Collection<String> terms, Predicate<T> filter, int limit) {
+        State current = state;
+        List<TermCursor> cursors = cursors(current, terms);
+        if (cursors.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        double averageLength = (double) current.totalLength() / Math.max(current.live(), 1);
+        // By increasing maximum contribution, the prefix sums bounding the non-essential terms
+        cursors.sort(Comparator.comparingDouble(TermCursor::maxScore));
+        double[] bounds = new double[cursors.size()];
+        double sum = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            sum += cursors.get(i).maxScore();
+            bounds[i] = sum;
+        }
+        Comparator<Hit<T>> order = worstFirst();
+        PriorityQueue<Hit<T>> best = new PriorityQueue<>(Math.min(limit, 1024) + 1, order);
+        cursors.forEach(TermCursor::next);
+        int firstEssential = 0;
+        double threshold = 0;
+        while (true) {
+            int doc = PostingList.NO_MORE_DOCS;
+            for (int i = firstEssential; i < cursors.size(); i++) {
+                doc = Math.min(doc, cursors.get(i).doc());
+            }
+            if (doc >= current.count()) {
+                break;
+            }
+            double score = 0;
+            for (int i = firstEssential; i < cursors.size(); i++) {
+                TermCursor cursor = cursors.get(i);
+                if (cursor.doc() == doc) {
+                    score += cursor.score(current.lengths()[doc], averageLength);
+                    cursor.next();
+                }
+            }
+            @SuppressWarnings("unchecked")
+            T item = (T) current.items()[doc];
+            if (item == null || !filter.test(item)) {
+                continue;
+            }
+            for (int i = firstEssential - 1; i >= 0; i--) {
+                if (best.size() == limit && score + bounds[i] < threshold) {
+                    break;
+                }
+                TermCursor cursor = cursors.get(i);
+                if (cursor.advance(doc) == doc) {
+                    score += cursor.score(current.lengths()[doc], averageLength);
+                }
+            }
+            Hit<T> hit = new Hit<>(item, score);
+            if (best.size() < limit) {
+                best.add(hit);
+            } else if (order.compare(hit, best.peek()) > 0) {
+                best.poll();
+                best.add(hit);
+            } else {
+                continue;
+            }
+            if (best.size() == limit) {
+                threshold = best.peek().score();
+                while (firstEssential < cursors.size() && bounds[firstEssential] < threshold) {
+                    firstEssential++;
+                }
+            }
+        }
+        List<Hit<T>> hits = new ArrayList<>(best);
+        hits.sort(order.reversed());
+        return hits;
+    }
+    
+    /**
+     * Counts the documents containing any of the terms and accepted by the filter.
+     */
+    public long count(Collection<String> terms, Predicate<T> filter) {
+        State current = state;
+        List<TermCursor> cursors = cursors(current, terms);
+        cursors.forEach(TermCursor::next);
+        long count = 0;
+        while (true) {
+            int doc = PostingList.NO_MORE_DOCS;
+            for (TermCursor cursor : cursors) {
+                doc = Math.min(doc, cursor.doc());
+            }
+            if (doc >= current.count()) {
+                return count;
+            }
+            for (TermCursor cursor : cursors) {
+                if (cursor.doc() == doc) {
+                    cursor.next();
+                }
+            }
+            @SuppressWarnings("unchecked")
+            T item = (T) current.items()[doc];
+            if (item != null && filter.test(item)) {
+                count++;
+            }
+        }
+    }
+    
+    private List<TermCursor> cursors(State current, Collection<String> terms) {
+        List<TermCursor> cursors = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(terms)) {
+            PostingList list = postings.get(term);
+            if (list != null && list.size() > 0) {
+                cursors.add(new TermCursor(list.cursor(), idf(current.live(), list.size())));
+            }
+        }
+        return cursors;
+    }
+    
+    /**
+     * Order of the hits from the worst to the best.
+     */
+    private Comparator<Hit<T>> worstFirst() {
+        return Comparator.<Hit<T>>comparingDouble(Hit::score)
+            .thenComparing(Hit::item, tieBreak.reversed());
+    }
+    
+    static double idf(int documents, int documentFrequency) {
+        return Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+    
+    /**
+     * A document of the results with its score.
+     */
+    public record Hit<T>(T item, double score) {}
+    
+    private static final class TermCursor {
+        
+        private final PostingList.Cursor cursor;
+        
+        private final double idf;
+        
+        TermCursor(PostingList.Cursor cursor, double idf) {
+            this.cursor = cursor;
+            this.idf = idf;
+        }
+        
+        int doc() {
+            return cursor.doc();
+        }
+        
+        void next() {
+            cursor.next();
+        }
+        
+        int advance(int target) {
+            return cursor.advance(target);
+        }
+        
+        /**
+         * Upper bound of the contribution of the term, reached as its frequency grows.
+         */
+        double maxScore() {
+            return idf * (K1 + 1);
+        }
+        
+        double score(int length, double averageLength) {
+            int frequency = cursor.frequency();
+            return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+        }
+    }
+}
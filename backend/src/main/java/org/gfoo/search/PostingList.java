@@ -0,0 +1,200 @@
+package org.gfoo.search;
+
+import java.util.Arrays;
+
+/**
+ * Compressed list of the documents containing a term, in increasing document id order, with the
+ * term frequency in each.
+ *
+ * <p>Postings are stored as variable-length integers: the gap from the previous document id
+ * (minus one, the first id counting from {@code -1}), then the frequency. Every
+ * {@link #SKIP_INTERVAL} postings, a skip entry records the last document id before the block
+ * and the block offset, so that {@link Cursor#advance(int)} jumps over whole blocks instead of
+ * decoding them.</p>
+ *
+ * <p>Instances are immutable views. {@link #append(int, int)} returns a new view which may
+ * share the buffers of this one, writing past its end: appends must be made on the latest view
+ * only, by a single writer, while any number of readers use older views.</p>
+ */
+public final class PostingList {
+    
+    static final int SKIP_INTERVAL = 64;
+    
+    /** Returned by cursors past the last posting. */
+    public static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+    
+    public static final PostingList EMPTY = new PostingList(new byte[0], 0, 0, -1, new int[0], new int[0], 0);
+    
+    private final byte[] data;
+    
+    private final int length;
+    
+    private final int size;
+    
+    private final int lastDoc;
+    
+    /** Last document id of each block but the last one, which the next block's gaps start from. */
+    private final int[] skipDocs;
+    
+    /** Offset of the block following each skip entry. */
+    private final int[] skipOffsets;
+    
+    private final int skips;
+    
+    private PostingList(byte[] data, int length, int size, int lastDoc, int[] skipDocs, int[] skipOffsets, int skips) {
+        this.data = data;
+        this.length = length;
+        this.size = size;
+        this.lastDoc = lastDoc;
+        this.skipDocs = skipDocs;
+        this.skipOffsets = skipOffsets;
+        this.skips = skips;
+    }
+    
+    /**
+     * Number of documents in the list.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Size of the encoded postings, in bytes.
+     */
+    public int bytes() {
+        return length;
+    }
+    
+    /**
+     * Returns the list with the given posting added at the end.
+     *
+     * @throws IllegalArgumentException if the document id is not greater than the last one
+     */
+    public PostingList append(int doc, int frequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Document " + doc + " must follow " + lastDoc);
+        }
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be > 0");
+        }
+        int[] newSkipDocs = skipDocs;
+        int[] newSkipOffsets = skipOffsets;
+        int newSkips = skips;
+        if (size > 0 && size % SKIP_INTERVAL == 0) {
+            if (skips == skipDocs.length) {
+                newSkipDocs = Arrays.copyOf(skipDocs, Math.max(4, skips * 2));
+                newSkipOffsets = Arrays.copyOf(skipOffsets, newSkipDocs.length);
+            }
+            newSkipDocs[skips] = lastDoc;
+            newSkipOffsets[skips] = length;
+            newSkips++;
+        }
+        byte[] newData = data;
+        // Two variable-length ints take at most 10 bytes
+        if (length + 10 > data.length) {
+            newData = Arrays.copyOf(data, Math.max(16, data.length * 2));
+        }
+        int end = writeVarInt(newData, length, doc - lastDoc - 1);
+        end = writeVarInt(newData, end, frequency);
+        return new PostingList(newData, end, size + 1, doc, newSkipDocs, newSkipOffsets, newSkips);
+    }
+    
+    public Cursor cursor() {
+        return new Cursor();
+    }
+    
+    private static int writeVarInt(byte[] buffer, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+    
+    /**
+     * Forward-only iteration over the postings.
+     */
+    public final class Cursor {
+        
+        private int offset;
+        
+        private int index;
+        
+        private int doc = -1;
+        
+        private int frequency;
+        
+        private int nextSkip;
+        
+        private Cursor() {
+        }
+        
+        /**
+         * Current document id: {@code -1} before the first call to {@link #next()}, then
+         * {@link #NO_MORE_DOCS} past the end.
+         */
+        public int doc() {
+            return doc;
+        }
+        
+        public int frequency() {
+            return frequency;
+        }
+        
+        /**
+         * Number of documents in the list, the document frequency of the term.
+         */
+        public int size() {
+            return size;
+        }
+        
+        /**
+         * Moves to the next posting and returns its document id.
+         */
+        public int next() {
+            if (index >= size) {
+                doc = NO_MORE_DOCS;
+                return doc;
+            }
+            doc += readVarInt() + 1;
+            frequency = readVarInt();
+            index++;
+            return doc;
+        }
+        
+        /**
+         * Moves to the first posting whose document id is at least {@code target} and returns it.
+         */
+        public int advance(int target) {
+            if (doc >= target) {
+                return doc;
+            }
+            while (nextSkip < skips && skipDocs[nextSkip] < target) {
+                int block = (nextSkip + 1) * SKIP_INTERVAL;
+                if (block > index) {
+                    offset = skipOffsets[nextSkip];
+                    index = block;
+                    doc = skipDocs[nextSkip];
+                }
+                nextSkip++;
+            }
+            while (next() < target) {
+                // Scan within the block
+            }
+            return doc;
+        }
+        
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
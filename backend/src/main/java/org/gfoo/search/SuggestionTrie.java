@@ -0,0 +1,265 @@
+package org.gfoo.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable compressed trie of weighted keys, returning the heaviest values whose key starts with
+ * a prefix.
+ *
+ * <p>Chains of single-child nodes are merged into one edge, and the nodes are stored in parallel
+ * arrays, the children of a node being contiguous and sorted by their first character. Each node
+ * keeps the largest weight of its subtree, so that a lookup walks down to the prefix and then
+ * visits the subtree heaviest first, stopping after {@code limit} values: its cost depends on the
+ * prefix length and the limit, not on the number of keys.</p>
+ *
+ * <p>Keys are compared as given; callers normalize them, for instance with
+ * {@link TextAnalyzer#fold(String)}. A trie can be read by any number of threads.</p>
+ *
+ * @param <T> value type
+ */
+public final class SuggestionTrie<T> {
+
+    private static final Comparator<Entry<?>> BUILD_ORDER = Comparator
+        .comparing((Entry<?> entry) -> entry.key())
+        .thenComparing(Comparator.comparingLong((Entry<?> entry) -> entry.weight()).reversed());
+
+    /** Built with {@link #BUILD_ORDER}, which must be initialized first. */
+    private static final SuggestionTrie<?> EMPTY = build(List.of());
+
+    /** Edge labels of the nodes, concatenated. */
+    private final char[] labels;
+
+    private final int[] labelStart;
+
+    private final int[] labelEnd;
+
+    private final int[] childStart;
+
+    private final int[] childEnd;
+
+    /** Values whose key ends at the node: {@code valueStart} to {@code valueEnd}, heaviest first. */
+    private final int[] valueStart;
+
+    private final int[] valueEnd;
+
+    /** Largest weight of the values of the subtree. */
+    private final long[] maxWeight;
+
+    private final Object[] values;
+
+    private final long[] weights;
+
+    private SuggestionTrie(char[] labels, int[] labelStart, int[] labelEnd, int[] childStart, int[] childEnd,
+            int[] valueStart, int[] valueEnd, long[] maxWeight, Object[] values, long[] weights) {
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.labelEnd = labelEnd;
+        this.childStart = childStart;
+        this.childEnd = childEnd;
+        this.valueStart = valueStart;
+        this.valueEnd = valueEnd;
+        this.maxWeight = maxWeight;
+        this.values = values;
+        this.weights = weights;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> SuggestionTrie<T> empty() {
+        return (SuggestionTrie<T>) EMPTY;
+    }
+
+    /**
+     * Builds a trie of the given entries; several entries may share a key.
+     */
+    public static <T> SuggestionTrie<T> build(List<Entry<T>> entries) {
+        List<Entry<T>> sorted = new ArrayList<>(entries);
+        sorted.sort(BUILD_ORDER);
+
+        int capacity = 2 * sorted.size() + 1;
+        StringBuilder labels = new StringBuilder();
+        int[] labelStart = new int[capacity];
+        int[] labelEnd = new int[capacity];
+        int[] childStart = new int[capacity];
+        int[] childEnd = new int[capacity];
+        int[] valueStart = new int[capacity];
+        int[] valueEnd = new int[capacity];
+        long[] maxWeight = new long[capacity];
+        int[] depth = new int[capacity];
+        int[] rangeStart = new int[capacity];
+        int[] rangeEnd = new int[capacity];
+
+        // Breadth first, so that the children of a node get consecutive numbers
+        int nodes = 1;
+        rangeEnd[0] = sorted.size();
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int d = depth[node];
+            int i = rangeStart[node];
+            int end = rangeEnd[node];
+
+            // Keys ending here sort first, heaviest first
+            valueStart[node] = i;
+            while (i < end && sorted.get(i).key().length() == d) {
+                i++;
+            }
+            valueEnd[node] = i;
+
+            childStart[node] = nodes;
+            while (i < end) {
+                char c = sorted.get(i).key().charAt(d);
+                int j = i + 1;
+                while (j < end && sorted.get(j).key().charAt(d) == c) {
+                    j++;
+                }
+                // Keys are sorted: the common prefix of the group is the one of its first and last keys
+                String first = sorted.get(i).key();
+                String last = sorted.get(j - 1).key();
+                int common = d + 1;
+                while (common < first.length() && common < last.length() && first.charAt(common) == last.charAt(common)) {
+                    common++;
+                }
+                int child = nodes++;
+                labelStart[child] = labels.length();
+                labels.append(first, d, common);
+                labelEnd[child] = labels.length();
+                depth[child] = common;
+                rangeStart[child] = i;
+                rangeEnd[child] = j;
+                queue.add(child);
+                i = j;
+            }
+            childEnd[node] = nodes;
+        }
+
+        // Children have larger numbers than their parent
+        for (int node = nodes - 1; node >= 0; node--) {
+            long max = Long.MIN_VALUE;
+            for (int value = valueStart[node]; value < valueEnd[node]; value++) {
+                max = Math.max(max, sorted.get(value).weight());
+            }
+            for (int child = childStart[node]; child < childEnd[node]; child++) {
+                max = Math.max(max, maxWeight[child]);
+            }
+            maxWeight[node] = max;
+        }
+
+        Object[] values = new Object[sorted.size()];
+        long[] weights = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            values[i] = sorted.get(i).value();
+            weights[i] = sorted.get(i).weight();
+        }
+        return new SuggestionTrie<>(labels.toString().toCharArray(), Arrays.copyOf(labelStart, nodes),
+            Arrays.copyOf(labelEnd, nodes), Arrays.copyOf(childStart, nodes), Arrays.copyOf(childEnd, nodes),
+            Arrays.copyOf(valueStart, nodes), Arrays.copyOf(valueEnd, nodes), Arrays.copyOf(maxWeight, nodes),
+            values, weights);
+    }
+
+    /**
+     * Number of values.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Number of nodes, the root included.
+     */
+    public int nodes() {
+        return maxWeight.length;
+    }
+
+    /**
+     * Returns at most {@code limit} values whose key starts with the prefix, heaviest first, values
+     * of equal weight in key order.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Suggestion<T>> suggest(String prefix, int limit) {
+        List<Suggestion<T>> suggestions = new ArrayList<>();
+        int node = find(prefix);
+        if (node < 0 || limit <= 0 || values.length == 0) {
+            return suggestions;
+        }
+        // Nodes are queued with the largest weight of their subtree, values with ~index to tell them apart
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> a[0] != b[0]
+            ? Long.compare(b[0], a[0])
+            : Long.compare(order(a[1]), order(b[1])));
+        queue.add(new long[] {maxWeight[node], node});
+        while (!queue.isEmpty() && suggestions.size() < limit) {
+            long[] head = queue.poll();
+            int id = (int) head[1];
+            if (id < 0) {
+                suggestions.add(new Suggestion<>((T) values[~id], head[0]));
+                continue;
+            }
+            for (int value = valueStart[id]; value < valueEnd[id]; value++) {
+                queue.add(new long[] {weights[value], ~value});
+            }
+            for (int child = childStart[id]; child < childEnd[id]; child++) {
+                queue.add(new long[] {maxWeight[child], child});
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Position of a queued node or value in key order, a value coming before the subtrees of its
+     * node's children: {@code valueStart} of a node precedes its subtree, and values are numbered
+     * in key order.
+     */
+    private long order(long id) {
+        return id < 0 ? 2L * ~id + 1 : 2L * valueStart[(int) id];
+    }
+
+    /**
+     * Returns the node whose subtree holds the keys starting with the prefix, or -1.
+     */
+    private int find(String prefix) {
+        int node = 0;
+        int d = 0;
+        while (d < prefix.length()) {
+            int child = child(node, prefix.charAt(d));
+            if (child < 0) {
+                return -1;
+            }
+            for (int i = labelStart[child]; i < labelEnd[child] && d < prefix.length(); i++, d++) {
+                if (labels[i] != prefix.charAt(d)) {
+                    return -1;
+                }
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        int low = childStart[node];
+        int high = childEnd[node] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char first = labels[labelStart[middle]];
+            if (first < c) {
+                low = middle + 1;
+            } else if (first > c) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Value indexed under a key.
+     */
+    public record Entry<T>(String key, long weight, T value) {}
+
+    public record Suggestion<T>(T value, long weight) {}
+}
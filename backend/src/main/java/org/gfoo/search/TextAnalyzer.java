@@ -0,0 +1,164 @@
+package org.gfoo.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns a text into index terms: lower-cased, without diacritics, split on anything but
+ * letters and digits, without stop words and single letters, then stemmed.
+ *
+ * <p>Stemmers are light: they conflate inflections (plurals, feminine forms, {@code -ing} and
+ * {@code -ed} forms) rather than derivations, which keeps unrelated words apart. A text and the
+ * terms searched in it must be analyzed with the same analyzer.</p>
+ */
+public enum TextAnalyzer {
+    
+    FRENCH("fr", Set.of(
+        "au", "aux", "avec", "ce", "ces", "dans", "de", "des", "du", "elle", "en", "et", "eux", "il",
+        "ils", "je", "la", "le", "les", "leur", "lui", "ma", "mais", "me", "meme", "mes", "moi", "mon",
+        "ne", "nos", "notre", "nous", "on", "ou", "par", "pas", "pour", "qu", "que", "qui", "sa", "se",
+        "ses", "son", "sur", "ta", "te", "tes", "toi", "ton", "tu", "un", "une", "vos", "votre", "vous",
+        "est", "sont", "ete", "etre", "avoir", "cette", "cet", "comme", "plus", "entre")) {
+        
+        @Override
+        String stem(String term) {
+            String stem = term;
+            if (stem.length() > 4 && stem.endsWith("aux")) {
+                stem = stem.substring(0, stem.length() - 3) + "al";
+            } else if (stem.length() > 3 && (stem.endsWith("s") || stem.endsWith("x"))) {
+                stem = stem.substring(0, stem.length() - 1);
+            }
+            if (stem.length() > 7 && stem.endsWith("ement")) {
+                stem = stem.substring(0, stem.length() - 5);
+            }
+            if (stem.length() > 3 && stem.endsWith("e")) {
+                stem = stem.substring(0, stem.length() - 1);
+            }
+            return stem;
+        }
+    },
+    
+    ENGLISH("en", Set.of(
+        "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "he", "her",
+        "his", "if", "in", "into", "is", "it", "its", "no", "not", "of", "on", "or", "our", "she", "so",
+        "such", "that", "the", "their", "them", "then", "there", "these", "they", "this", "to", "was",
+        "we", "were", "which", "will", "with", "you", "your")) {
+        
+        @Override
+        String stem(String term) {
+            int length = term.length();
+            if (length > 4 && term.endsWith("ies")) {
+                return term.substring(0, length - 3) + "y";
+            }
+            if (length > 4 && (term.endsWith("sses") || term.endsWith("xes") || term.endsWith("ches")
+                    || term.endsWith("shes"))) {
+                return term.substring(0, length - 2);
+            }
+            if (length > 3 && term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us")
+                    && !term.endsWith("is")) {
+                return term.substring(0, length - 1);
+            }
+            if (length > 5 && term.endsWith("ing")) {
+                return undouble(term.substring(0, length - 3));
+            }
+            if (length > 4 && term.endsWith("ed")) {
+                return undouble(term.substring(0, length - 2));
+            }
+            return term;
+        }
+        
+        private String undouble(String stem) {
+            int length = stem.length();
+            if (length > 2 && stem.charAt(length - 1) == stem.charAt(length - 2)
+                    && "lsz".indexOf(stem.charAt(length - 1)) < 0 && !isVowel(stem.charAt(length - 1))) {
+                return stem.substring(0, length - 1);
+            }
+            return stem;
+        }
+        
+        private boolean isVowel(char c) {
+            return "aeiouy".indexOf(c) >= 0;
+        }
+    },
+    
+    /** Any other language: no stop words, no stemming. */
+    NEUTRAL(null, Set.of()) {
+        
+        @Override
+        String stem(String term) {
+            return term;
+        }
+    };
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private final String language;
+    
+    private final Set<String> stopWords;
+    
+    TextAnalyzer(String language, Set<String> stopWords) {
+        this.language = language;
+        this.stopWords = stopWords;
+    }
+    
+    /**
+     * Language code handled by this analyzer, {@code null} for {@link #NEUTRAL}.
+     */
+    public String language() {
+        return language;
+    }
+    
+    /**
+     * Analyzer of the given language code, {@link #NEUTRAL} for unknown or missing ones.
+     */
+    public static TextAnalyzer forLanguage(String language) {
+        if (language != null) {
+            for (TextAnalyzer analyzer : values()) {
+                if (language.equalsIgnoreCase(analyzer.language)) {
+                    return analyzer;
+                }
+            }
+        }
+        return NEUTRAL;
+    }
+    
+    /**
+     * Returns the terms of the text, in order, repeated terms included.
+     */
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (token.isEmpty() || (token.length() == 1 && !Character.isDigit(token.charAt(0)))
+                    || stopWords.contains(token)) {
+                continue;
+            }
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+    
+    /**
+     * Lower-cases the text, strips its diacritics and replaces any run of characters other than
+     * letters and digits by a single space, so that texts differing only in case, accents or
+     * punctuation compare equal.
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD))
+            .replaceAll("");
+        return SEPARATORS.matcher(normalized).replaceAll(" ").strip();
+    }
+    
+    abstract String stem(String term);
+}
@@ -0,0 +1,13 @@
+package org.gfoo.service;
+
+/**
+ * How list totals are computed.
+ */
+public enum CountMode {
+    /** Served from the in-memory counters of {@link NewsCountService}. */
+    CACHED,
+    /** Uses the collection metadata ({@code estimatedDocumentCount}), unfiltered lists only. */
+    ESTIMATED,
+    /** Runs a {@code countDocuments} against MongoDB on every request. */
+    EXACT
+}
@@ -0,0 +1,282 @@
+package org.gfoo.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.gfoo.dto.NewsBulkItemResult;
+import org.gfoo.dto.NewsBulkResponse;
+import org.gfoo.dto.NewsWriteRequest;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+
+/**
+ * Creation of news in bulk, from newline-delimited JSON or a JSON array.
+ *
+ * <p>Items are read one at a time from the request body, validated, and written in unordered
+ * {@code insertMany} batches of {@code news.bulk.batch-size}, up to {@code news.bulk.concurrency}
+ * batches being written while the next ones are read: memory use depends on the batch size, not
+ * on the size of the request. Each item gets its own result, an invalid item or one refused by
+ * MongoDB not preventing the others from being written.</p>
+ *
+ * <p>Each batch among the first {@code news.bulk.max-events} news of a request is notified with a
+ * single {@link org.gfoo.event.NewsBatchInsertedEvent}, applied at once by the counters, views and
+ * indexes; beyond, a single invalidation is notified at the end of the request and derived state
+ * is rebuilt once instead of updated for each batch.</p>
+ */
+@ApplicationScoped
+@Timed("news.service")
+public class NewsBulkService {
+
+    static final Set<String> TYPES = Set.of("news", "event");
+
+    static final Set<String> STATUSES = Set.of("usable", "draft", "archived", "deleted");
+
+    private static final Pattern LANGUAGE = Pattern.compile("[a-z]{2}");
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsMapper newsMapper;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @ConfigProperty(name = "news.bulk.batch-size", defaultValue = "1000")
+    int batchSize;
+
+    @ConfigProperty(name = "news.bulk.concurrency", defaultValue = "2")
+    int concurrency;
+
+    @ConfigProperty(name = "news.bulk.max-events", defaultValue = "1000")
+    int maxEvents;
+
+    /**
+     * Creates the news of a request body.
+     *
+     * @param ndjson whether the body holds one JSON object per line rather than a JSON array
+     * @throws IllegalArgumentException if the body is not a JSON array while one is expected
+     * @throws IOException              if the body cannot be read
+     */
+    public NewsBulkResponse insert(InputStream body, boolean ndjson) throws IOException {
+        Writer writer = new Writer();
+        try {
+            if (ndjson) {
+                readLines(body, writer);
+            } else {
+                readArray(body, writer);
+            }
+            return writer.finish();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void readLines(InputStream body, Writer writer) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(NewsWriteRequest.class);
+        BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                writer.add(reader.readValue(line));
+            } catch (JsonProcessingException e) {
+                writer.reject("Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readArray(InputStream body, Writer writer) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(NewsWriteRequest.class);
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of news");
+            }
+            while (true) {
+                JsonNode item;
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY) {
+                        return;
+                    }
+                    if (token == null) {
+                        writer.reject("Unexpected end of the JSON array");
+                        return;
+                    }
+                    item = parser.readValueAsTree();
+                } catch (JsonParseException e) {
+                    // The parser cannot resynchronize: the rest of the body is ignored
+                    writer.reject("Invalid JSON, remaining items ignored: " + e.getOriginalMessage());
+                    return;
+                }
+                try {
+                    writer.add(reader.readValue(item));
+                } catch (JsonProcessingException e) {
+                    writer.reject("Invalid news: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns why a news cannot be created, or {@code null} if it can.
+     */
+    static String validate(NewsWriteRequest request) {
+        if (request == null) {
+            return "Item must be a JSON object";
+        }
+        if (request.title() == null || request.title().isBlank()) {
+            return "Title is required";
+        }
+        if (request.type() == null || !TYPES.contains(request.type())) {
+            return "Type must be 'news' or 'event'";
+        }
+        if (request.language() == null || !LANGUAGE.matcher(request.language()).matches()) {
+            return "Language must be a two-letter lower-case code";
+        }
+        if (request.status() == null || !STATUSES.contains(request.status())) {
+            return "Status must be one of usable, draft, archived, deleted";
+        }
+        return null;
+    }
+
+    /**
+     * Accumulates the valid items of a request into batches and keeps track of the results.
+     * Used by the thread reading the request only; batches are written by the executor.
+     */
+    private final class Writer {
+
+        private final Date now = new Date();
+
+        private final List<NewsBulkItemResult> results = new ArrayList<>();
+
+        private final ArrayDeque<Batch> inFlight = new ArrayDeque<>();
+
+        private Batch batch = new Batch();
+
+        private int written;
+
+        private int inserted;
+
+        private boolean invalidate;
+
+        void add(NewsWriteRequest request) {
+            int index = results.size();
+            String error = validate(request);
+            if (error != null) {
+                results.add(NewsBulkItemResult.rejected(index, error));
+                return;
+            }
+            results.add(null);
+            NewsDocument document = newsMapper.toDocument(request);
+            if (document.dateCreated == null) {
+                document.dateCreated = now;
+            }
+            document.dateLastModified = now;
+            batch.documents.add(document);
+            batch.indexes.add(index);
+            if (batch.documents.size() >= batchSize) {
+                submit();
+            }
+        }
+
+        void reject(String error) {
+            results.add(NewsBulkItemResult.rejected(results.size(), error));
+        }
+
+        NewsBulkResponse finish() {
+            submit();
+            while (!inFlight.isEmpty()) {
+                complete(inFlight.poll());
+            }
+            return new NewsBulkResponse(results.size(), inserted, results.size() - inserted, results);
+        }
+
+        /**
+         * Waits for the batches still being written, whatever the outcome of the request, and
+         * notifies the writes made without events.
+         */
+        void close() {
+            for (Batch pending : inFlight) {
+                pending.result.exceptionally(e -> null).join();
+            }
+            if (invalidate) {
+                newsRepository.invalidate();
+            }
+        }
+
+        private void submit() {
+            if (batch.documents.isEmpty()) {
+                return;
+            }
+            if (inFlight.size() >= Math.max(concurrency, 1)) {
+                complete(inFlight.poll());
+            }
+            Batch submitted = batch;
+            batch = new Batch();
+            boolean notify = written + submitted.documents.size() <= maxEvents;
+            invalidate |= !notify;
+            written += submitted.documents.size();
+            submitted.result = executor.supplyAsync(() -> newsRepository.insertUnordered(submitted.documents, notify));
+            inFlight.add(submitted);
+        }
+
+        private void complete(Batch completed) {
+            Map<Integer, String> errors;
+            try {
+                errors = completed.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            for (int i = 0; i < completed.documents.size(); i++) {
+                int index = completed.indexes.get(i);
+                String error = errors.get(i);
+                if (error == null) {
+                    results.set(index, NewsBulkItemResult.created(index, completed.documents.get(i).id.toString()));
+                    inserted++;
+                } else {
+                    results.set(index, NewsBulkItemResult.rejected(index, error));
+                }
+            }
+        }
+    }
+
+    private final class Batch {
+
+        final List<NewsDocument> documents = new ArrayList<>(batchSize);
+
+        final List<Integer> indexes = new ArrayList<>(batchSize);
+
+        CompletableFuture<Map<Integer, String>> result;
+    }
+}
@@ -0,0 +1,264 @@
+package org.gfoo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.gfoo.dto.CacheReport;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of the news served by id.
+ *
+ * <p>Backed by Caffeine, whose W-TinyLFU admission keeps the few frequently read news resident
+ * while one-off lookups do not evict them. Entries hold the mapped {@link NewsResponse} with
+ * its validators ({@link VersionedNews}) and are weighed by their estimated size; the cache is
+ * bounded by {@code news.cache.maximum-weight}. Found news live for {@code news.cache.ttl};
+ * unknown ids are cached as absent for the shorter {@code news.cache.missing-ttl}, so that
+ * repeated lookups of a missing id do not all reach MongoDB while a news created afterwards
+ * shows up quickly.</p>
+ *
+ * <p>Entries are invalidated by {@link NewsChangeEvent}s, including the writes of other instances
+ * when the change stream is enabled, and can be invalidated explicitly through
+ * {@link #invalidate(String)} and {@link #invalidateAll()}.</p>
+ *
+ * <p>News are read from MongoDB outside of the cache's locks, so that a miss neither blocks the
+ * other keys nor pins a virtual thread. Each invalidation increments the version of a stripe of
+ * ids: a news read before an invalidation of its stripe is returned but not cached, so that
+ * the cache never reinstates a copy older than the last write.</p>
+ *
+ * <p>Its statistics are published as the {@code cache.*} meters tagged {@code cache=news}.</p>
+ */
+@ApplicationScoped
+public class NewsCache implements MeterBinder {
+    
+    /**
+     * Estimated fixed cost of an entry: key, record, optional and cache node.
+     */
+    static final int ENTRY_OVERHEAD = 160;
+    
+    /**
+     * Number of invalidation counters, ids being spread over them by hash.
+     */
+    static final int VERSION_STRIPES = 64;
+    
+    @ConfigProperty(name = "news.cache.enabled", defaultValue = "true")
+    boolean enabled;
+    
+    @ConfigProperty(name = "news.cache.maximum-weight", defaultValue = "16777216")
+    long maximumWeight;
+    
+    @ConfigProperty(name = "news.cache.ttl", defaultValue = "10m")
+    Duration ttl;
+    
+    @ConfigProperty(name = "news.cache.missing-ttl", defaultValue = "30s")
+    Duration missingTtl;
+    
+    private Cache<String, Optional<VersionedNews>> cache;
+    
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    
+    /**
+     * Loads in progress, shared by concurrent misses on the same id.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Optional<VersionedNews>>> loading =
+        new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumWeight(enabled ? maximumWeight : 0)
+            .weigher((String id, Optional<VersionedNews> news) -> weigh(id, news))
+            .expireAfter(new Expiry<String, Optional<VersionedNews>>() {
+                @Override
+                public long expireAfterCreate(String id, Optional<VersionedNews> news, long currentTime) {
+                    return (news.isPresent() ? ttl : missingTtl).toNanos();
+                }
+                
+                @Override
+                public long expireAfterUpdate(String id, Optional<VersionedNews> news, long currentTime,
+                        long currentDuration) {
+                    return expireAfterCreate(id, news, currentTime);
+                }
+                
+                @Override
+                public long expireAfterRead(String id, Optional<VersionedNews> news, long currentTime,
+                        long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+    
+    /**
+     * Returns the cached news with the given id, loading it on a miss. Concurrent misses on the
+     * same id share a single load.
+     *
+     * @param id     normalized id of the news, see {@link #key(String)}
+     * @param loader lookup of the news in MongoDB
+     */
+    public Optional<VersionedNews> get(String id, Function<String, Optional<VersionedNews>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        Optional<VersionedNews> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Optional<VersionedNews>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<VersionedNews>> running = loading.putIfAbsent(id, load);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            long version = version(id);
+            Optional<VersionedNews> news = loader.apply(id);
+            put(id, news, version);
+            load.complete(news);
+            return news;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, load);
+        }
+    }
+    
+    private static Optional<VersionedNews> join(CompletableFuture<Optional<VersionedNews>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Returns the cached entry for the given id without loading it: {@code null} on a miss, an
+     * empty optional when the id is known to be absent.
+     */
+    public Optional<VersionedNews> getIfPresent(String id) {
+        return enabled ? cache.getIfPresent(id) : null;
+    }
+    
+    /**
+     * Version of the given id, to read before looking the news up in MongoDB and to pass to
+     * {@link #put(String, Optional, long)}.
+     */
+    public long version(String id) {
+        return versions.get(stripe(id));
+    }
+    
+    /**
+     * Caches a news read from MongoDB, unless an entry is already cached or the id was
+     * invalidated since {@code version} was read.
+     */
+    public void put(String id, Optional<VersionedNews> news, long version) {
+        if (!enabled) {
+            return;
+        }
+        // Checked under the lock of the entry, which the invalidation takes after its increment
+        cache.asMap().compute(id, (key, current) ->
+            current != null || versions.get(stripe(key)) != version ? current : news);
+    }
+    
+    public void invalidate(String id) {
+        String key = key(id);
+        if (key != null) {
+            versions.incrementAndGet(stripe(key));
+            cache.invalidate(key);
+        }
+    }
+    
+    public void invalidateAll() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+    
+    private static int stripe(String id) {
+        return Math.floorMod(id.hashCode(), VERSION_STRIPES);
+    }
+    
+    /**
+     * Hit, miss, load and eviction counters since startup.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    public long size() {
+        return cache.estimatedSize();
+    }
+    
+    public CacheReport report() {
+        CacheStats stats = cache.stats();
+        return new CacheReport("news-by-id", enabled, cache.estimatedSize(), stats.hitCount(),
+            stats.missCount(), stats.hitRate(), stats.evictionCount(), stats.evictionWeight());
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "news");
+    }
+    
+    void onBatch(@Observes NewsBatchInsertedEvent event) {
+        event.documents().forEach(document -> invalidate(document.id.toHexString()));
+    }
+    
+    void onChange(@Observes NewsChangeEvent event) {
+        if (event.type() == NewsChangeEvent.Type.CLEARED || event.type() == NewsChangeEvent.Type.INVALIDATED) {
+            invalidateAll();
+        } else if (event.id() != null) {
+            invalidate(event.id().toHexString());
+        }
+    }
+    
+    /**
+     * Normalized form of an id, as used for the cache keys and change events, or {@code null}
+     * when the id is not a valid ObjectId.
+     */
+    public static String key(String id) {
+        if (id == null || !ObjectId.isValid(id.trim())) {
+            return null;
+        }
+        return new ObjectId(id.trim()).toHexString();
+    }
+    
+    static int weigh(String id, Optional<VersionedNews> news) {
+        int chars = id.length();
+        if (news.isPresent()) {
+            NewsResponse response = news.get().news();
+            chars += length(response.title()) + length(response.type()) + length(response.catchLine())
+                + length(response.language()) + length(response.status()) + length(news.get().etag());
+        }
+        return ENTRY_OVERHEAD + 2 * chars;
+    }
+    
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
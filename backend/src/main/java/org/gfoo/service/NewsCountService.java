@@ -0,0 +1,345 @@
+package org.gfoo.service;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.repository.ReactiveNewsRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps news totals in memory so that list requests do not run a {@code count} against MongoDB.
+ *
+ * <p>Totals are held per combination of {@code language}, {@code status} and {@code isEvent};
+ * the total of a {@link NewsFilter} is the sum of the combinations it selects. Counters are
+ * seeded with a single {@code $group} aggregation at startup (unless
+ * {@code news.count.seed-on-startup} is off, the first read then seeding them), updated from
+ * {@link NewsChangeEvent}s (those of the change stream when it is enabled, so that writes of
+ * other instances are counted too) and periodically reconciled against the collection to
+ * absorb writes made outside of this application. Writes whose previous state is unknown (updates, deletes by
+ * id) mark the counters stale: the next read starts a reseed on the executor and keeps serving
+ * the previous counters, so that the aggregation never runs on a request thread.</p>
+ *
+ * <p>Every counted event bumps a generation. A seed during which the generation moved may have
+ * missed or already included those writes: it is run again, up to {@link #SEED_ATTEMPTS} times,
+ * after which its result is kept but the counters stay stale.</p>
+ *
+ * <p>With the change stream, each seed records the cluster time read just before its
+ * aggregation, and stream events at or before that time are ignored: the writes replayed by a
+ * restarted listener are already in the seed.</p>
+ *
+ * <p>Totals restricted to a creation date range cannot be derived from the counters and are
+ * always counted by MongoDB.</p>
+ */
+@ApplicationScoped
+public class NewsCountService {
+    
+    /**
+     * Aggregations run by a seed before it gives up on a quiet collection.
+     */
+    static final int SEED_ATTEMPTS = 3;
+    
+    @Inject
+    NewsRepository newsRepository;
+    
+    @Inject
+    ReactiveNewsRepository reactiveNewsRepository;
+    
+    @Inject
+    ManagedExecutor executor;
+    
+    @ConfigProperty(name = "news.count.mode", defaultValue = "cached")
+    CountMode defaultMode;
+    
+    @ConfigProperty(name = "news.change-stream.enabled", defaultValue = "false")
+    boolean changeStreamEnabled;
+    
+    @ConfigProperty(name = "news.count.seed-on-startup", defaultValue = "true")
+    boolean seedOnStartup;
+    
+    private volatile Map<Combination, AtomicLong> counts = new ConcurrentHashMap<>();
+    
+    private volatile boolean stale = true;
+    
+    /**
+     * Whether the counters were seeded once. Until then, totals are counted by MongoDB.
+     */
+    private volatile boolean seeded;
+    
+    /**
+     * Bumped by every counted event, so that a seed can tell whether writes were counted while
+     * its aggregation ran.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    
+    /**
+     * Set while a reseed is queued or running on the executor.
+     */
+    private final AtomicBoolean reseeding = new AtomicBoolean();
+    
+    /**
+     * Held while the counters are seeded, so that the scheduled reconciliation and a reseed do
+     * not run together: a lock rather than a monitor, so that a waiting virtual thread does not
+     * pin its carrier.
+     */
+    private final ReentrantLock seeding = new ReentrantLock();
+    
+    /**
+     * Cluster time before the last seed, {@code null} without the change stream.
+     */
+    private volatile BsonTimestamp seededAt;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (!seedOnStartup) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            // Counters stay stale and will be seeded by the first read
+            Log.warnf(e, "Unable to seed news counters at startup");
+        }
+    }
+    
+    /**
+     * Returns the total of news selected by the filter using the configured {@link CountMode}.
+     */
+    public long count(NewsFilter filter) {
+        return count(filter, defaultMode);
+    }
+    
+    public long count(NewsFilter filter, CountMode mode) {
+        if (filter == null) {
+            filter = NewsFilter.ALL;
+        }
+        if (filter.hasDateRange()) {
+            return newsRepository.count(filter.toQuery());
+        }
+        switch (mode) {
+            case EXACT:
+                return newsRepository.count(filter.toQuery());
+            case ESTIMATED:
+                if (filter.isEmpty()) {
+                    return newsRepository.mongoCollection().estimatedDocumentCount();
+                }
+                return cachedCount(filter);
+            default:
+                return cachedCount(filter);
+        }
+    }
+    
+    /**
+     * Non-blocking variant of {@link #count(NewsFilter)} for the reactive API: totals available
+     * in memory are returned as is, the others are counted with the reactive client.
+     */
+    public Uni<Long> reactiveCount(NewsFilter filter) {
+        NewsFilter selected = filter == null ? NewsFilter.ALL : filter;
+        if (selected.hasDateRange() || defaultMode == CountMode.EXACT) {
+            return reactiveNewsRepository.count(selected.toQuery());
+        }
+        if (defaultMode == CountMode.ESTIMATED && selected.isEmpty()) {
+            return reactiveNewsRepository.mongoCollection().estimatedDocumentCount();
+        }
+        if (stale) {
+            reseed();
+        }
+        if (!seeded) {
+            return reactiveNewsRepository.count(selected.toQuery());
+        }
+        return Uni.createFrom().item(sum(selected));
+    }
+    
+    /**
+     * Recomputes every counter from the collection.
+     */
+    @Scheduled(every = "${news.count.reconcile-interval:5m}", delayed = "${news.count.reconcile-interval:5m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void reconcile() {
+        seeding.lock();
+        try {
+            seed();
+        } finally {
+            seeding.unlock();
+        }
+    }
+    
+    private void seed() {
+        for (int attempt = 1; ; attempt++) {
+            // Cleared first, so that an update seen during the aggregation marks the counters stale again
+            stale = false;
+            long before = generation.get();
+            try {
+                BsonTimestamp clusterTime = changeStreamEnabled ? clusterTime() : null;
+                Map<Combination, AtomicLong> fresh = aggregate();
+                counts = fresh;
+                seededAt = clusterTime;
+                seeded = true;
+            } catch (RuntimeException e) {
+                stale = true;
+                throw e;
+            }
+            // Checked once the new counters are visible: an event bumping the generation later adjusts them
+            if (generation.get() == before) {
+                return;
+            }
+            if (attempt == SEED_ATTEMPTS) {
+                stale = true;
+                return;
+            }
+        }
+    }
+    
+    private Map<Combination, AtomicLong> aggregate() {
+        Map<Combination, AtomicLong> fresh = new ConcurrentHashMap<>();
+        List<Document> pipeline = List.of(new Document("$group",
+            new Document("_id", new Document("language", "$language")
+                .append("status", "$status")
+                .append("isEvent", "$isEvent"))
+            .append("count", new Document("$sum", 1))));
+        for (Document group : newsRepository.mongoCollection().aggregate(pipeline, Document.class)) {
+            Document key = group.get("_id", Document.class);
+            Combination combination = new Combination(
+                key.getString("language"), key.getString("status"), key.getBoolean("isEvent"));
+            fresh.put(combination, new AtomicLong(group.get("count", Number.class).longValue()));
+        }
+        return fresh;
+    }
+    
+    /**
+     * Current cluster time, as reported by the server in its command responses.
+     */
+    private BsonTimestamp clusterTime() {
+        Document hello = newsRepository.mongoDatabase().runCommand(new Document("hello", 1));
+        return hello.get("operationTime", BsonTimestamp.class);
+    }
+    
+    void onChange(@Observes NewsChangeEvent event) {
+        // With the change stream, every write, local ones included, is counted from the stream
+        NewsChangeEvent.Origin counted = changeStreamEnabled
+            ? NewsChangeEvent.Origin.CHANGE_STREAM
+            : NewsChangeEvent.Origin.LOCAL;
+        if (event.origin() != counted || isSeeded(event)) {
+            return;
+        }
+        // Bumped before the counters are read, so that a seed that installed its counters afterwards sees it
+        generation.incrementAndGet();
+        switch (event.type()) {
+            case INSERTED:
+                adjust(event.document(), 1);
+                break;
+            case DELETED:
+                if (event.document() != null) {
+                    adjust(event.document(), -1);
+                } else {
+                    stale = true;
+                }
+                break;
+            case CLEARED:
+                counts = new ConcurrentHashMap<>();
+                stale = false;
+                break;
+            default:
+                // The previous values of the document are unknown
+                stale = true;
+        }
+    }
+    
+    void onBatch(@Observes NewsBatchInsertedEvent event) {
+        // Batches are local writes, counted from the change stream when it is enabled
+        if (!changeStreamEnabled) {
+            generation.incrementAndGet();
+            event.documents().forEach(document -> adjust(document, 1));
+        }
+    }
+    
+    /**
+     * Whether the write of the event was already counted by the last seed.
+     */
+    private boolean isSeeded(NewsChangeEvent event) {
+        BsonTimestamp seeded = seededAt;
+        return seeded != null && event.clusterTime() != null && event.clusterTime().compareTo(seeded) <= 0;
+    }
+    
+    /**
+     * Snapshot of the counters, keyed by combination.
+     */
+    Map<Combination, Long> snapshot() {
+        Map<Combination, Long> snapshot = new HashMap<>();
+        counts.forEach((combination, count) -> snapshot.put(combination, count.get()));
+        return snapshot;
+    }
+    
+    private long cachedCount(NewsFilter filter) {
+        if (stale) {
+            reseed();
+        }
+        if (!seeded) {
+            // Counted for this filter only, the full aggregation runs on the executor
+            return newsRepository.count(filter.toQuery());
+        }
+        return sum(filter);
+    }
+    
+    /**
+     * Starts a reseed of stale counters on the executor, unless one is already queued or running.
+     */
+    private void reseed() {
+        if (!reseeding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.runAsync(() -> {
+                try {
+                    if (stale) {
+                        reconcile();
+                    }
+                } finally {
+                    reseeding.set(false);
+                }
+            }).exceptionally(e -> {
+                Log.warnf(e, "Unable to reseed news counters");
+                return null;
+            });
+        } catch (RuntimeException e) {
+            reseeding.set(false);
+            throw e;
+        }
+    }
+    
+    private long sum(NewsFilter filter) {
+        long total = 0;
+        for (Map.Entry<Combination, AtomicLong> entry : counts.entrySet()) {
+            Combination combination = entry.getKey();
+            if (filter.matches(combination.language(), combination.status(), combination.isEvent())) {
+                total += entry.getValue().get();
+            }
+        }
+        return total;
+    }
+    
+    private void adjust(NewsDocument document, long delta) {
+        Combination combination = new Combination(document.language, document.status, document.isEvent);
+        counts.computeIfAbsent(combination, key -> new AtomicLong()).addAndGet(delta);
+    }
+    
+    record Combination(String language, String status, Boolean isEvent) {}
+}
@@ -0,0 +1,78 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.PagedResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Strong entity tags of the news representations, computed from their content.
+ *
+ * <p>A tag is a truncated SHA-256 of the fields serialized in the response, so two responses
+ * share a tag exactly when they carry the same data, whatever the way the data was produced
+ * (MongoDB, cache or in-memory view).</p>
+ */
+public final class NewsEtag {
+    
+    private static final int LENGTH = 16;
+    
+    private NewsEtag() {
+    }
+    
+    public static String of(NewsResponse news) {
+        MessageDigest digest = sha256();
+        update(digest, news);
+        return encode(digest);
+    }
+    
+    public static String of(PagedResponse<NewsResponse> page) {
+        MessageDigest digest = sha256();
+        digest.update(ByteBuffer.allocate(Integer.BYTES * 2).putInt(page.page()).putInt(page.size()).array());
+        update(digest, page.total() == null ? null : page.total().toString());
+        update(digest, page.next());
+        for (NewsResponse news : page.data()) {
+            update(digest, news);
+        }
+        return encode(digest);
+    }
+    
+    private static void update(MessageDigest digest, NewsResponse news) {
+        update(digest, news.id());
+        update(digest, news.title());
+        update(digest, news.type());
+        update(digest, news.catchLine());
+        update(digest, news.language());
+        update(digest, news.status());
+    }
+    
+    /**
+     * Adds a length-prefixed value, so that field boundaries and nulls are part of the hash.
+     */
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+    
+    private static String encode(MessageDigest digest) {
+        byte[] hash = digest.digest();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, LENGTH));
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.gfoo.service;
+
+import org.bson.types.ObjectId;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.SecureRandom;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Progress of the import of a file, saved after each imported chunk so that an interrupted
+ * import resumes with the chunks not yet imported.
+ *
+ * <p>The identifier of each news is derived from a prefix drawn by the first run and from the
+ * offset of its line in the file: a chunk imported again after an interruption produces the same
+ * identifiers, and the news already created by the interrupted run are refused by MongoDB as
+ * duplicates instead of being created twice. The prefix is 48 random bits, so that imports
+ * started at the same time do not share it; the creation time embedded in these identifiers is
+ * therefore meaningless, {@code dateCreated} holds it.</p>
+ */
+final class NewsImportCheckpoint {
+
+    /** Offsets are stored in the last 6 bytes of the identifiers. */
+    static final long MAX_FILE_SIZE = 1L << 48;
+
+    /** Random bytes of the identifiers, shared by the news of an import. */
+    static final int ID_PREFIX_BYTES = 6;
+
+    private static final String SIZE = "size";
+    private static final String CHUNK_SIZE = "chunk-size";
+    private static final String ID_PREFIX = "id-prefix";
+    private static final String DONE = "done";
+
+    private final Path path;
+
+    private final long size;
+
+    private final long chunkSize;
+
+    private final byte[] idPrefix;
+
+    private final BitSet done;
+
+    private NewsImportCheckpoint(Path path, long size, long chunkSize, byte[] idPrefix, BitSet done) {
+        this.path = path;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.idPrefix = idPrefix;
+        this.done = done;
+    }
+
+    /**
+     * Reads the checkpoint of a previous run, or creates one.
+     *
+     * @throws IllegalArgumentException if the checkpoint was written for a file of another size or
+     *                                  with another chunk size
+     */
+    static NewsImportCheckpoint open(Path path, long size, long chunkSize) throws IOException {
+        if (!Files.exists(path)) {
+            byte[] idPrefix = new byte[ID_PREFIX_BYTES];
+            new SecureRandom().nextBytes(idPrefix);
+            NewsImportCheckpoint checkpoint = new NewsImportCheckpoint(path, size, chunkSize, idPrefix, new BitSet());
+            // Saved before any write, so that a resumed import uses the same identifiers
+            checkpoint.save();
+            return checkpoint;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        if (Long.parseLong(properties.getProperty(SIZE, "-1")) != size
+            || Long.parseLong(properties.getProperty(CHUNK_SIZE, "-1")) != chunkSize) {
+            throw new IllegalArgumentException("Checkpoint " + path + " was written for another file or chunk size");
+        }
+        BitSet done = new BitSet();
+        for (String chunk : properties.getProperty(DONE, "").split(",")) {
+            if (!chunk.isBlank()) {
+                done.set(Integer.parseInt(chunk.strip()));
+            }
+        }
+        return new NewsImportCheckpoint(path, size, chunkSize,
+            HexFormat.of().parseHex(properties.getProperty(ID_PREFIX)), done);
+    }
+
+    synchronized boolean isDone(int chunk) {
+        return done.get(chunk);
+    }
+
+    /**
+     * Records a chunk as imported, replacing the saved checkpoint atomically.
+     */
+    synchronized void complete(int chunk) {
+        done.set(chunk);
+        try {
+            save();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Identifier of the news read from the line starting at the given offset.
+     */
+    ObjectId id(long offset) {
+        return new ObjectId(ByteBuffer.allocate(12)
+            .put(idPrefix)
+            .putShort((short) (offset >>> 32))
+            .putInt((int) offset)
+            .array());
+    }
+
+    /**
+     * Offset of the line a news was read from.
+     */
+    static long offset(ObjectId id) {
+        ByteBuffer bytes = ByteBuffer.wrap(id.toByteArray());
+        return (bytes.getShort(6) & 0xFFFFL) << 32 | bytes.getInt(8) & 0xFFFFFFFFL;
+    }
+
+    private void save() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(SIZE, Long.toString(size));
+        properties.setProperty(CHUNK_SIZE, Long.toString(chunkSize));
+        properties.setProperty(ID_PREFIX, HexFormat.of().formatHex(idPrefix));
+        properties.setProperty(DONE, done.stream().mapToObj(Integer::toString)
+            .collect(Collectors.joining(",")));
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            properties.store(writer, "News import checkpoint");
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,47 @@
+package org.gfoo.service;
+
+import java.time.Duration;
+
+/**
+ * Outcome of an import of a NDJSON file, for the chunks read by this run.
+ *
+ * @param bytes         Size of the file
+ * @param bytesRead     Bytes read by this run, chunks of previous runs excluded
+ * @param chunks        Number of chunks of the file
+ * @param resumedChunks Chunks already imported by a previous run, skipped
+ * @param lines         Non-blank lines read
+ * @param inserted      News created
+ * @param existing      News already created by an interrupted run, left untouched
+ * @param rejected      Lines that are not valid news, or news refused by MongoDB
+ * @param elapsed       Duration of the run
+ */
+public record NewsImportReport(
+    long bytes,
+    long bytesRead,
+    int chunks,
+    int resumedChunks,
+    long lines,
+    long inserted,
+    long existing,
+    long rejected,
+    Duration elapsed
+) {
+
+    /**
+     * News created per second.
+     */
+    public double newsPerSecond() {
+        return inserted / seconds();
+    }
+
+    /**
+     * Megabytes of the file read per second.
+     */
+    public double megabytesPerSecond() {
+        return bytesRead / 1_048_576.0 / seconds();
+    }
+
+    private double seconds() {
+        return Math.max(elapsed.toNanos(), 1) / 1e9;
+    }
+}
@@ -0,0 +1,472 @@
+package org.gfoo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.configuration.MemorySize;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.gfoo.dto.NewsWriteRequest;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Import of large NDJSON files of news, one news per line with the fields of
+ * {@code POST /news/bulk}, run from the command line (see {@code NewsApplication}).
+ *
+ * <p>The file is split into chunks of about {@code news.import.chunk-size} ending on a line
+ * boundary. {@code news.import.parsers} threads parse chunks concurrently, each reading its chunk
+ * through a memory mapping rather than copying the file through the heap, and hand batches of
+ * {@code news.import.batch-size} news to {@code news.import.writers} threads writing them with
+ * unordered {@code insertMany}. At most two batches per writer wait to be written, which bounds
+ * memory use whatever the size of the file.</p>
+ *
+ * <p>Each chunk is recorded in a {@link NewsImportCheckpoint} once all its news are written: an
+ * import interrupted by a failure or a stop is resumed by running it again with the same
+ * checkpoint, news already created being recognized by their identifier. A news already present
+ * under the identifier of a line but holding other values belongs to another import: the import
+ * fails rather than skipping the line. Progress is logged every
+ * {@code news.import.progress-interval}.</p>
+ *
+ * <p>News are written without change events: the import runs in its own JVM, under the
+ * {@code import} profile where nothing observes them. The instances serving the API pick the
+ * news up at their next rebuild, or at once with the change stream.</p>
+ */
+@ApplicationScoped
+public class NewsImporter {
+
+    /** Code of the write errors of identifiers already present. */
+    private static final String DUPLICATE_KEY = "E11000";
+
+    /** Index named in the duplicate key errors on the identifier. */
+    private static final String ID_INDEX = " index: _id_ ";
+
+    private static final int LOGGED_REJECTIONS = 100;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsMapper newsMapper;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "news.import.chunk-size", defaultValue = "64M")
+    MemorySize chunkSize;
+
+    @ConfigProperty(name = "news.import.parsers", defaultValue = "4")
+    int parsers;
+
+    @ConfigProperty(name = "news.import.writers", defaultValue = "4")
+    int writers;
+
+    @ConfigProperty(name = "news.import.batch-size", defaultValue = "1000")
+    int batchSize;
+
+    @ConfigProperty(name = "news.import.progress-interval", defaultValue = "10s")
+    Duration progressInterval;
+
+    /**
+     * Imports a file, resuming from its checkpoint when one exists.
+     *
+     * @param checkpoint file recording the imported chunks, created when missing
+     * @throws IllegalArgumentException if the checkpoint does not match the file or the
+     *                                  configuration is invalid
+     * @throws IOException              if the file cannot be read or the checkpoint saved
+     */
+    public NewsImportReport importFile(Path file, Path checkpoint) throws IOException, InterruptedException {
+        return importFile(file, checkpoint, chunkSize.asLongValue());
+    }
+
+    NewsImportReport importFile(Path file, Path checkpoint, long chunkBytes) throws IOException, InterruptedException {
+        if (chunkBytes <= 0 || chunkBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 byte and 2G");
+        }
+        if (parsers <= 0 || writers <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Parsers, writers and batch size must be positive");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= NewsImportCheckpoint.MAX_FILE_SIZE) {
+                throw new IllegalArgumentException("File is too large to be imported");
+            }
+            return new Run(channel, chunkBounds(channel, chunkBytes),
+                NewsImportCheckpoint.open(checkpoint, size, chunkBytes)).execute();
+        }
+    }
+
+    /**
+     * Offsets of the chunks of a file, each chunk but the last ending just after a line feed:
+     * chunk {@code i} spans from {@code bounds[i]} to {@code bounds[i + 1]}.
+     */
+    static long[] chunkBounds(FileChannel channel, long chunkBytes) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkBytes >= size ? size : lineEnd(channel, buffer, start + chunkBytes - 1);
+            bounds.add(end);
+            start = end;
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Returns the offset following the first line feed at or after a position, or the file size.
+     */
+    private static long lineEnd(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * State of one import.
+     */
+    private final class Run {
+
+        private final FileChannel channel;
+
+        private final long[] bounds;
+
+        private final NewsImportCheckpoint checkpoint;
+
+        private final ObjectReader reader = objectMapper.readerFor(NewsWriteRequest.class);
+
+        private final Date now = new Date();
+
+        private final long started = System.nanoTime();
+
+        private final LongAdder lines = new LongAdder();
+
+        private final LongAdder inserted = new LongAdder();
+
+        private final LongAdder existing = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder bytesRead = new LongAdder();
+
+        private final AtomicInteger logged = new AtomicInteger();
+
+        /** First failure of a parser or a writer, stopping the import. */
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        /** Batches parsed but not yet written. */
+        private final Semaphore pendingBatches = new Semaphore(2 * writers);
+
+        private final ExecutorService writerPool = Executors.newFixedThreadPool(writers,
+            Thread.ofPlatform().name("news-import-writer-", 0).factory());
+
+        private long previousBytes;
+
+        Run(FileChannel channel, long[] bounds, NewsImportCheckpoint checkpoint) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.checkpoint = checkpoint;
+        }
+
+        NewsImportReport execute() throws IOException, InterruptedException {
+            int chunks = bounds.length - 1;
+            List<Integer> remaining = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                if (checkpoint.isDone(chunk)) {
+                    previousBytes += bounds[chunk + 1] - bounds[chunk];
+                } else {
+                    remaining.add(chunk);
+                }
+            }
+            Log.infof("Importing %d of %d chunks (%d MB)", remaining.size(), chunks, (size() - previousBytes) >> 20);
+
+            ExecutorService parserPool = Executors.newFixedThreadPool(parsers,
+                Thread.ofPlatform().name("news-import-parser-", 0).factory());
+            ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("news-import-progress").daemon().factory());
+            progress.scheduleAtFixedRate(this::logProgress, progressInterval.toMillis(), progressInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+            try {
+                List<Future<?>> parsed = new ArrayList<>();
+                for (int chunk : remaining) {
+                    parsed.add(parserPool.submit(() -> {
+                        parse(chunk);
+                        return null;
+                    }));
+                }
+                for (Future<?> result : parsed) {
+                    try {
+                        result.get();
+                    } catch (ExecutionException e) {
+                        failure.compareAndSet(null, e.getCause());
+                    }
+                }
+            } finally {
+                parserPool.shutdownNow();
+                writerPool.shutdown();
+                writerPool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                progress.shutdownNow();
+            }
+
+            Throwable failed = failure.get();
+            if (failed instanceof IOException e) {
+                throw e;
+            }
+            if (failed instanceof RuntimeException e) {
+                throw e;
+            }
+            if (failed != null) {
+                throw new IllegalStateException("Import failed", failed);
+            }
+            return new NewsImportReport(size(), bytesRead.sum(), chunks, chunks - remaining.size(), lines.sum(),
+                inserted.sum(), existing.sum(), rejected.sum(), Duration.ofNanos(System.nanoTime() - started));
+        }
+
+        private long size() {
+            return bounds[bounds.length - 1];
+        }
+
+        private void parse(int index) throws IOException, InterruptedException {
+            long from = bounds[index];
+            Chunk chunk = new Chunk(index, bounds[index + 1] - from);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, chunk.bytes);
+            byte[] line = new byte[4096];
+            List<NewsDocument> documents = new ArrayList<>(batchSize);
+            int limit = buffer.limit();
+            int position = 0;
+            boolean parsed = false;
+            try {
+                while (position < limit) {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    int end = position;
+                    while (end < limit && buffer.get(end) != '\n') {
+                        end++;
+                    }
+                    int length = end - position;
+                    if (length > 0 && buffer.get(end - 1) == '\r') {
+                        length--;
+                    }
+                    if (!isBlank(buffer, position, length)) {
+                        lines.increment();
+                        if (line.length < length) {
+                            line = new byte[Math.max(length, 2 * line.length)];
+                        }
+                        buffer.get(position, line, 0, length);
+                        NewsDocument document = read(line, length, from + position);
+                        if (document != null) {
+                            documents.add(document);
+                            if (documents.size() >= batchSize) {
+                                submit(chunk, documents);
+                                documents = new ArrayList<>(batchSize);
+                            }
+                        }
+                    }
+                    position = end + 1;
+                }
+                if (!documents.isEmpty()) {
+                    submit(chunk, documents);
+                }
+                parsed = true;
+            } finally {
+                chunk.failed |= !parsed;
+                chunk.release();
+            }
+        }
+
+        private static boolean isBlank(MappedByteBuffer buffer, int position, int length) {
+            for (int i = position; i < position + length; i++) {
+                if (buffer.get(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the news of a line, or {@code null} if the line is rejected.
+         */
+        private NewsDocument read(byte[] line, int length, long offset) throws IOException {
+            NewsWriteRequest request;
+            try {
+                request = reader.readValue(line, 0, length);
+            } catch (JsonProcessingException e) {
+                reject(offset, "Invalid JSON: " + e.getOriginalMessage());
+                return null;
+            }
+            String error = NewsBulkService.validate(request);
+            if (error != null) {
+                reject(offset, error);
+                return null;
+            }
+            NewsDocument document = newsMapper.toDocument(request);
+            document.id = checkpoint.id(offset);
+            if (document.dateCreated == null) {
+                document.dateCreated = now;
+            }
+            document.dateLastModified = now;
+            return document;
+        }
+
+        private void submit(Chunk chunk, List<NewsDocument> documents) throws InterruptedException {
+            pendingBatches.acquire();
+            chunk.pending.incrementAndGet();
+            writerPool.execute(() -> {
+                try {
+                    write(documents);
+                } catch (RuntimeException e) {
+                    chunk.failed = true;
+                    failure.compareAndSet(null, e);
+                } finally {
+                    pendingBatches.release();
+                    chunk.release();
+                }
+            });
+        }
+
+        private void write(List<NewsDocument> documents) {
+            Map<Integer, String> errors = newsRepository.insertUnordered(documents, false);
+            List<NewsDocument> duplicates = new ArrayList<>();
+            for (Map.Entry<Integer, String> error : errors.entrySet()) {
+                NewsDocument document = documents.get(error.getKey());
+                if (error.getValue().startsWith(DUPLICATE_KEY) && error.getValue().contains(ID_INDEX)) {
+                    duplicates.add(document);
+                } else {
+                    reject(NewsImportCheckpoint.offset(document.id), error.getValue());
+                }
+            }
+            checkResumed(duplicates);
+            existing.add(duplicates.size());
+            inserted.add(documents.size() - errors.size());
+        }
+
+        /**
+         * Checks that the news already present under the identifiers of these lines were created
+         * by a previous run of this import, from the same lines.
+         *
+         * @throws IllegalStateException if one of them holds other values
+         */
+        private void checkResumed(List<NewsDocument> duplicates) {
+            if (duplicates.isEmpty()) {
+                return;
+            }
+            Map<ObjectId, NewsDocument> stored = new HashMap<>();
+            newsRepository.find(new Document("_id", new Document("$in",
+                    duplicates.stream().map(document -> document.id).toList())))
+                .list()
+                .forEach(document -> stored.put(document.id, document));
+            for (NewsDocument document : duplicates) {
+                if (!sameLine(document, stored.get(document.id))) {
+                    throw new IllegalStateException("News " + document.id + " of the line at byte "
+                        + NewsImportCheckpoint.offset(document.id)
+                        + " already exists with other values: the checkpoint belongs to another import");
+                }
+            }
+        }
+
+        /**
+         * Whether a stored news was created from the same line, dates aside: those of a line
+         * without {@code dateCreated} depend on the run.
+         */
+        private static boolean sameLine(NewsDocument line, NewsDocument stored) {
+            return stored != null
+                && Objects.equals(line.title, stored.title)
+                && Objects.equals(line.catchLine, stored.catchLine)
+                && Objects.equals(line.isEvent, stored.isEvent)
+                && Objects.equals(line.language, stored.language)
+                && Objects.equals(line.status, stored.status)
+                && Objects.equals(line.userCreated, stored.userCreated);
+        }
+
+        private void reject(long offset, String error) {
+            rejected.increment();
+            int count = logged.incrementAndGet();
+            if (count <= LOGGED_REJECTIONS) {
+                Log.warnf("Line at byte %d rejected: %s%s", offset, error,
+                    count == LOGGED_REJECTIONS ? " (further rejections are not logged)" : "");
+            }
+        }
+
+        private void logProgress() {
+            long done = previousBytes + bytesRead.sum();
+            double seconds = Math.max(System.nanoTime() - started, 1) / 1e9;
+            Log.infof("Imported %d/%d MB (%.1f%%): %d news created, %d already present, %d rejected, %.0f news/s",
+                done >> 20, size() >> 20, size() == 0 ? 100.0 : 100.0 * done / size(), inserted.sum(),
+                existing.sum(), rejected.sum(), inserted.sum() / seconds);
+        }
+
+        /**
+         * A chunk being imported: recorded in the checkpoint once parsed and all its batches
+         * written, unless one of them failed.
+         */
+        private final class Chunk {
+
+            final int index;
+
+            final long bytes;
+
+            /** Batches being written, plus one while the chunk is parsed. */
+            final AtomicInteger pending = new AtomicInteger(1);
+
+            volatile boolean failed;
+
+            Chunk(int index, long bytes) {
+                this.index = index;
+                this.bytes = bytes;
+            }
+
+            void release() {
+                if (pending.decrementAndGet() == 0 && !failed) {
+                    try {
+                        checkpoint.complete(index);
+                        bytesRead.add(bytes);
+                    } catch (UncheckedIOException e) {
+                        failure.compareAndSet(null, e.getCause());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.gfoo.service;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.gfoo.dto.IndexDefinition;
+import org.gfoo.dto.IndexReport;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsIndexes;
+import org.gfoo.repository.NewsRepository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates the indexes declared in {@link NewsIndexes} and reports drift against the collection.
+ *
+ * <p>Missing indexes are created in the background at startup so that the application starts
+ * serving requests without waiting for index builds. The language of the text analysis is first
+ * set on the news written without it, and a text index overriding the language with another
+ * field is replaced.</p>
+ */
+@ApplicationScoped
+public class NewsIndexService {
+    
+    private static final String ID_INDEX = "_id_";
+    
+    @Inject
+    NewsRepository newsRepository;
+    
+    @Inject
+    ManagedExecutor executor;
+    
+    @ConfigProperty(name = "news.indexes.create-on-startup", defaultValue = "true")
+    boolean createOnStartup;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (!createOnStartup) {
+            return;
+        }
+        executor.runAsync(() -> {
+            long backfilled = newsRepository.backfillTextLanguage();
+            if (backfilled > 0) {
+                Log.infof("Set the text language of %d news", backfilled);
+            }
+            if (dropOutdatedTextIndex()) {
+                Log.infof("Dropped the outdated text index %s", NewsIndexes.TEXT);
+            }
+            List<String> created = createMissingIndexes();
+            if (!created.isEmpty()) {
+                Log.infof("Created news indexes %s", created);
+            }
+            IndexReport report = report();
+            if (!report.inSync()) {
+                Log.warnf("News indexes drift: mismatched=%s, unexpected=%s, missing=%s",
+                    report.mismatched(), report.unexpected(), report.missing());
+            }
+        }).exceptionally(e -> {
+            Log.errorf(e, "Unable to create news indexes");
+            return null;
+        });
+    }
+    
+    /**
+     * Creates the declared indexes that are absent from the collection.
+     *
+     * @return names of the created indexes
+     */
+    public List<String> createMissingIndexes() {
+        MongoCollection<NewsDocument> collection = newsRepository.mongoCollection();
+        List<String> existing = new ArrayList<>();
+        collection.listIndexes().forEach(index -> existing.add(index.getString("name")));
+        List<IndexModel> missing = NewsIndexes.declared().stream()
+            .filter(model -> !existing.contains(model.getOptions().getName()))
+            .toList();
+        if (missing.isEmpty()) {
+            return List.of();
+        }
+        return collection.createIndexes(missing);
+    }
+    
+    /**
+     * Drops the text index when it overrides the language with another field than
+     * {@link NewsIndexes#TEXT_LANGUAGE}, so that {@link #createMissingIndexes()} recreates it.
+     *
+     * @return whether the index was dropped
+     */
+    public boolean dropOutdatedTextIndex() {
+        MongoCollection<NewsDocument> collection = newsRepository.mongoCollection();
+        for (Document index : collection.listIndexes()) {
+            if (NewsIndexes.TEXT.equals(index.getString("name"))
+                    && !NewsIndexes.TEXT_LANGUAGE.equals(index.getString("language_override"))) {
+                collection.dropIndex(NewsIndexes.TEXT);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public IndexReport report() {
+        MongoCollection<NewsDocument> collection = newsRepository.mongoCollection();
+        List<IndexDefinition> declared = NewsIndexes.declared().stream()
+            .map(model -> new IndexDefinition(
+                model.getOptions().getName(),
+                toDocument(model.getKeys()),
+                model.getOptions().getPartialFilterExpression() != null
+                    ? toDocument(model.getOptions().getPartialFilterExpression()) : null,
+                model.getOptions().getLanguageOverride()))
+            .toList();
+        List<IndexDefinition> actual = new ArrayList<>();
+        collection.listIndexes().forEach(index -> actual.add(new IndexDefinition(
+            index.getString("name"),
+            keys(index),
+            index.get("partialFilterExpression", Document.class),
+            index.getString("language_override"))));
+        
+        Map<String, IndexDefinition> actualByName = new LinkedHashMap<>();
+        actual.forEach(index -> actualByName.put(index.name(), index));
+        List<String> missing = new ArrayList<>();
+        List<String> mismatched = new ArrayList<>();
+        for (IndexDefinition index : declared) {
+            IndexDefinition present = actualByName.remove(index.name());
+            if (present == null) {
+                missing.add(index.name());
+            } else if (!sameKeys(index.keys(), present.keys())
+                    || !Objects.equals(index.partialFilterExpression(), present.partialFilterExpression())
+                    || !Objects.equals(index.languageOverride(), present.languageOverride())) {
+                mismatched.add(index.name());
+            }
+        }
+        actualByName.remove(ID_INDEX);
+        List<String> unexpected = new ArrayList<>(actualByName.keySet());
+        
+        return new IndexReport(collection.getNamespace().getCollectionName(),
+            declared, actual, missing, mismatched, unexpected);
+    }
+    
+    /**
+     * Key pattern of an index in declaration form: MongoDB lists a text index as
+     * {@code {_fts: "text", _ftsx: 1}}, its fields being the keys of its weights.
+     */
+    static Document keys(Document index) {
+        Document key = index.get("key", Document.class);
+        if (!key.containsKey("_fts")) {
+            return key;
+        }
+        Document keys = new Document();
+        key.forEach((name, value) -> {
+            if ("_fts".equals(name)) {
+                index.get("weights", Document.class).keySet().stream().sorted()
+                    .forEach(field -> keys.append(field, "text"));
+            } else if (!"_ftsx".equals(name)) {
+                keys.append(name, value);
+            }
+        });
+        return keys;
+    }
+    
+    private static Document toDocument(Bson bson) {
+        return Document.parse(bson.toBsonDocument().toJson());
+    }
+    
+    /**
+     * Compares key patterns in order, ignoring the numeric type of directions (1, 1.0, 1L).
+     */
+    private static boolean sameKeys(Map<String, Object> declared, Map<String, Object> actual) {
+        if (declared.size() != actual.size()) {
+            return false;
+        }
+        Iterator<Map.Entry<String, Object>> actualKeys = actual.entrySet().iterator();
+        for (Map.Entry<String, Object> key : declared.entrySet()) {
+            Map.Entry<String, Object> other = actualKeys.next();
+            if (!key.getKey().equals(other.getKey()) || !sameDirection(key.getValue(), other.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean sameDirection(Object declared, Object actual) {
+        if (declared instanceof Number d && actual instanceof Number a) {
+            return d.intValue() == a.intValue();
+        }
+        return Objects.equals(declared, actual);
+    }
+}
@@ -0,0 +1,217 @@
+package org.gfoo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.NewsWriteRequest;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind creation of single news: writes are queued and coalesced into unordered
+ * {@code insertMany} batches, so that bursts of requests cost MongoDB a few round trips.
+ *
+ * <p>The queue is a lock-free {@link ConcurrentLinkedQueue} bounded by
+ * {@code news.ingest.capacity}: a slot is reserved with an atomic counter before the write is
+ * queued, and a write finding the queue full is rejected at once instead of waiting. A single
+ * writer thread sends a batch as soon as {@code news.ingest.batch-size} writes are waiting, or
+ * once the oldest one has waited {@code news.ingest.max-delay}.</p>
+ *
+ * <p>Each write returns a future completed once its batch is acknowledged by MongoDB, with the
+ * write concern of the connection, or failed with the reason MongoDB refused the news. Queued
+ * writes are flushed before shutdown. With {@code news.ingest.enabled=false} the writer is not
+ * started and every write is rejected.</p>
+ */
+@ApplicationScoped
+public class NewsIngestionQueue implements MeterBinder {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsMapper newsMapper;
+
+    @ConfigProperty(name = "news.ingest.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "news.ingest.capacity", defaultValue = "10000")
+    int capacity;
+
+    @ConfigProperty(name = "news.ingest.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "news.ingest.max-delay", defaultValue = "20ms")
+    Duration maxDelay;
+
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Reserved slots: queued writes and writes being queued.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean running;
+
+    private volatile Thread writer;
+
+    private Counter rejected;
+
+    private DistributionSummary batches;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("news-ingestion").daemon().start(this::run);
+    }
+
+    void onStop(@Observes ShutdownEvent event) throws InterruptedException {
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            LockSupport.unpark(current);
+            current.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("news.ingest.queue.size", size, AtomicInteger::get)
+            .description("Writes waiting in the ingestion queue")
+            .register(registry);
+        rejected = Counter.builder("news.ingest.rejected")
+            .description("Writes rejected because the ingestion queue was full")
+            .register(registry);
+        batches = DistributionSummary.builder("news.ingest.batch.size")
+            .description("News written per batch")
+            .register(registry);
+    }
+
+    /**
+     * Queues the creation of a news.
+     *
+     * @return future completed with the created news once written
+     * @throws IllegalArgumentException   if the news is invalid
+     * @throws RejectedExecutionException if the queue is full or the application stopping
+     */
+    public CompletableFuture<NewsResponse> create(NewsWriteRequest request) {
+        String error = NewsBulkService.validate(request);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new RejectedExecutionException("The ingestion queue is full");
+        }
+        // Checked once the slot is reserved: the writer only stops when no slot is left
+        if (!running) {
+            size.decrementAndGet();
+            throw new RejectedExecutionException("The ingestion queue is stopped");
+        }
+        NewsDocument document = newsMapper.toDocument(request);
+        document.id = new ObjectId();
+        document.dateLastModified = new Date();
+        if (document.dateCreated == null) {
+            document.dateCreated = document.dateLastModified;
+        }
+        Pending pending = new Pending(document, System.nanoTime(), new CompletableFuture<>());
+        queue.add(pending);
+        int queued = size.get();
+        // Wakes the writer up to start the delay of a first write, or to send a full batch
+        if (queued == 1 || queued >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return pending.result();
+    }
+
+    /**
+     * Number of writes waiting.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private void run() {
+        long maxDelayNanos = maxDelay.toNanos();
+        while (true) {
+            Pending oldest = queue.peek();
+            if (oldest == null) {
+                if (!running && size.get() == 0) {
+                    return;
+                }
+                LockSupport.parkNanos(this, maxDelayNanos);
+                continue;
+            }
+            long wait = oldest.queued() + maxDelayNanos - System.nanoTime();
+            if (running && wait > 0 && size.get() < batchSize) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            write(drain());
+        }
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        Pending next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void write(List<Pending> batch) {
+        List<NewsDocument> documents = batch.stream().map(Pending::document).toList();
+        Map<Integer, String> errors;
+        try {
+            errors = newsRepository.insertUnordered(documents, true);
+        } catch (RuntimeException e) {
+            Log.errorf(e, "Unable to write a batch of %d news", batch.size());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        if (batches != null) {
+            batches.record(batch.size());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            String error = errors.get(i);
+            if (error == null) {
+                pending.result().complete(newsMapper.toResponse(pending.document()));
+            } else {
+                pending.result().completeExceptionally(new IllegalArgumentException(error));
+            }
+        }
+    }
+
+    private record Pending(NewsDocument document, long queued, CompletableFuture<NewsResponse> result) {}
+}
@@ -0,0 +1,136 @@
+package org.gfoo.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsSearchHit;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsIndexes;
+import org.gfoo.repository.NewsRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Full-text search over the title and catchLine of the news, backed by the
+ * {@link NewsIndexes#TEXT} index.
+ *
+ * <p>Documents are stemmed in their own language when indexed, and search terms only match
+ * when analyzed in the same language. A search restricted to a language of
+ * {@code news.search.languages} is analyzed in that language; without language, each of these
+ * languages is searched with its own analysis, the remaining documents without stemming, and the
+ * results are merged by score. Any other language is searched without stemming.</p>
+ *
+ * <p>Searches of usable news are served by {@link NewsTextIndex} once it is built.</p>
+ */
+@ApplicationScoped
+@Timed("news.service")
+public class NewsSearchService {
+    
+    static final String NO_ANALYSIS = NewsIndexes.NO_ANALYSIS;
+    
+    static final Comparator<NewsSearchHit> RELEVANCE = Comparator
+        .comparingDouble((NewsSearchHit hit) -> hit.score).reversed()
+        .thenComparing(hit -> hit.dateCreated, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(hit -> hit.id, Comparator.reverseOrder());
+    
+    @Inject
+    NewsRepository newsRepository;
+    
+    @Inject
+    NewsMapper newsMapper;
+    
+    @Inject
+    NewsTextIndex newsTextIndex;
+    
+    @ConfigProperty(name = "news.search.languages", defaultValue = "fr,en")
+    List<String> languages;
+    
+    @ConfigProperty(name = "news.search.max-query-length", defaultValue = "200")
+    int maxQueryLength;
+    
+    /**
+     * Returns the given page of the news matching the terms and selected by the filter, most
+     * relevant first.
+     *
+     * @param text   terms, {@code "quoted phrases"} and {@code -excluded} terms
+     * @throws IllegalArgumentException if the text is blank or too long, or the page is invalid
+     */
+    public List<NewsResponse> search(String text, NewsFilter filter, int page, int size) {
+        String terms = checkText(text);
+        NewsService.checkPage(page, size);
+        Optional<List<NewsResponse>> fromIndex = newsTextIndex.search(terms, filter, page, size);
+        if (fromIndex.isPresent()) {
+            return fromIndex.get();
+        }
+        List<NewsSearchHit> hits;
+        if (filter.language() != null) {
+            hits = newsRepository.search(terms, analysis(filter.language()), filter.toQuery(), page * size, size);
+        } else {
+            hits = merge(terms, filter, page, size);
+        }
+        return hits.stream().<NewsResponse>map(newsMapper::toSummaryResponse).toList();
+    }
+    
+    /**
+     * Counts the news matching the terms and selected by the filter.
+     */
+    public long count(String text, NewsFilter filter) {
+        String terms = checkText(text);
+        Optional<Long> fromIndex = newsTextIndex.count(terms, filter);
+        if (fromIndex.isPresent()) {
+            return fromIndex.get();
+        }
+        if (filter.language() != null) {
+            return newsRepository.countSearch(terms, analysis(filter.language()), filter.toQuery());
+        }
+        long count = newsRepository.countSearch(terms, NO_ANALYSIS, otherLanguages(filter));
+        for (String language : languages) {
+            count += newsRepository.countSearch(terms, language, languageQuery(filter, language));
+        }
+        return count;
+    }
+    
+    /**
+     * Reads the first {@code (page + 1) * size} hits of each language and keeps the requested
+     * page of their union.
+     */
+    private List<NewsSearchHit> merge(String terms, NewsFilter filter, int page, int size) {
+        int window = Math.multiplyExact(page + 1, size);
+        List<NewsSearchHit> hits = new ArrayList<>(newsRepository.search(terms, NO_ANALYSIS, otherLanguages(filter), 0, window));
+        for (String language : languages) {
+            hits.addAll(newsRepository.search(terms, language, languageQuery(filter, language), 0, window));
+        }
+        hits.sort(RELEVANCE);
+        int from = Math.min(page * size, hits.size());
+        return hits.subList(from, Math.min(from + size, hits.size()));
+    }
+    
+    private String analysis(String language) {
+        return languages.contains(language) ? language : NO_ANALYSIS;
+    }
+    
+    private static Document languageQuery(NewsFilter filter, String language) {
+        return filter.toQuery().append("language", language);
+    }
+    
+    private Document otherLanguages(NewsFilter filter) {
+        return filter.toQuery().append("language", new Document("$nin", languages));
+    }
+    
+    private String checkText(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search terms are required");
+        }
+        if (text.length() > maxQueryLength) {
+            throw new IllegalArgumentException("Search terms must not exceed " + maxQueryLength + " characters");
+        }
+        return text.trim();
+    }
+}
@@ -1,16 +1,28 @@
 package org.gfoo.service;
 
+import org.gfoo.dto.NewsBatchResponse;
 import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsSummary;
 import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsCursor;
+import org.gfoo.repository.NewsFilter;
 import org.gfoo.repository.NewsRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @ApplicationScoped
+@Timed("news.service")
 public class NewsService {
     
     @Inject
@@ -19,34 +31,213 @@ public class NewsService {
     @Inject
     NewsMapper newsMapper;
     
+    @Inject
+    NewsCache newsCache;
+    
+    @Inject
+    UsableNewsView usableNewsView;
+    
+    @ConfigProperty(name = "news.batch.max-ids", defaultValue = "100")
+    int maxBatchIds;
+    
     public List<NewsResponse> getNews(int page, int size) {
-        if (page < 0) {
-            throw new IllegalArgumentException("Page must be >= 0");
+        return getNews(NewsFilter.ALL, page, size);
+    }
+    
+    /**
+     * Returns the given page of the news selected by the filter, most recent first. Lists of
+     * usable news are served by {@link UsableNewsView} once it is built.
+     */
+    public List<NewsResponse> getNews(NewsFilter filter, int page, int size) {
+        checkPage(page, size);
+        Optional<List<NewsResponse>> fromView = usableNewsView.page(filter, page, size);
+        if (fromView.isPresent()) {
+            return fromView.get();
         }
-        if (size <= 0) {
-            throw new IllegalArgumentException("Size must be > 0");
+        return newsRepository.findResponses(filter, page, size);
+    }
+    
+    public NewsSlice getNewsAfter(String after, int size) {
+        return getNewsAfter(NewsFilter.ALL, after, size);
+    }
+    
+    /**
+     * Returns the slice of news selected by the filter following the given cursor, using an
+     * index range scan so that every slice costs the same whatever its depth.
+     *
+     * @param filter criteria of the news to return
+     * @param after  opaque cursor returned with the previous slice, {@code null} or blank for the first one
+     * @param size   maximum number of items in the slice
+     * @throws IllegalArgumentException if the size is invalid or the cursor cannot be decoded
+     */
+    public NewsSlice getNewsAfter(NewsFilter filter, String after, int size) {
+        checkSize(size);
+        NewsCursor cursor = decodeCursor(after);
+        Optional<NewsSlice> fromView = usableNewsView.slice(filter, cursor, size);
+        if (fromView.isPresent()) {
+            return fromView.get();
         }
-        return newsMapper.toResponseList(
-            newsRepository.findAll()
-                .page(page, size)
-                .list()
-        );
+        // Fetch one extra document to know whether another slice follows
+        List<NewsSummary> summaries = newsRepository.findSummariesAfter(filter, cursor, size + 1);
+        return slice(summaries, size, newsMapper);
+    }
+    
+    /**
+     * Streams every news selected by the filter, reading {@code batchSize} documents per round
+     * trip. The stream must be closed to release the underlying cursor.
+     */
+    public Stream<NewsResponse> streamNews(NewsFilter filter, int batchSize) {
+        return newsRepository.streamResponses(filter, batchSize);
     }
     
     public Optional<NewsResponse> getNewsById(String id) {
-        if (id == null || id.trim().isEmpty()) {
+        return getVersionedNewsById(id).map(VersionedNews::news);
+    }
+    
+    /**
+     * Returns the news with the given id along with its validators, served from
+     * {@link NewsCache} when possible.
+     */
+    public Optional<VersionedNews> getVersionedNewsById(String id) {
+        String key = NewsCache.key(id);
+        if (key == null) {
             return Optional.empty();
         }
-        try {
-            return newsRepository.findByIdOptional(new ObjectId(id))
-                .map(newsMapper::toResponse);
-        } catch (IllegalArgumentException e) {
-            // Invalid ObjectId format
-            return Optional.empty();
+        return newsCache.get(key, this::loadNewsById);
+    }
+    
+    private Optional<VersionedNews> loadNewsById(String id) {
+        return newsRepository.findSummaryById(new ObjectId(id))
+            .map(summary -> VersionedNews.of(newsMapper.toSummaryResponse(summary), summary.dateLastModified));
+    }
+    
+    /**
+     * Returns the news with the given ids in request order, along with the ids matching no news.
+     * Ids found in {@link NewsCache} are served from it; the others are read with a single query,
+     * whose results are cached.
+     *
+     * @throws IllegalArgumentException if no id is given, more than {@code news.batch.max-ids}
+     *                                  are given or an id is not a valid ObjectId
+     */
+    public NewsBatchResponse getNewsByIds(List<String> ids) {
+        Map<String, String> requested = checkIds(ids, maxBatchIds);
+        Map<String, Optional<VersionedNews>> found = new LinkedHashMap<>();
+        Map<ObjectId, Long> misses = lookupCached(requested.keySet(), newsCache, found);
+        if (!misses.isEmpty()) {
+            cacheLoaded(misses, newsRepository.findSummariesByIds(misses.keySet()), found, newsCache, newsMapper);
         }
+        return batch(requested, found);
     }
     
     public long count() {
         return newsRepository.count();
     }
+    
+    static void checkPage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be >= 0");
+        }
+        checkSize(size);
+        // Offsets are ints for MongoDB and the in-memory indexes, the end of the page included
+        if ((page + 1L) * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("(page + 1) * size must not exceed " + Integer.MAX_VALUE);
+        }
+    }
+    
+    static void checkSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be > 0");
+        }
+    }
+    
+    /**
+     * Validates the ids of a batch lookup.
+     *
+     * @return the distinct normalized ids, in request order, mapped to the id as requested
+     */
+    static Map<String, String> checkIds(List<String> ids, int max) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.size() > max) {
+            throw new IllegalArgumentException("At most " + max + " ids can be requested at once");
+        }
+        Map<String, String> requested = new LinkedHashMap<>();
+        for (String id : ids) {
+            String key = NewsCache.key(id);
+            if (key == null) {
+                throw new IllegalArgumentException("Invalid id: " + id);
+            }
+            requested.putIfAbsent(key, id.trim());
+        }
+        return requested;
+    }
+    
+    /**
+     * Adds the cached entries of the given ids to {@code found}.
+     *
+     * @return the ids missing from the cache, in request order, with their cache version read
+     *         before the query that looks them up
+     */
+    static Map<ObjectId, Long> lookupCached(Collection<String> keys, NewsCache cache,
+            Map<String, Optional<VersionedNews>> found) {
+        Map<ObjectId, Long> misses = new LinkedHashMap<>();
+        for (String key : keys) {
+            Optional<VersionedNews> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                misses.put(new ObjectId(key), cache.version(key));
+            }
+        }
+        return misses;
+    }
+    
+    /**
+     * Adds the news read for the missed ids to {@code found} and to the cache, ids matching no
+     * news being cached as absent. The news invalidated while the query ran are returned but
+     * not cached.
+     */
+    static void cacheLoaded(Map<ObjectId, Long> misses, List<NewsSummary> summaries,
+            Map<String, Optional<VersionedNews>> found, NewsCache cache, NewsMapper mapper) {
+        for (NewsSummary summary : summaries) {
+            found.put(summary.id.toHexString(),
+                Optional.of(VersionedNews.of(mapper.toSummaryResponse(summary), summary.dateLastModified)));
+        }
+        misses.forEach((miss, version) -> {
+            String key = miss.toHexString();
+            cache.put(key, found.computeIfAbsent(key, absent -> Optional.empty()), version);
+        });
+    }
+    
+    static NewsBatchResponse batch(Map<String, String> requested, Map<String, Optional<VersionedNews>> found) {
+        List<NewsResponse> data = new ArrayList<>(requested.size());
+        List<String> missing = new ArrayList<>();
+        requested.forEach((key, id) -> {
+            Optional<VersionedNews> news = found.getOrDefault(key, Optional.empty());
+            if (news.isPresent()) {
+                data.add(news.get().news());
+            } else {
+                missing.add(id);
+            }
+        });
+        return new NewsBatchResponse(data, missing);
+    }
+    
+    static NewsCursor decodeCursor(String after) {
+        return after == null || after.isBlank() ? null : NewsCursor.decode(after);
+    }
+    
+    /**
+     * Builds the slice of {@code size} items from summaries fetched with one extra item, whose
+     * presence tells that another slice follows.
+     */
+    static NewsSlice slice(List<NewsSummary> summaries, int size, NewsMapper mapper) {
+        String next = null;
+        if (summaries.size() > size) {
+            summaries = summaries.subList(0, size);
+            next = NewsCursor.of(summaries.get(size - 1)).encode();
+        }
+        return new NewsSlice(mapper.toSummaryResponseList(summaries), next);
+    }
 }
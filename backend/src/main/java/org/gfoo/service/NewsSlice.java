@@ -0,0 +1,16 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+
+import java.util.List;
+
+/**
+ * A page of news read in keyset order.
+ *
+ * @param data List of items for the current slice
+ * @param next Opaque cursor for the following slice, {@code null} when there is none
+ */
+public record NewsSlice(
+    List<NewsResponse> data,
+    String next
+) {}
@@ -0,0 +1,156 @@
+package org.gfoo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.gfoo.dto.NewsStats;
+import org.gfoo.dto.NewsStatsBucket;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Dashboard statistics of the news: counts by language, type and status, and a histogram of the
+ * creation dates.
+ *
+ * <p>All of them are computed by a single aggregation whose {@code $facet} stage counts the
+ * selected news along each dimension, instead of one count per value. Results are cached by
+ * filter and interval, at most {@code news.stats.cache-size} of them, until the next
+ * {@link NewsChangeEvent} or for {@code news.stats.ttl} at most, which bounds the staleness due to
+ * writes made outside of this application.</p>
+ */
+@ApplicationScoped
+@Timed("news.service")
+public class NewsStatsService {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @ConfigProperty(name = "news.stats.cache-size", defaultValue = "100")
+    long cacheSize;
+
+    @ConfigProperty(name = "news.stats.ttl", defaultValue = "5m")
+    Duration ttl;
+
+    private Cache<Key, Entry> cache;
+
+    /**
+     * Incremented on each change: entries computed before a change are not served, even when
+     * they were stored after it.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    void onChange(@Observes NewsChangeEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    void onBatch(@Observes NewsBatchInsertedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the statistics of the news selected by the filter.
+     */
+    public NewsStats stats(NewsFilter filter, StatsInterval interval) {
+        Key key = new Key(filter == null ? NewsFilter.ALL : filter, interval);
+        Entry entry = cache.get(key, this::load);
+        if (entry.generation() != generation.get()) {
+            entry = load(key);
+            cache.put(key, entry);
+        }
+        return entry.stats();
+    }
+
+    private Entry load(Key key) {
+        long current = generation.get();
+        return new Entry(current, aggregate(key.filter(), key.interval()));
+    }
+
+    private NewsStats aggregate(NewsFilter filter, StatsInterval interval) {
+        List<Document> pipeline = new ArrayList<>();
+        Document query = filter.toQuery();
+        if (!query.isEmpty()) {
+            pipeline.add(new Document("$match", query));
+        }
+        pipeline.add(new Document("$project", new Document("_id", 0)
+            .append("language", 1).append("status", 1).append("isEvent", 1).append("dateCreated", 1)));
+        pipeline.add(new Document("$facet", new Document()
+            .append("total", List.of(new Document("$count", "count")))
+            .append("language", countBy("$language"))
+            .append("type", countBy("$isEvent"))
+            .append("status", countBy("$status"))
+            .append("created", List.of(
+                new Document("$match", new Document("dateCreated", new Document("$type", "date"))),
+                new Document("$group", new Document("_id", new Document("$dateToString",
+                        new Document("format", interval.format()).append("date", "$dateCreated").append("timezone", "UTC")))
+                    .append("count", new Document("$sum", 1))),
+                new Document("$sort", new Document("_id", 1))))));
+
+        Document facets = newsRepository.mongoCollection().aggregate(pipeline, Document.class).first();
+        List<Document> total = facets.getList("total", Document.class);
+        List<NewsStatsBucket> created = facets.getList("created", Document.class).stream()
+            .map(bucket -> new NewsStatsBucket(bucket.getString("_id"), count(bucket)))
+            .toList();
+        return new NewsStats(
+            total.isEmpty() ? 0 : count(total.get(0)),
+            counts(facets, "language", value -> (String) value),
+            counts(facets, "type", value -> (Boolean) value ? "event" : "news"),
+            counts(facets, "status", value -> (String) value),
+            interval.name().toLowerCase(Locale.ROOT),
+            created);
+    }
+
+    /**
+     * Sub-pipeline counting the news by value of a field, largest counts first.
+     */
+    private static List<Document> countBy(String field) {
+        return List.of(
+            new Document("$group", new Document("_id", field).append("count", new Document("$sum", 1))),
+            new Document("$sort", new Document("count", -1).append("_id", 1)));
+    }
+
+    private static Map<String, Long> counts(Document facets, String facet, Function<Object, String> key) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Document group : facets.getList(facet, Document.class)) {
+            Object value = group.get("_id");
+            // Documents without the field are grouped under null
+            counts.merge(value == null ? NewsStats.UNKNOWN : key.apply(value), count(group), Long::sum);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static long count(Document group) {
+        return group.get("count", Number.class).longValue();
+    }
+
+    private record Key(NewsFilter filter, StatsInterval interval) {}
+
+    private record Entry(long generation, NewsStats stats) {}
+}
@@ -0,0 +1,175 @@
+package org.gfoo.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.gfoo.dto.NewsSuggestion;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.search.SuggestionTrie;
+import org.gfoo.search.TextAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Title suggestions of the usable news, served from one {@link SuggestionTrie} per language.
+ *
+ * <p>Titles are matched on their beginning, ignoring case, accents and punctuation, and the most
+ * recently created news come first. The tries are built in the background at startup and rebuilt
+ * every {@code news.suggest.rebuild-interval} once news have been written, then swapped in one
+ * reference assignment: readers never wait for a build and always see a consistent snapshot.
+ * Until the first build completes, or with {@code news.suggest.enabled=false}, there is no
+ * suggestion.</p>
+ */
+@ApplicationScoped
+@Timed("news.service")
+public class NewsSuggestService {
+
+    private static final Comparator<SuggestionTrie.Suggestion<NewsSuggestion>> MOST_RECENT = Comparator
+        .comparingLong((SuggestionTrie.Suggestion<NewsSuggestion> suggestion) -> suggestion.weight()).reversed();
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @ConfigProperty(name = "news.suggest.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "news.suggest.max-size", defaultValue = "20")
+    int maxSize;
+
+    @ConfigProperty(name = "news.suggest.max-prefix-length", defaultValue = "100")
+    int maxPrefixLength;
+
+    /**
+     * Tries by language of the news, {@code null} until the first build.
+     */
+    private volatile Map<String, SuggestionTrie<NewsSuggestion>> tries;
+
+    /**
+     * Whether news were written since the start of the last build.
+     */
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    private final Object rebuildLock = new Object();
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        executor.runAsync(this::rebuild).exceptionally(e -> {
+            Log.errorf(e, "Unable to build the news suggestions, no suggestion is served until the next build");
+            return null;
+        });
+    }
+
+    void onChange(@Observes NewsChangeEvent event) {
+        stale.set(true);
+    }
+
+    void onBatch(@Observes NewsBatchInsertedEvent event) {
+        stale.set(true);
+    }
+
+    public boolean isWarm() {
+        return tries != null;
+    }
+
+    /**
+     * Returns at most {@code size} news whose title starts with the prefix, most recent first,
+     * or none while the tries are not built.
+     *
+     * @param language language of the news, {@code null} for any
+     * @throws IllegalArgumentException if the prefix is blank or too long, or the size is invalid
+     */
+    public List<NewsSuggestion> suggest(String prefix, String language, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Suggestion prefix is required");
+        }
+        if (prefix.length() > maxPrefixLength) {
+            throw new IllegalArgumentException("Suggestion prefix must not exceed " + maxPrefixLength + " characters");
+        }
+        if (size <= 0 || size > maxSize) {
+            throw new IllegalArgumentException("Size must be between 1 and " + maxSize);
+        }
+        Map<String, SuggestionTrie<NewsSuggestion>> current = tries;
+        if (current == null) {
+            // MongoDB cannot match folded titles without scanning the collection
+            return List.of();
+        }
+        String key = TextAnalyzer.fold(prefix);
+        Collection<SuggestionTrie<NewsSuggestion>> searched = language == null
+            ? current.values()
+            : current.containsKey(language) ? List.of(current.get(language)) : List.of();
+        return searched.stream()
+            .flatMap(trie -> trie.suggest(key, size).stream())
+            .sorted(MOST_RECENT)
+            .limit(size)
+            .map(SuggestionTrie.Suggestion::value)
+            .toList();
+    }
+
+    /**
+     * Number of titles that can be suggested.
+     */
+    public int size() {
+        Map<String, SuggestionTrie<NewsSuggestion>> current = tries;
+        return current == null ? 0 : current.values().stream().mapToInt(SuggestionTrie::size).sum();
+    }
+
+    /**
+     * Rebuilds the tries when news were written since the last build.
+     */
+    @Scheduled(every = "${news.suggest.rebuild-interval:30s}", delayed = "${news.suggest.rebuild-interval:30s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void refresh() {
+        if (enabled && stale.get()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reads the usable news and replaces the tries.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            stale.set(false);
+            Map<String, List<SuggestionTrie.Entry<NewsSuggestion>>> entries = new HashMap<>();
+            try (Stream<NewsSummary> summaries = newsRepository.streamSummaries(UsableNewsReplica.USABLE_FILTER,
+                    UsableNewsReplica.BUILD_BATCH_SIZE)) {
+                summaries.filter(summary -> summary.title != null).forEach(summary -> entries
+                    .computeIfAbsent(summary.language, language -> new ArrayList<>())
+                    .add(new SuggestionTrie.Entry<>(TextAnalyzer.fold(summary.title),
+                        summary.dateCreated == null ? Long.MIN_VALUE : summary.dateCreated.getTime(),
+                        suggestion(summary))));
+            } catch (RuntimeException e) {
+                stale.set(true);
+                throw e;
+            }
+            Map<String, SuggestionTrie<NewsSuggestion>> built = new HashMap<>();
+            entries.forEach((language, languageEntries) -> built.put(language, SuggestionTrie.build(languageEntries)));
+            tries = built;
+        }
+    }
+
+    private static NewsSuggestion suggestion(NewsSummary summary) {
+        return new NewsSuggestion(summary.id.toHexString(), summary.title, summary.language);
+    }
+}
@@ -0,0 +1,311 @@
+package org.gfoo.service;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.search.AnalyzedText;
+import org.gfoo.search.InvertedIndex;
+import org.gfoo.search.TextAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * In-memory full-text index of the usable news, serving the searches restricted to
+ * {@code status=usable} without querying MongoDB.
+ *
+ * <p>Title and catchLine are analyzed with the {@link TextAnalyzer} of the news language, the
+ * title counting {@value #TITLE_WEIGHT} times, and ranked by BM25 in an {@link InvertedIndex}.
+ * Without language filter, the terms are analyzed with each analyzer and matched against the
+ * news of that analyzer, the hits being merged by score, as the MongoDB text search does.</p>
+ *
+ * <p>The index is a {@link UsableNewsReplica}. Its builds read {@code news.search.index.partitions}
+ * ranges of ids concurrently, at startup, every {@code news.search.index.rebuild-interval} and
+ * once removed news make up a third of it. Searches it cannot answer, for instance on creation
+ * dates or while it is not built, go to the MongoDB text index.</p>
+ */
+@ApplicationScoped
+public class NewsTextIndex {
+    
+    static final int TITLE_WEIGHT = 3;
+    
+    /** Removed news below which the index is not compacted, whatever its size. */
+    private static final int MIN_DELETED_BEFORE_REBUILD = 1000;
+    
+    private static final Comparator<InvertedIndex.Hit<Entry>> RELEVANCE = Comparator
+        .comparingDouble((InvertedIndex.Hit<Entry> hit) -> hit.score()).reversed()
+        .thenComparing(InvertedIndex.Hit::item, UsableNewsReplica.KEYSET_ORDER);
+    
+    @Inject
+    NewsRepository newsRepository;
+    
+    @Inject
+    NewsMapper newsMapper;
+    
+    @Inject
+    ManagedExecutor executor;
+    
+    @ConfigProperty(name = "news.search.index.enabled", defaultValue = "true")
+    boolean enabled;
+    
+    @ConfigProperty(name = "news.search.index.partitions", defaultValue = "4")
+    int partitions;
+    
+    /**
+     * Current index, {@code null} until the first build.
+     */
+    private volatile InvertedIndex<Entry> index;
+    
+    /**
+     * Document ids of the indexed news. Guarded by {@link #replica}.
+     */
+    private final Map<ObjectId, Integer> docs = new HashMap<>();
+    
+    private final UsableNewsReplica<Built> replica = new UsableNewsReplica<>() {
+        
+        @Override
+        protected Built load() {
+            InvertedIndex<Entry> built = new InvertedIndex<>(KEYSET_ORDER);
+            Map<ObjectId, Integer> builtDocs = new HashMap<>();
+            for (List<Indexed> part : scan()) {
+                for (Indexed indexed : part) {
+                    builtDocs.put(indexed.entry().id(), built.add(indexed.entry(), indexed.text()));
+                }
+            }
+            return new Built(built, builtDocs);
+        }
+        
+        @Override
+        protected void install(Built built) {
+            index = built.index();
+            docs.clear();
+            docs.putAll(built.docs());
+        }
+        
+        @Override
+        protected void put(ObjectId id, NewsDocument usable) {
+            remove(id);
+            if (usable != null) {
+                Indexed added = indexed(usable.id, usable.dateCreated, usable.language, usable.isEvent,
+                    usable.title, usable.catchLine, newsMapper.toResponse(usable));
+                docs.put(usable.id, index.add(added.entry(), added.text()));
+            }
+        }
+        
+        @Override
+        protected void clear() {
+            docs.clear();
+            index = new InvertedIndex<>(KEYSET_ORDER);
+        }
+        
+        @Override
+        protected void invalidated() {
+            executor.runAsync(NewsTextIndex.this::rebuild);
+        }
+    };
+    
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        executor.runAsync(this::rebuild).exceptionally(e -> {
+            Log.errorf(e, "Unable to build the news text index, searches are served by MongoDB");
+            return null;
+        });
+    }
+    
+    public boolean isWarm() {
+        return index != null;
+    }
+    
+    public boolean supports(NewsFilter filter) {
+        return enabled && filter != null && UsableNewsReplica.USABLE.equals(filter.status()) && !filter.hasDateRange();
+    }
+    
+    /**
+     * Returns the given page of the news matching the text and selected by the filter, most
+     * relevant first, or an empty optional when the index cannot answer and MongoDB must be
+     * queried.
+     */
+    public Optional<List<NewsResponse>> search(String text, NewsFilter filter, int page, int size) {
+        InvertedIndex<Entry> current = index;
+        if (current == null || !supports(filter)) {
+            return Optional.empty();
+        }
+        int limit = Math.multiplyExact(page + 1, size);
+        List<InvertedIndex.Hit<Entry>> hits;
+        if (filter.language() != null) {
+            TextAnalyzer analyzer = TextAnalyzer.forLanguage(filter.language());
+            hits = current.search(analyzer.analyze(text), entry -> accepts(filter, entry), limit);
+        } else {
+            hits = new ArrayList<>();
+            for (TextAnalyzer analyzer : TextAnalyzer.values()) {
+                hits.addAll(current.search(analyzer.analyze(text),
+                    entry -> entry.analyzer() == analyzer && accepts(filter, entry), limit));
+            }
+            hits.sort(RELEVANCE);
+        }
+        int from = Math.min(page * size, hits.size());
+        return Optional.of(hits.subList(from, Math.min(limit, hits.size())).stream()
+            .map(hit -> hit.item().response())
+            .toList());
+    }
+    
+    /**
+     * Counts the news matching the text and selected by the filter, or returns an empty optional
+     * when the index cannot answer.
+     */
+    public Optional<Long> count(String text, NewsFilter filter) {
+        InvertedIndex<Entry> current = index;
+        if (current == null || !supports(filter)) {
+            return Optional.empty();
+        }
+        if (filter.language() != null) {
+            TextAnalyzer analyzer = TextAnalyzer.forLanguage(filter.language());
+            return Optional.of(current.count(analyzer.analyze(text), entry -> accepts(filter, entry)));
+        }
+        long count = 0;
+        for (TextAnalyzer analyzer : TextAnalyzer.values()) {
+            count += current.count(analyzer.analyze(text), entry -> entry.analyzer() == analyzer && accepts(filter, entry));
+        }
+        return Optional.of(count);
+    }
+    
+    /**
+     * Number of news in the index.
+     */
+    public int size() {
+        InvertedIndex<Entry> current = index;
+        return current == null ? 0 : current.size();
+    }
+    
+    /**
+     * Reloads the index from the collection, dropping the removed news.
+     */
+    @Scheduled(every = "${news.search.index.rebuild-interval:1h}", delayed = "${news.search.index.rebuild-interval:1h}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void rebuild() {
+        if (enabled) {
+            replica.rebuild();
+        }
+    }
+    
+    void onChange(@Observes NewsChangeEvent event) {
+        if (enabled) {
+            replica.onChange(event);
+        }
+    }
+    
+    void onBatch(@Observes NewsBatchInsertedEvent event) {
+        if (enabled) {
+            replica.onBatch(event);
+        }
+    }
+    
+    /**
+     * Reads and analyzes the usable news, splitting the id range between the creation times of
+     * the first and last ones into {@code partitions} ranges read concurrently.
+     */
+    private List<List<Indexed>> scan() {
+        Optional<ObjectId> first = newsRepository.findBoundaryId(UsableNewsReplica.USABLE_FILTER, false);
+        Optional<ObjectId> last = newsRepository.findBoundaryId(UsableNewsReplica.USABLE_FILTER, true);
+        if (first.isEmpty() || last.isEmpty()) {
+            return List.of();
+        }
+        List<ObjectId> bounds = bounds(first.get(), last.get(), Math.max(partitions, 1));
+        List<CompletableFuture<List<Indexed>>> parts = new ArrayList<>();
+        for (int i = 0; i + 1 < bounds.size(); i++) {
+            ObjectId from = bounds.get(i);
+            ObjectId to = bounds.get(i + 1);
+            parts.add(executor.supplyAsync(() -> read(from, to)));
+        }
+        return parts.stream().map(CompletableFuture::join).toList();
+    }
+    
+    /**
+     * Splits the ids between {@code first} and {@code last} into ranges of equal duration,
+     * the outer bounds being {@code null} (open).
+     */
+    static List<ObjectId> bounds(ObjectId first, ObjectId last, int partitions) {
+        long start = Integer.toUnsignedLong(first.getTimestamp());
+        long end = Integer.toUnsignedLong(last.getTimestamp()) + 1;
+        List<ObjectId> bounds = new ArrayList<>();
+        bounds.add(null);
+        for (int i = 1; i < partitions; i++) {
+            long seconds = start + (end - start) * i / partitions;
+            ObjectId bound = new ObjectId(String.format("%08x%016x", seconds, 0));
+            if (seconds > start && !bound.equals(bounds.get(bounds.size() - 1))) {
+                bounds.add(bound);
+            }
+        }
+        bounds.add(null);
+        return bounds;
+    }
+    
+    private List<Indexed> read(ObjectId from, ObjectId to) {
+        List<Indexed> indexed = new ArrayList<>();
+        try (Stream<NewsSummary> summaries = newsRepository.streamSummaries(UsableNewsReplica.USABLE_FILTER, from, to,
+                UsableNewsReplica.BUILD_BATCH_SIZE)) {
+            summaries.forEach(summary -> indexed.add(indexed(summary.id, summary.dateCreated, summary.language,
+                summary.isEvent, summary.title, summary.catchLine, newsMapper.toSummaryResponse(summary))));
+        }
+        return indexed;
+    }
+    
+    private void remove(ObjectId id) {
+        Integer doc = id == null ? null : docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        InvertedIndex<Entry> current = index;
+        current.remove(doc);
+        if (current.deleted() > Math.max(MIN_DELETED_BEFORE_REBUILD, current.size() / 3)
+                && compacting.compareAndSet(false, true)) {
+            executor.runAsync(this::rebuild).whenComplete((result, e) -> compacting.set(false));
+        }
+    }
+    
+    private static boolean accepts(NewsFilter filter, Entry entry) {
+        return filter.matches(entry.language(), UsableNewsReplica.USABLE, entry.isEvent());
+    }
+    
+    static Indexed indexed(ObjectId id, Date dateCreated, String language, Boolean isEvent, String title,
+            String catchLine, NewsResponse response) {
+        TextAnalyzer analyzer = TextAnalyzer.forLanguage(language);
+        AnalyzedText text = new AnalyzedText()
+            .add(analyzer.analyze(title), TITLE_WEIGHT)
+            .add(analyzer.analyze(catchLine), 1);
+        return new Indexed(new Entry(id, dateCreated, language, isEvent, analyzer, response), text);
+    }
+    
+    record Entry(ObjectId id, Date dateCreated, String language, Boolean isEvent, TextAnalyzer analyzer,
+            NewsResponse response) implements UsableNewsReplica.Keyed {}
+    
+    record Indexed(Entry entry, AnalyzedText text) {}
+    
+    private record Built(InvertedIndex<Entry> index, Map<ObjectId, Integer> docs) {}
+}
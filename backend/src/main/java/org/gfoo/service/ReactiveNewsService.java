@@ -0,0 +1,145 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsBatchResponse;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsCursor;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.ReactiveNewsRepository;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link NewsService}, backed by {@link ReactiveNewsRepository}.
+ *
+ * <p>Results and validation rules are the same as the blocking service; invalid arguments are
+ * reported as a failed {@link Uni} carrying an {@link IllegalArgumentException}.</p>
+ */
+@ApplicationScoped
+@Timed("news.service")
+public class ReactiveNewsService {
+    
+    @Inject
+    ReactiveNewsRepository reactiveNewsRepository;
+    
+    @Inject
+    NewsMapper newsMapper;
+    
+    @Inject
+    NewsCache newsCache;
+    
+    @Inject
+    UsableNewsView usableNewsView;
+    
+    @ConfigProperty(name = "news.batch.max-ids", defaultValue = "100")
+    int maxBatchIds;
+    
+    /**
+     * Returns the given page of the news selected by the filter, most recent first.
+     */
+    public Uni<List<NewsResponse>> getNews(NewsFilter filter, int page, int size) {
+        try {
+            NewsService.checkPage(page, size);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+        Optional<List<NewsResponse>> fromView = usableNewsView.page(filter, page, size);
+        if (fromView.isPresent()) {
+            return Uni.createFrom().item(fromView.get());
+        }
+        return reactiveNewsRepository.findSummaries(filter, page, size)
+            .map(newsMapper::toSummaryResponseList);
+    }
+    
+    /**
+     * Returns the slice of news selected by the filter following the given cursor.
+     *
+     * @see NewsService#getNewsAfter(NewsFilter, String, int)
+     */
+    public Uni<NewsSlice> getNewsAfter(NewsFilter filter, String after, int size) {
+        try {
+            NewsService.checkSize(size);
+            NewsCursor cursor = NewsService.decodeCursor(after);
+            Optional<NewsSlice> fromView = usableNewsView.slice(filter, cursor, size);
+            if (fromView.isPresent()) {
+                return Uni.createFrom().item(fromView.get());
+            }
+            // Fetch one extra document to know whether another slice follows
+            return reactiveNewsRepository.findSummariesAfter(filter, cursor, size + 1)
+                .map(summaries -> NewsService.slice(summaries, size, newsMapper));
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+    }
+    
+    /**
+     * Streams every news selected by the filter, reading {@code batchSize} documents per round trip.
+     */
+    public Multi<NewsResponse> streamNews(NewsFilter filter, int batchSize) {
+        return reactiveNewsRepository.streamSummaries(filter, batchSize)
+            .map(newsMapper::toSummaryResponse);
+    }
+    
+    /**
+     * Returns the news with the given id, or a {@code null} item when there is none or the id is
+     * not a valid ObjectId.
+     */
+    public Uni<NewsResponse> getNewsById(String id) {
+        return getVersionedNewsById(id)
+            .onItem().ifNotNull().transform(VersionedNews::news);
+    }
+    
+    /**
+     * Returns the news with the given id along with its validators, or a {@code null} item.
+     * Shares {@link NewsCache} with the blocking service.
+     */
+    public Uni<VersionedNews> getVersionedNewsById(String id) {
+        String key = NewsCache.key(id);
+        if (key == null) {
+            return Uni.createFrom().nullItem();
+        }
+        Optional<VersionedNews> cached = newsCache.getIfPresent(key);
+        if (cached != null) {
+            return Uni.createFrom().item(cached.orElse(null));
+        }
+        long version = newsCache.version(key);
+        return reactiveNewsRepository.findSummaryById(new ObjectId(key))
+            .onItem().ifNotNull()
+            .transform(summary -> VersionedNews.of(newsMapper.toSummaryResponse(summary), summary.dateLastModified))
+            .invoke(news -> newsCache.put(key, Optional.ofNullable(news), version));
+    }
+    
+    /**
+     * Returns the news with the given ids in request order, along with the ids matching no news.
+     *
+     * @see NewsService#getNewsByIds(List)
+     */
+    public Uni<NewsBatchResponse> getNewsByIds(List<String> ids) {
+        Map<String, String> requested;
+        try {
+            requested = NewsService.checkIds(ids, maxBatchIds);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+        Map<String, Optional<VersionedNews>> found = new LinkedHashMap<>();
+        Map<ObjectId, Long> misses = lookupCached(requested.keySet(), newsCache, found);
+        if (misses.isEmpty()) {
+            return Uni.createFrom().item(NewsService.batch(requested, found));
+        }
+        return reactiveNewsRepository.findSummariesByIds(misses.keySet())
+            .map(summaries -> {
+                NewsService.cacheLoaded(misses, summaries, found, newsCache, newsMapper);
+                return NewsService.batch(requested, found);
+            });
+    }
+}
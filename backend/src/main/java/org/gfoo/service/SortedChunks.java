@@ -0,0 +1,275 @@
+package org.gfoo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable sorted sequence split into chunks of up to {@code 2 * CHUNK_SIZE} elements.
+ *
+ * <p>Writes return a new instance sharing the chunks they do not change: inserting or removing
+ * an element copies its chunk and the array of chunk references, rather than the whole
+ * sequence. Elements are unique in the order of the comparator.</p>
+ *
+ * @param <E> Type of the elements
+ */
+final class SortedChunks<E> {
+
+    static final int CHUNK_SIZE = 512;
+
+    private final Comparator<? super E> order;
+
+    private final Object[][] chunks;
+
+    /**
+     * Index in the sequence of the first element of each chunk.
+     */
+    private final int[] starts;
+
+    private final int size;
+
+    private SortedChunks(Comparator<? super E> order, Object[][] chunks) {
+        this.order = order;
+        this.chunks = chunks;
+        this.starts = new int[chunks.length];
+        int total = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            starts[i] = total;
+            total += chunks[i].length;
+        }
+        this.size = total;
+    }
+
+    static <E> SortedChunks<E> empty(Comparator<? super E> order) {
+        return new SortedChunks<>(order, new Object[0][]);
+    }
+
+    /**
+     * Sequence of the given elements, already sorted in the given order.
+     */
+    static <E> SortedChunks<E> of(E[] sorted, Comparator<? super E> order) {
+        List<Object[]> chunks = new ArrayList<>();
+        split(sorted, chunks);
+        return new SortedChunks<>(order, chunks.toArray(Object[][]::new));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    E get(int index) {
+        int chunk = chunkAt(index);
+        return (E) chunks[chunk][index - starts[chunk]];
+    }
+
+    /**
+     * Elements from {@code from} inclusive to {@code to} exclusive.
+     */
+    @SuppressWarnings("unchecked")
+    List<E> subList(int from, int to) {
+        List<E> elements = new ArrayList<>(Math.max(0, to - from));
+        for (int index = from; index < to; ) {
+            int chunk = chunkAt(index);
+            int offset = index - starts[chunk];
+            int count = Math.min(chunks[chunk].length - offset, to - index);
+            for (int i = 0; i < count; i++) {
+                elements.add((E) chunks[chunk][offset + i]);
+            }
+            index += count;
+        }
+        return elements;
+    }
+
+    /**
+     * Index of the first element strictly after the given position.
+     */
+    int firstAfter(E position) {
+        int chunk = firstChunkAfter(position, false);
+        if (chunk == chunks.length) {
+            return size;
+        }
+        Object[] elements = chunks[chunk];
+        int low = 0;
+        int high = elements.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(elements[middle], position) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return starts[chunk] + low;
+    }
+
+    /**
+     * Sequence with the element added, copying the chunk it falls in.
+     */
+    SortedChunks<E> insert(E element) {
+        if (chunks.length == 0) {
+            return new SortedChunks<>(order, new Object[][] {new Object[] {element}});
+        }
+        int chunk = Math.min(firstChunkAfter(element, true), chunks.length - 1);
+        Object[] elements = chunks[chunk];
+        int found = search(elements, element);
+        int index = found >= 0 ? found : -found - 1;
+        Object[] inserted = new Object[elements.length + 1];
+        System.arraycopy(elements, 0, inserted, 0, index);
+        inserted[index] = element;
+        System.arraycopy(elements, index, inserted, index + 1, elements.length - index);
+        return replace(chunk, inserted);
+    }
+
+    /**
+     * Sequence with the given elements added, sorted in the order of the sequence. Each chunk
+     * they fall in is copied once.
+     */
+    SortedChunks<E> insertAll(E[] sorted) {
+        if (sorted.length == 0) {
+            return this;
+        }
+        List<Object[]> merged = new ArrayList<>(chunks.length + sorted.length / CHUNK_SIZE + 1);
+        int next = 0;
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            Object[] elements = chunks[chunk];
+            // The last chunk takes all the remaining elements
+            int end = next;
+            while (end < sorted.length
+                    && (chunk == chunks.length - 1 || compare(sorted[end], elements[elements.length - 1]) <= 0)) {
+                end++;
+            }
+            if (end == next) {
+                merged.add(elements);
+            } else {
+                split(merge(elements, sorted, next, end), merged);
+                next = end;
+            }
+        }
+        if (chunks.length == 0) {
+            split(sorted, merged);
+        }
+        return new SortedChunks<>(order, merged.toArray(Object[][]::new));
+    }
+
+    /**
+     * Sequence without the element, or this sequence when it does not hold it.
+     */
+    SortedChunks<E> remove(E element) {
+        int chunk = firstChunkAfter(element, true);
+        if (chunk == chunks.length) {
+            return this;
+        }
+        Object[] elements = chunks[chunk];
+        int index = search(elements, element);
+        if (index < 0) {
+            return this;
+        }
+        if (elements.length == 1) {
+            Object[][] removed = new Object[chunks.length - 1][];
+            System.arraycopy(chunks, 0, removed, 0, chunk);
+            System.arraycopy(chunks, chunk + 1, removed, chunk, chunks.length - chunk - 1);
+            return new SortedChunks<>(order, removed);
+        }
+        Object[] removed = new Object[elements.length - 1];
+        System.arraycopy(elements, 0, removed, 0, index);
+        System.arraycopy(elements, index + 1, removed, index, elements.length - index - 1);
+        return replace(chunk, removed);
+    }
+
+    private SortedChunks<E> replace(int chunk, Object[] elements) {
+        if (elements.length <= 2 * CHUNK_SIZE) {
+            Object[][] replaced = chunks.clone();
+            replaced[chunk] = elements;
+            return new SortedChunks<>(order, replaced);
+        }
+        // Split in two halves, so that the next inserts do not split again at once
+        int half = elements.length / 2;
+        Object[][] replaced = new Object[chunks.length + 1][];
+        System.arraycopy(chunks, 0, replaced, 0, chunk);
+        replaced[chunk] = Arrays.copyOfRange(elements, 0, half);
+        replaced[chunk + 1] = Arrays.copyOfRange(elements, half, elements.length);
+        System.arraycopy(chunks, chunk + 1, replaced, chunk + 2, chunks.length - chunk - 1);
+        return new SortedChunks<>(order, replaced);
+    }
+
+    /**
+     * First chunk whose last element is after the position, or equal to it when
+     * {@code inclusive}; the number of chunks when there is none.
+     */
+    private int firstChunkAfter(E position, boolean inclusive) {
+        int low = 0;
+        int high = chunks.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Object[] elements = chunks[middle];
+            int compared = compare(elements[elements.length - 1], position);
+            if (compared < 0 || (compared == 0 && !inclusive)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int chunkAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int found = Arrays.binarySearch(starts, index);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    private int search(Object[] elements, E element) {
+        int low = 0;
+        int high = elements.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compared = compare(elements[middle], element);
+            if (compared < 0) {
+                low = middle + 1;
+            } else if (compared > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private Object[] merge(Object[] left, E[] right, int from, int to) {
+        Object[] merged = new Object[left.length + to - from];
+        int i = 0;
+        int j = from;
+        int k = 0;
+        while (i < left.length && j < to) {
+            merged[k++] = compare(left[i], right[j]) <= 0 ? left[i++] : right[j++];
+        }
+        System.arraycopy(left, i, merged, k, left.length - i);
+        System.arraycopy(right, j, merged, k + left.length - i, to - j);
+        return merged;
+    }
+
+    private static void split(Object[] elements, List<Object[]> chunks) {
+        if (elements.length <= 2 * CHUNK_SIZE) {
+            if (elements.length > 0) {
+                chunks.add(Arrays.copyOf(elements, elements.length, Object[].class));
+            }
+            return;
+        }
+        for (int from = 0; from < elements.length; from += CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(elements, from, Math.min(from + CHUNK_SIZE, elements.length), Object[].class));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object left, Object right) {
+        return order.compare((E) left, (E) right);
+    }
+}
@@ -0,0 +1,42 @@
+package org.gfoo.service;
+
+import java.util.Locale;
+
+/**
+ * Period of the buckets of the creation date histogram of {@link NewsStatsService}, in UTC.
+ */
+public enum StatsInterval {
+    /** Buckets such as {@code 2024-01-31}. */
+    DAY("%Y-%m-%d"),
+    /** ISO weeks, such as {@code 2024-W05}. */
+    WEEK("%G-W%V"),
+    /** Buckets such as {@code 2024-01}. */
+    MONTH("%Y-%m"),
+    /** Buckets such as {@code 2024}. */
+    YEAR("%Y");
+
+    private final String format;
+
+    StatsInterval(String format) {
+        this.format = format;
+    }
+
+    /**
+     * Format of the bucket keys, in the {@code $dateToString} syntax.
+     */
+    public String format() {
+        return format;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is not the lower-case name of an interval
+     */
+    public static StatsInterval parse(String value) {
+        for (StatsInterval interval : values()) {
+            if (interval.name().toLowerCase(Locale.ROOT).equals(value)) {
+                return interval;
+            }
+        }
+        throw new IllegalArgumentException("Interval must be one of day, week, month, year");
+    }
+}
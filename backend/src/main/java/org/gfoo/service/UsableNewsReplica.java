@@ -0,0 +1,166 @@
+package org.gfoo.service;
+
+import org.bson.types.ObjectId;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+import org.gfoo.repository.NewsFilter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * In-memory copy of the usable news, loaded from MongoDB and kept up to date from the
+ * {@link NewsChangeEvent}s, shared by {@link UsableNewsView} and {@link NewsTextIndex}.
+ *
+ * <p>A rebuild reads the collection without holding the lock of the writers: the events received
+ * meanwhile are applied to the current copy and kept, then replayed on the loaded one once it is
+ * installed. Until the first build, there is no copy and the events are only kept for the
+ * replay. Subclasses hold the copy; every method updating it is called with this replica
+ * locked.</p>
+ *
+ * @param <S> Type of the state read by a build
+ */
+abstract class UsableNewsReplica<S> {
+
+    static final String USABLE = "usable";
+
+    static final NewsFilter USABLE_FILTER = new NewsFilter(null, USABLE, null);
+
+    static final int BUILD_BATCH_SIZE = 1000;
+
+    /**
+     * Keyset order, same as the {@code {dateCreated: -1, _id: -1}} sort of MongoDB.
+     */
+    static final Comparator<Keyed> KEYSET_ORDER = Comparator
+        .comparing(Keyed::dateCreated, Comparator.nullsLast(Comparator.<Date>reverseOrder()))
+        .thenComparing(Keyed::id, Comparator.reverseOrder());
+
+    /**
+     * Events received during a build, replayed on its result. Guarded by {@code this}.
+     */
+    private List<NewsChangeEvent> pending;
+
+    /**
+     * Whether a build was installed. Guarded by {@code this}.
+     */
+    private boolean loaded;
+
+    private final Object rebuildLock = new Object();
+
+    static boolean isUsable(NewsDocument document) {
+        return document != null && USABLE.equals(document.status);
+    }
+
+    /**
+     * Reads the usable news. Called without lock, writes going on.
+     */
+    protected abstract S load();
+
+    /**
+     * Replaces the copy with the state read by {@link #load()}.
+     */
+    protected abstract void install(S state);
+
+    /**
+     * Removes the news with the given id, then adds the document when it is not {@code null}.
+     */
+    protected abstract void put(ObjectId id, NewsDocument usable);
+
+    /**
+     * Puts a batch of inserted news, the documents which are not usable being only removed.
+     */
+    protected void putAll(List<NewsDocument> documents) {
+        for (NewsDocument document : documents) {
+            put(document.id, isUsable(document) ? document : null);
+        }
+    }
+
+    /**
+     * Empties the copy, after the collection was.
+     */
+    protected abstract void clear();
+
+    /**
+     * Schedules a rebuild, the copy having missed writes.
+     */
+    protected abstract void invalidated();
+
+    /**
+     * Loads the usable news and installs them, replaying the events received meanwhile.
+     */
+    void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            S state;
+            try {
+                state = load();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pending = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                install(state);
+                loaded = true;
+                List<NewsChangeEvent> replayed = pending;
+                pending = null;
+                replayed.forEach(this::apply);
+            }
+        }
+    }
+
+    synchronized void onChange(NewsChangeEvent event) {
+        if (pending != null) {
+            pending.add(event);
+        }
+        if (loaded) {
+            apply(event);
+        }
+    }
+
+    synchronized void onBatch(NewsBatchInsertedEvent event) {
+        if (pending != null) {
+            pending.addAll(event.events());
+        }
+        if (loaded) {
+            putAll(event.documents());
+        }
+    }
+
+    private void apply(NewsChangeEvent event) {
+        switch (event.type()) {
+            case INSERTED:
+            case UPDATED:
+                // Without the document (deleted after an update seen on the change stream) the news is gone
+                put(event.id(), isUsable(event.document()) ? event.document() : null);
+                break;
+            case DELETED:
+                put(event.id(), null);
+                break;
+            case CLEARED:
+                clear();
+                break;
+            case INVALIDATED:
+                invalidated();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Entry of a copy, sorted in {@link #KEYSET_ORDER}.
+     */
+    interface Keyed {
+
+        Date dateCreated();
+
+        ObjectId id();
+    }
+}
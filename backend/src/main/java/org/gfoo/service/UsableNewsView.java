@@ -0,0 +1,315 @@
+package org.gfoo.service;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.event.NewsBatchInsertedEvent;
+import org.gfoo.event.NewsChangeEvent;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsCursor;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * In-memory materialized view of the usable news, serving the lists restricted to
+ * {@code status=usable} without querying MongoDB.
+ *
+ * <p>News are held as mapped {@link NewsResponse}s in one {@link SortedChunks} per language and
+ * type, in the keyset order of the API (most recent {@code dateCreated} first, then {@code _id}).
+ * A page of a single partition is a slice; lists over several partitions merge them. Readers
+ * use an immutable snapshot and never lock; a write copies the map of partitions and the chunk
+ * it changes, a batch of inserts copies each chunk it falls in once.</p>
+ *
+ * <p>The view is a {@link UsableNewsReplica}, built in the background at startup and rebuilt
+ * every {@code news.view.rebuild-interval}. Pages of other statuses or creation date ranges,
+ * and any page before the first build, are left to MongoDB.</p>
+ */
+@ApplicationScoped
+public class UsableNewsView {
+    
+    @Inject
+    NewsRepository newsRepository;
+    
+    @Inject
+    NewsMapper newsMapper;
+    
+    @Inject
+    ManagedExecutor executor;
+    
+    @ConfigProperty(name = "news.view.enabled", defaultValue = "true")
+    boolean enabled;
+    
+    /**
+     * Current state, {@code null} until the first build.
+     */
+    private volatile Map<Partition, SortedChunks<Entry>> partitions;
+    
+    /**
+     * Entries by id, to find the previous state of an updated news. Guarded by {@link #replica}.
+     */
+    private final Map<ObjectId, Entry> byId = new HashMap<>();
+    
+    private final UsableNewsReplica<List<Entry>> replica = new UsableNewsReplica<>() {
+        
+        @Override
+        protected List<Entry> load() {
+            List<Entry> entries = new ArrayList<>();
+            try (Stream<NewsSummary> summaries = newsRepository.streamSummaries(USABLE_FILTER, BUILD_BATCH_SIZE)) {
+                summaries.forEach(summary -> entries.add(new Entry(summary.dateCreated, summary.id,
+                    newsMapper.toSummaryResponse(summary), new Partition(summary.language, summary.isEvent))));
+            }
+            return entries;
+        }
+        
+        @Override
+        protected void install(List<Entry> entries) {
+            byId.clear();
+            Map<Partition, List<Entry>> grouped = new HashMap<>();
+            for (Entry entry : entries) {
+                byId.put(entry.id(), entry);
+                grouped.computeIfAbsent(entry.partition(), key -> new ArrayList<>()).add(entry);
+            }
+            Map<Partition, SortedChunks<Entry>> built = new HashMap<>();
+            grouped.forEach((partition, list) -> {
+                Entry[] sorted = list.toArray(Entry[]::new);
+                Arrays.sort(sorted, KEYSET_ORDER);
+                built.put(partition, SortedChunks.of(sorted, KEYSET_ORDER));
+            });
+            partitions = built;
+        }
+        
+        @Override
+        protected void put(ObjectId id, NewsDocument usable) {
+            Map<Partition, SortedChunks<Entry>> updated = new HashMap<>(partitions);
+            remove(updated, id);
+            if (usable != null) {
+                add(updated, entry(usable));
+            }
+            partitions = updated;
+        }
+        
+        /**
+         * Adds the batch copying each chunk it falls in once.
+         */
+        @Override
+        protected void putAll(List<NewsDocument> documents) {
+            addAll(documents);
+        }
+        
+        @Override
+        protected void clear() {
+            byId.clear();
+            partitions = new HashMap<>();
+        }
+        
+        @Override
+        protected void invalidated() {
+            executor.runAsync(UsableNewsView.this::rebuild);
+        }
+    };
+    
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        executor.runAsync(this::rebuild).exceptionally(e -> {
+            Log.errorf(e, "Unable to build the usable news view, lists are served by MongoDB");
+            return null;
+        });
+    }
+    
+    public boolean isWarm() {
+        return partitions != null;
+    }
+    
+    public boolean supports(NewsFilter filter) {
+        return enabled && filter != null && UsableNewsReplica.USABLE.equals(filter.status()) && !filter.hasDateRange();
+    }
+    
+    /**
+     * Returns the given page of the news selected by the filter, or an empty optional when the
+     * view cannot answer and MongoDB must be queried.
+     */
+    public Optional<List<NewsResponse>> page(NewsFilter filter, int page, int size) {
+        Map<Partition, SortedChunks<Entry>> current = partitions;
+        if (current == null || !supports(filter)) {
+            return Optional.empty();
+        }
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE) {
+            return Optional.of(List.of());
+        }
+        List<Entry> entries = collect(select(current, filter), null, (int) offset, size);
+        return Optional.of(entries.stream().map(Entry::response).toList());
+    }
+    
+    /**
+     * Returns the slice of news selected by the filter following the cursor, or an empty
+     * optional when the view cannot answer and MongoDB must be queried.
+     */
+    public Optional<NewsSlice> slice(NewsFilter filter, NewsCursor after, int size) {
+        Map<Partition, SortedChunks<Entry>> current = partitions;
+        if (current == null || !supports(filter)) {
+            return Optional.empty();
+        }
+        Entry position = after == null ? null : new Entry(after.dateCreated(), after.id(), null, null);
+        // One extra entry tells whether another slice follows
+        List<Entry> entries = collect(select(current, filter), position, 0, size + 1);
+        String next = null;
+        if (entries.size() > size) {
+            entries = entries.subList(0, size);
+            Entry last = entries.get(size - 1);
+            next = NewsCursor.of(last.dateCreated(), last.id()).encode();
+        }
+        return Optional.of(new NewsSlice(entries.stream().map(Entry::response).toList(), next));
+    }
+    
+    /**
+     * Number of news in the view.
+     */
+    public int size() {
+        Map<Partition, SortedChunks<Entry>> current = partitions;
+        return current == null ? 0 : current.values().stream().mapToInt(SortedChunks::size).sum();
+    }
+    
+    /**
+     * Reloads the view from the collection.
+     */
+    @Scheduled(every = "${news.view.rebuild-interval:10m}", delayed = "${news.view.rebuild-interval:10m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void rebuild() {
+        if (enabled) {
+            replica.rebuild();
+        }
+    }
+    
+    void onChange(@Observes NewsChangeEvent event) {
+        if (enabled) {
+            replica.onChange(event);
+        }
+    }
+    
+    void onBatch(@Observes NewsBatchInsertedEvent event) {
+        if (enabled) {
+            replica.onBatch(event);
+        }
+    }
+    
+    private Entry entry(NewsDocument document) {
+        return new Entry(document.dateCreated, document.id, newsMapper.toResponse(document),
+            new Partition(document.language, document.isEvent));
+    }
+    
+    private void add(Map<Partition, SortedChunks<Entry>> updated, Entry entry) {
+        updated.put(entry.partition(), partition(updated, entry.partition()).insert(entry));
+        byId.put(entry.id(), entry);
+    }
+    
+    private void addAll(List<NewsDocument> documents) {
+        Map<Partition, SortedChunks<Entry>> updated = new HashMap<>(partitions);
+        Map<Partition, List<Entry>> added = new HashMap<>();
+        for (NewsDocument document : documents) {
+            remove(updated, document.id);
+            if (UsableNewsReplica.isUsable(document)) {
+                Entry entry = entry(document);
+                added.computeIfAbsent(entry.partition(), key -> new ArrayList<>()).add(entry);
+            }
+        }
+        added.forEach((partition, list) -> {
+            Entry[] batch = list.toArray(Entry[]::new);
+            Arrays.sort(batch, UsableNewsReplica.KEYSET_ORDER);
+            updated.put(partition, partition(updated, partition).insertAll(batch));
+            list.forEach(entry -> byId.put(entry.id(), entry));
+        });
+        partitions = updated;
+    }
+    
+    private static SortedChunks<Entry> partition(Map<Partition, SortedChunks<Entry>> partitions, Partition partition) {
+        return partitions.getOrDefault(partition, SortedChunks.empty(UsableNewsReplica.KEYSET_ORDER));
+    }
+    
+    private void remove(Map<Partition, SortedChunks<Entry>> updated, ObjectId id) {
+        Entry entry = id == null ? null : byId.remove(id);
+        if (entry == null) {
+            return;
+        }
+        SortedChunks<Entry> removed = updated.get(entry.partition()).remove(entry);
+        if (removed.isEmpty()) {
+            updated.remove(entry.partition());
+        } else {
+            updated.put(entry.partition(), removed);
+        }
+    }
+    
+    private static List<SortedChunks<Entry>> select(Map<Partition, SortedChunks<Entry>> partitions, NewsFilter filter) {
+        List<SortedChunks<Entry>> selected = new ArrayList<>();
+        partitions.forEach((partition, entries) -> {
+            if (filter.matches(partition.language(), UsableNewsReplica.USABLE, partition.isEvent())) {
+                selected.add(entries);
+            }
+        });
+        return selected;
+    }
+    
+    /**
+     * Merges the sorted partitions, skipping the entries up to {@code after} then
+     * {@code offset} more, and returns up to {@code limit} entries.
+     */
+    static List<Entry> collect(List<SortedChunks<Entry>> partitions, Entry after, int offset, int limit) {
+        int[] positions = new int[partitions.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = after == null ? 0 : partitions.get(i).firstAfter(after);
+        }
+        if (partitions.size() == 1) {
+            SortedChunks<Entry> entries = partitions.get(0);
+            int from = (int) Math.min((long) positions[0] + offset, entries.size());
+            int to = (int) Math.min((long) from + limit, entries.size());
+            return entries.subList(from, to);
+        }
+        List<Entry> result = new ArrayList<>(Math.min(limit, 1024));
+        int skipped = 0;
+        while (result.size() < limit) {
+            int next = -1;
+            for (int i = 0; i < positions.length; i++) {
+                SortedChunks<Entry> entries = partitions.get(i);
+                if (positions[i] < entries.size() && (next < 0 || UsableNewsReplica.KEYSET_ORDER
+                        .compare(entries.get(positions[i]), partitions.get(next).get(positions[next])) < 0)) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            Entry entry = partitions.get(next).get(positions[next]++);
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+    
+    record Partition(String language, Boolean isEvent) {}
+    
+    record Entry(Date dateCreated, ObjectId id, NewsResponse response, Partition partition)
+            implements UsableNewsReplica.Keyed {}
+}
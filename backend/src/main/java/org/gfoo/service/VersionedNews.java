@@ -0,0 +1,23 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+
+import java.util.Date;
+
+/**
+ * A news along with the validators of its representation, for conditional requests.
+ *
+ * @param news         Mapped news
+ * @param lastModified Last modification date of the document, {@code null} when unknown
+ * @param etag         Strong entity tag of the news, see {@link NewsEtag}
+ */
+public record VersionedNews(
+    NewsResponse news,
+    Date lastModified,
+    String etag
+) {
+
+    public static VersionedNews of(NewsResponse news, Date lastModified) {
+        return new VersionedNews(news, lastModified, NewsEtag.of(news));
+    }
+}
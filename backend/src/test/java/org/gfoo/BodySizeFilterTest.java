@@ -0,0 +1,57 @@
+package org.gfoo;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+
+@QuarkusTest
+@TestProfile(BodySizeTestProfile.class)
+class BodySizeFilterTest {
+
+    private static final String NEWS =
+        "{\"title\": \"Sized\", \"type\": \"news\", \"language\": \"en\", \"status\": \"usable\"}";
+
+    @Test
+    void testBufferedRouteRejectsLargeBody() {
+        // Given - a body over news.http.max-body-size
+        String catchLine = "x".repeat(2048);
+
+        // When / Then
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Large\", \"type\": \"news\", \"language\": \"en\", \"status\": \"usable\","
+                + " \"catchLine\": \"" + catchLine + "\"}")
+            .when().post("/news")
+            .then()
+            .statusCode(413);
+    }
+
+    @Test
+    void testBufferedRouteAcceptsSmallBody() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(NEWS)
+            .when().post("/news")
+            .then()
+            .statusCode(201);
+    }
+
+    @Test
+    void testBulkRouteIsNotCapped() {
+        // Given - a stream of news larger than news.http.max-body-size
+        String body = (NEWS + "\n").repeat(50);
+
+        // When / Then
+        given()
+            .contentType(NewsExportResource.APPLICATION_NDJSON)
+            .body(body)
+            .when().post("/news/bulk")
+            .then()
+            .statusCode(200)
+            .body("inserted", is(50));
+    }
+}
@@ -0,0 +1,14 @@
+package org.gfoo;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class BodySizeTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        // Bodies of a few news are already too large for the buffered routes
+        return Map.of("news.http.max-body-size", "1K");
+    }
+}
@@ -0,0 +1,11 @@
+package org.gfoo;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+public class ImportTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public String getConfigProfile() {
+        return NewsApplication.IMPORT_PROFILE;
+    }
+}
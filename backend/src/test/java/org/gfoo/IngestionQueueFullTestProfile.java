@@ -0,0 +1,16 @@
+package org.gfoo;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class IngestionQueueFullTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        // A single write is held for an hour: the next one finds the queue full
+        return Map.of(
+            "news.ingest.capacity", "1",
+            "news.ingest.max-delay", "1h");
+    }
+}
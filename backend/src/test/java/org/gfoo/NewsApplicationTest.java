@@ -0,0 +1,50 @@
+package org.gfoo;
+
+import io.quarkus.test.junit.main.Launch;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusMainTest
+@TestProfile(ImportTestProfile.class)
+class NewsApplicationTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Launch(value = {"export"}, exitCode = NewsApplication.USAGE_ERROR)
+    void testUnknownCommand(LaunchResult result) {
+        assertTrue(result.getOutput().contains("Usage: import <file> [checkpoint]"));
+    }
+
+    @Test
+    void testImport(QuarkusMainLauncher launcher) throws IOException {
+        // Given
+        Path file = Files.writeString(directory.resolve("news.ndjson"),
+            "{\"title\": \"Concert\", \"type\": \"event\", \"language\": \"fr\", \"status\": \"usable\"}\n"
+            + "{\"title\": \"Rentrée\", \"type\": \"news\", \"language\": \"fr\", \"status\": \"draft\"}\n");
+
+        // When
+        LaunchResult result = launcher.launch("import", file.toString());
+
+        // Then
+        assertEquals(0, result.exitCode());
+        assertTrue(result.getOutput().contains("2 news created"), result.getOutput());
+        assertTrue(Files.exists(directory.resolve("news.ndjson.checkpoint")));
+        // The import profile leaves out the startup work of the server
+        assertFalse(result.getOutput().contains("without the import profile"), result.getOutput());
+
+        LaunchResult missing = launcher.launch("import", directory.resolve("missing.ndjson").toString());
+        assertEquals(1, missing.exitCode());
+    }
+}
@@ -0,0 +1,88 @@
+package org.gfoo;
+
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class NewsBulkResourceTest {
+
+    private static final String NEWS = "{\"title\": \"Semester opening\", \"type\": \"news\", \"language\": \"en\", \"status\": \"usable\"}";
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        newsRepository.deleteAll();
+    }
+
+    @Test
+    void testBulk_Ndjson() {
+        given()
+            .contentType(NewsExportResource.APPLICATION_NDJSON)
+            .body(NEWS + "\n{\"title\": \"No type\"}\n" + NEWS + "\n")
+            .when().post("/news/bulk")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("received", is(3))
+            .body("inserted", is(2))
+            .body("rejected", is(1))
+            .body("results", hasSize(3))
+            .body("results[0].id", notNullValue())
+            .body("results[0].error", nullValue())
+            .body("results[1].index", is(1))
+            .body("results[1].id", nullValue())
+            .body("results[1].error", is("Type must be 'news' or 'event'"));
+
+        assertEquals(2, newsRepository.count());
+    }
+
+    @Test
+    void testBulk_JsonArray() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + NEWS + ", " + NEWS + "]")
+            .when().post("/news/bulk")
+            .then()
+            .statusCode(200)
+            .body("inserted", is(2));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("[]")
+            .when().post("/news/bulk")
+            .then()
+            .statusCode(200)
+            .body("received", is(0))
+            .body("results", hasSize(0));
+    }
+
+    @Test
+    void testBulk_InvalidBody() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(NEWS)
+            .when().post("/news/bulk")
+            .then()
+            .statusCode(400);
+
+        given()
+            .contentType(ContentType.TEXT)
+            .body(NEWS)
+            .when().post("/news/bulk")
+            .then()
+            .statusCode(415);
+    }
+}
@@ -0,0 +1,89 @@
+package org.gfoo;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@QuarkusTest
+class NewsCacheResourceTest {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    private String id;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        // Inject test data
+        NewsDocument news = new NewsDocument();
+        news.title = "News";
+        news.catchLine = "Description";
+        news.isEvent = false;
+        news.language = "fr";
+        news.status = "usable";
+        news.dateCreated = new Date();
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+        id = news.id.toHexString();
+    }
+
+    @Test
+    void testGetCache() {
+        given().when().get("/news/" + id).then().statusCode(200);
+        given().when().get("/news/" + id).then().statusCode(200);
+
+        given()
+            .when().get("/admin/news/cache")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("name", is("news-by-id"))
+            .body("enabled", is(true))
+            .body("size", is(1))
+            .body("hitCount", greaterThanOrEqualTo(1))
+            .body("missCount", greaterThanOrEqualTo(1));
+    }
+
+    @Test
+    void testInvalidate() {
+        given().when().get("/news/" + id).then().statusCode(200);
+
+        given()
+            .when().delete("/admin/news/cache/" + id)
+            .then()
+            .statusCode(204);
+
+        given()
+            .when().get("/admin/news/cache")
+            .then()
+            .body("size", is(0));
+    }
+
+    @Test
+    void testInvalidateAll() {
+        given().when().get("/news/" + id).then().statusCode(200);
+
+        given()
+            .when().delete("/admin/news/cache")
+            .then()
+            .statusCode(204);
+
+        given()
+            .when().get("/admin/news/cache")
+            .then()
+            .body("size", is(0));
+    }
+}
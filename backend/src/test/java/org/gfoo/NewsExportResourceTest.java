@@ -0,0 +1,133 @@
+package org.gfoo;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsExportResourceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        // Inject test data
+        for (int i = 1; i <= 25; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "News " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = i % 5 == 0;
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = "usable";
+            news.userCreated = "testuser";
+            news.userLastModified = "testuser";
+            news.dateCreated = new Date();
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+        }
+    }
+
+    private List<JsonNode> export(String... query) throws Exception {
+        var request = given();
+        for (int i = 0; i < query.length; i += 2) {
+            request.queryParam(query[i], query[i + 1]);
+        }
+        String body = request
+            .when().get("/news/export")
+            .then()
+            .statusCode(200)
+            .contentType(startsWith("application/x-ndjson"))
+            .extract()
+            .asString();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            assertTrue(line.startsWith("{"), () -> "Line not starting with an object: " + line);
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    @Test
+    void testExportAll() throws Exception {
+        List<JsonNode> lines = export();
+
+        assertEquals(25, lines.size());
+        Set<String> ids = new HashSet<>();
+        lines.forEach(line -> {
+            ids.add(line.get("id").asText());
+            assertTrue(line.has("title"));
+            assertTrue(line.has("type"));
+            assertTrue(line.has("catchLine"));
+            assertTrue(line.has("language"));
+            assertTrue(line.has("status"));
+        });
+        assertEquals(25, ids.size());
+    }
+
+    @Test
+    void testExportEndsWithNewline() {
+        String body = given()
+            .when().get("/news/export")
+            .then()
+            .statusCode(200)
+            .extract()
+            .asString();
+
+        assertTrue(body.endsWith("\n"));
+    }
+
+    @Test
+    void testExportWithFilters() throws Exception {
+        List<JsonNode> lines = export("language", "fr", "type", "event");
+
+        // i in {10, 20}
+        assertEquals(2, lines.size());
+        lines.forEach(line -> {
+            assertEquals("fr", line.get("language").asText());
+            assertEquals("event", line.get("type").asText());
+        });
+    }
+
+    @Test
+    void testExportEmpty() {
+        String body = given()
+            .queryParam("status", "deleted")
+            .when().get("/news/export")
+            .then()
+            .statusCode(200)
+            .extract()
+            .asString();
+
+        assertTrue(body.isEmpty());
+    }
+
+    @Test
+    void testExportInvalidFilter() {
+        given()
+            .queryParam("type", "article")
+            .when().get("/news/export")
+            .then()
+            .statusCode(400);
+    }
+}
@@ -0,0 +1,40 @@
+package org.gfoo;
+
+import org.gfoo.repository.NewsIndexes;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+class NewsIndexResourceTest {
+
+    @Test
+    void testCreateAndGetIndexes() {
+        given()
+            .when().post("/admin/news/indexes")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("collection", is("news"))
+            .body("missing", hasSize(0));
+
+        given()
+            .when().get("/admin/news/indexes")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("$", hasKey("declared"))
+            .body("$", hasKey("actual"))
+            .body("$", hasKey("mismatched"))
+            .body("$", hasKey("unexpected"))
+            .body("declared.name", hasItems(
+                NewsIndexes.FILTER, NewsIndexes.LANGUAGE, NewsIndexes.KEYSET, NewsIndexes.USABLE))
+            .body("declared.find { it.name == 'news_usable' }.partialFilterExpression.status", is("usable"));
+    }
+}
@@ -0,0 +1,71 @@
+package org.gfoo;
+
+import org.gfoo.repository.NewsFilter;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsQueryParamsTest {
+
+    @Test
+    void testNoFilter() {
+        NewsQueryParams params = new NewsQueryParams();
+
+        assertEquals(NewsFilter.ALL, params.toFilter());
+    }
+
+    @Test
+    void testFilter() {
+        NewsQueryParams params = new NewsQueryParams();
+        params.language = "fr";
+        params.status = "usable";
+        params.type = "event";
+        params.from = "2024-01-01";
+        params.to = "2024-02-01T12:30:00Z";
+
+        NewsFilter filter = params.toFilter();
+
+        assertEquals("fr", filter.language());
+        assertEquals("usable", filter.status());
+        assertEquals(Boolean.TRUE, filter.isEvent());
+        assertEquals(Date.from(Instant.parse("2024-01-01T00:00:00Z")), filter.createdFrom());
+        assertEquals(Date.from(Instant.parse("2024-02-01T12:30:00Z")), filter.createdTo());
+    }
+
+    @Test
+    void testBlankValuesAreIgnored() {
+        NewsQueryParams params = new NewsQueryParams();
+        params.language = "";
+        params.type = " ";
+        params.from = "";
+
+        assertEquals(NewsFilter.ALL, params.toFilter());
+    }
+
+    @Test
+    void testTypeMapping() {
+        assertEquals(Boolean.FALSE, NewsQueryParams.parseType("news"));
+        assertEquals(Boolean.TRUE, NewsQueryParams.parseType("event"));
+        assertThrows(IllegalArgumentException.class, () -> NewsQueryParams.parseType("article"));
+    }
+
+    @Test
+    void testInvalidDate() {
+        assertThrows(IllegalArgumentException.class, () -> NewsQueryParams.parseDate("from", "yesterday"));
+        assertThrows(IllegalArgumentException.class, () -> NewsQueryParams.parseDate("to", "2024-13-01"));
+    }
+
+    @Test
+    void testIdList() {
+        NewsQueryParams params = new NewsQueryParams();
+        params.ids = " a, b,,c ,";
+
+        assertEquals(List.of("a", "b", "c"), params.idList());
+    }
+}
@@ -4,17 +4,23 @@ import org.gfoo.entity.NewsDocument;
 import org.gfoo.repository.NewsRepository;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
 import jakarta.inject.Inject;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @QuarkusTest
@@ -230,6 +236,18 @@ class NewsResourceTest {
             .statusCode(400);
     }
 
+    @Test
+    void testGetNews_PageOffsetOverflow() {
+        // Test with a page whose offset does not fit in an int - should return 400 Bad Request
+        given()
+            .queryParam("page", Integer.MAX_VALUE / 10)
+            .queryParam("size", 20)
+            .when().get("/news")
+            .then()
+            .statusCode(400)
+            .body(containsString("must not exceed"));
+    }
+
     @Test
     void testGetNews_NegativeSize() {
         // Test with negative size - should return 400 Bad Request
@@ -251,4 +269,411 @@ class NewsResourceTest {
             .then()
             .statusCode(400);
     }
+
+    @Test
+    void testGetNews_CursorFirstPage() {
+        given()
+            .queryParam("after", "")
+            .queryParam("size", 5)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("size", is(5))
+            .body("total", is(15))
+            .body("data", hasSize(5))
+            .body("next", notNullValue());
+    }
+
+    @Test
+    void testGetNews_CursorTraversesAllItems() {
+        Set<String> ids = new HashSet<>();
+        String after = "";
+        int pages = 0;
+
+        while (after != null) {
+            ExtractableResponse<io.restassured.response.Response> response = given()
+                .queryParam("after", after)
+                .queryParam("size", 4)
+                .when().get("/news")
+                .then()
+                .statusCode(200)
+                .extract();
+            List<String> pageIds = response.path("data.id");
+            ids.addAll(pageIds);
+            after = response.path("next");
+            pages++;
+        }
+
+        // 15 items by 4 gives 4 pages, the last one without next cursor
+        assertEquals(4, pages);
+        assertEquals(15, ids.size());
+    }
+
+    @Test
+    void testGetNews_CursorLastPageHasNoNext() {
+        given()
+            .queryParam("after", "")
+            .queryParam("size", 20)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("data", hasSize(15))
+            .body("$", not(hasKey("next")));
+    }
+
+    @Test
+    void testGetNews_PageModeHasNoNext() {
+        given()
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("$", not(hasKey("next")));
+    }
+
+    @Test
+    void testGetNews_InvalidCursor() {
+        given()
+            .queryParam("after", "not-a-cursor")
+            .when().get("/news")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testGetNews_WithoutTotal() {
+        given()
+            .queryParam("withTotal", false)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("$", not(hasKey("total")))
+            .body("data", hasSize(10));
+    }
+
+    @Test
+    void testGetNews_TotalFollowsWrites() {
+        NewsDocument news = new NewsDocument();
+        news.title = "News 16";
+        news.isEvent = false;
+        news.language = "en";
+        news.status = "usable";
+        news.dateCreated = new Date();
+        newsRepository.persist(news);
+
+        given()
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("total", is(16));
+    }
+
+    @Test
+    void testGetNews_FilterByLanguage() {
+        given()
+            .queryParam("language", "fr")
+            .queryParam("size", 20)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("total", is(7))
+            .body("data", hasSize(7))
+            .body("data.language", everyItem(is("fr")));
+    }
+
+    @Test
+    void testGetNews_FilterByType() {
+        given()
+            .queryParam("type", "event")
+            .queryParam("size", 20)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("total", is(5))
+            .body("data.type", everyItem(is("event")));
+    }
+
+    @Test
+    void testGetNews_FilterCombinationWithCursor() {
+        String next = given()
+            .queryParam("language", "en")
+            .queryParam("type", "news")
+            .queryParam("after", "")
+            .queryParam("size", 3)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("total", is(5))
+            .body("data", hasSize(3))
+            .extract()
+            .path("next");
+
+        given()
+            .queryParam("language", "en")
+            .queryParam("type", "news")
+            .queryParam("after", next)
+            .queryParam("size", 3)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("data", hasSize(2))
+            .body("data.language", everyItem(is("en")))
+            .body("data.type", everyItem(is("news")))
+            .body("$", not(hasKey("next")));
+    }
+
+    @Test
+    void testGetNews_FilterByDateRange() {
+        NewsDocument old = new NewsDocument();
+        old.title = "Old News";
+        old.isEvent = false;
+        old.language = "en";
+        old.status = "usable";
+        old.dateCreated = new Date(0);
+        newsRepository.persist(old);
+
+        given()
+            .queryParam("to", "2000-01-01")
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("total", is(1))
+            .body("data[0].title", is("Old News"));
+
+        given()
+            .queryParam("from", "2000-01-01T00:00:00Z")
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("total", is(15));
+    }
+
+    @Test
+    void testGetNews_InvalidFilters() {
+        given()
+            .queryParam("type", "article")
+            .when().get("/news")
+            .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("from", "yesterday")
+            .when().get("/news")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testGetNewsById_ConditionalOnEtag() {
+        NewsDocument existingNews = newsRepository.listAll().get(0);
+        String id = existingNews.id.toString();
+
+        String etag = given()
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .header("Last-Modified", notNullValue())
+            .extract()
+            .header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(304)
+            .header("ETag", is(etag))
+            .body(is(""));
+
+        existingNews.title = "Changed";
+        existingNews.dateLastModified = new Date();
+        newsRepository.update(existingNews);
+
+        given()
+            .header("If-None-Match", etag)
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(200)
+            .header("ETag", not(etag))
+            .body("title", is("Changed"));
+    }
+
+    @Test
+    void testGetNewsById_ConditionalOnLastModified() {
+        String id = newsRepository.listAll().get(0).id.toString();
+
+        String lastModified = given()
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("Last-Modified");
+
+        given()
+            .header("If-Modified-Since", lastModified)
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(304);
+
+        given()
+            .header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT")
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(200);
+    }
+
+    @Test
+    void testGetNews_ConditionalOnEtag() {
+        String etag = given()
+            .queryParam("size", 5)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract()
+            .header("ETag");
+
+        given()
+            .queryParam("size", 5)
+            .header("If-None-Match", etag)
+            .when().get("/news")
+            .then()
+            .statusCode(304);
+
+        // Another page has another tag
+        given()
+            .queryParam("size", 5)
+            .queryParam("page", 1)
+            .header("If-None-Match", etag)
+            .when().get("/news")
+            .then()
+            .statusCode(200);
+
+        NewsDocument news = new NewsDocument();
+        news.title = "Newest";
+        news.isEvent = false;
+        news.language = "en";
+        news.status = "usable";
+        news.dateCreated = new Date(System.currentTimeMillis() + 60_000);
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+
+        given()
+            .queryParam("size", 5)
+            .header("If-None-Match", etag)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("data[0].title", is("Newest"));
+    }
+
+    @Test
+    void testGetNewsBatch_PreservesOrderAndReportsMissing() {
+        List<NewsDocument> all = newsRepository.listAll();
+        String first = all.get(3).id.toString();
+        String second = all.get(0).id.toString();
+        String unknown = new ObjectId().toString();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\": [\"" + first + "\", \"" + unknown + "\", \"" + second + "\", \"" + first + "\"]}")
+            .when().post("/news/batch")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("data", hasSize(2))
+            .body("data[0].id", is(first))
+            .body("data[0].title", is(all.get(3).title))
+            .body("data[1].id", is(second))
+            .body("missing", hasSize(1))
+            .body("missing[0]", is(unknown));
+    }
+
+    @Test
+    void testGetNewsBatch_InvalidIds() {
+        // Empty list
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\": []}")
+            .when().post("/news/batch")
+            .then()
+            .statusCode(400);
+
+        // Malformed id
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\": [\"invalid-id-format\"]}")
+            .when().post("/news/batch")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testGetNewsBatch_TooManyIds() {
+        StringBuilder ids = new StringBuilder();
+        for (int i = 0; i <= 100; i++) {
+            ids.append(i == 0 ? "" : ",").append('"').append(new ObjectId()).append('"');
+        }
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\": [" + ids + "]}")
+            .when().post("/news/batch")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testGetNews_ByIds() {
+        List<NewsDocument> all = newsRepository.listAll();
+        String first = all.get(1).id.toString();
+        String second = all.get(2).id.toString();
+
+        given()
+            .queryParam("ids", second + "," + first)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("data.id", is(List.of(second, first)))
+            .body("missing", hasSize(0));
+
+        given()
+            .queryParam("ids", "")
+            .when().get("/news")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testCreateNews() {
+        String id = given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Concert\", \"type\": \"event\", \"language\": \"fr\", \"status\": \"usable\"}")
+            .when().post("/news")
+            .then()
+            .statusCode(201)
+            .header("Location", containsString("/news/"))
+            .body("title", is("Concert"))
+            .body("type", is("event"))
+            .extract()
+            .path("id");
+
+        given()
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(200)
+            .body("title", is("Concert"));
+    }
+
+    @Test
+    void testCreateNews_Invalid() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Concert\", \"type\": \"article\", \"language\": \"fr\", \"status\": \"usable\"}")
+            .when().post("/news")
+            .then()
+            .statusCode(400)
+            .body(is("Type must be 'news' or 'event'"));
+    }
 }
@@ -0,0 +1,97 @@
+package org.gfoo;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.service.NewsIndexService;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+class NewsSearchResourceTest {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @BeforeEach
+    void setup() {
+        newsRepository.deleteAll();
+        newsIndexService.createMissingIndexes();
+
+        for (int i = 1; i <= 5; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = i % 2 == 0 ? "Rentrée académique " + i : "Semester opening " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = i == 5;
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = "usable";
+            news.dateCreated = new Date(1_700_000_000_000L + i * 1000L);
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+        }
+    }
+
+    @Test
+    void testSearch() {
+        given()
+            .queryParam("q", "opening")
+            .when().get("/news/search")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("data", hasSize(3))
+            .body("total", is(3))
+            .body("page", is(0));
+    }
+
+    @Test
+    void testSearch_FiltersAndPagination() {
+        given()
+            .queryParam("q", "rentrée")
+            .queryParam("language", "fr")
+            .queryParam("size", 1)
+            .queryParam("page", 1)
+            .when().get("/news/search")
+            .then()
+            .statusCode(200)
+            .body("data", hasSize(1))
+            .body("data[0].language", is("fr"))
+            .body("total", is(2));
+
+        given()
+            .queryParam("q", "opening")
+            .queryParam("type", "event")
+            .queryParam("withTotal", false)
+            .when().get("/news/search")
+            .then()
+            .statusCode(200)
+            .body("data", hasSize(1))
+            .body("data[0].title", is("Semester opening 5"));
+    }
+
+    @Test
+    void testSearch_InvalidParameters() {
+        given()
+            .when().get("/news/search")
+            .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("q", "opening")
+            .queryParam("type", "unknown")
+            .when().get("/news/search")
+            .then()
+            .statusCode(400);
+    }
+}
@@ -0,0 +1,89 @@
+package org.gfoo;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+class NewsStatsResourceTest {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        newsRepository.deleteAll();
+
+        // 1700000000000 is 2023-11-14T22:13:20Z
+        for (int i = 1; i <= 6; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "News " + i;
+            news.isEvent = i % 3 == 0;
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = i == 6 ? "draft" : "usable";
+            news.dateCreated = new Date(1_700_000_000_000L + i * 3_600_000L);
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+        }
+    }
+
+    @Test
+    void testStats() {
+        given()
+            .when().get("/news/stats")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("total", is(6))
+            .body("language.en", is(3))
+            .body("language.fr", is(3))
+            .body("type.news", is(4))
+            .body("type.event", is(2))
+            .body("status.usable", is(5))
+            .body("status.draft", is(1))
+            .body("interval", is("month"))
+            .body("created", hasSize(1))
+            .body("created[0].period", is("2023-11"))
+            .body("created[0].count", is(6));
+    }
+
+    @Test
+    void testStats_FiltersAndInterval() {
+        given()
+            .queryParam("language", "fr")
+            .queryParam("type", "event")
+            .queryParam("interval", "day")
+            .when().get("/news/stats")
+            .then()
+            .statusCode(200)
+            .body("total", is(1))
+            .body("status.draft", is(1))
+            .body("created[0].period", is("2023-11-15"));
+    }
+
+    @Test
+    void testStats_InvalidParameters() {
+        given()
+            .queryParam("interval", "hour")
+            .when().get("/news/stats")
+            .then()
+            .statusCode(400)
+            .body(is("Interval must be one of day, week, month, year"));
+
+        given()
+            .queryParam("type", "article")
+            .when().get("/news/stats")
+            .then()
+            .statusCode(400);
+    }
+}
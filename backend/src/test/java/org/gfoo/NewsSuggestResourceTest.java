@@ -0,0 +1,93 @@
+package org.gfoo;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.service.NewsSuggestService;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+class NewsSuggestResourceTest {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsSuggestService newsSuggestService;
+
+    @BeforeEach
+    void setup() {
+        newsRepository.deleteAll();
+
+        for (int i = 1; i <= 5; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = i % 2 == 0 ? "Rentrée académique " + i : "Semester opening " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = false;
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = "usable";
+            news.dateCreated = new Date(1_700_000_000_000L + i * 1000L);
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+        }
+        newsSuggestService.rebuild();
+    }
+
+    @Test
+    void testSuggest() {
+        given()
+            .queryParam("prefix", "sem")
+            .when().get("/news/suggest")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("", hasSize(3))
+            .body("[0].title", is("Semester opening 5"))
+            .body("[0].language", is("en"));
+    }
+
+    @Test
+    void testSuggest_LanguageAndSize() {
+        given()
+            .queryParam("prefix", "rentree")
+            .queryParam("language", "fr")
+            .queryParam("size", 1)
+            .when().get("/news/suggest")
+            .then()
+            .statusCode(200)
+            .body("", hasSize(1))
+            .body("[0].title", is("Rentrée académique 4"));
+
+        given()
+            .queryParam("prefix", "rentree")
+            .queryParam("language", "en")
+            .when().get("/news/suggest")
+            .then()
+            .statusCode(200)
+            .body("", hasSize(0));
+    }
+
+    @Test
+    void testSuggest_InvalidParameters() {
+        given()
+            .when().get("/news/suggest")
+            .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("prefix", "sem")
+            .queryParam("size", 1000)
+            .when().get("/news/suggest")
+            .then()
+            .statusCode(400);
+    }
+}
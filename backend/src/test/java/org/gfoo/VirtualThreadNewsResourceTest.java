@@ -0,0 +1,216 @@
+package org.gfoo;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+@TestProfile(VirtualThreadsApiTestProfile.class)
+class VirtualThreadNewsResourceTest {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        // Inject test data
+        for (int i = 1; i <= 15; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "News " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = i % 3 == 0; // Every third is an event
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = "usable";
+            news.userCreated = "testuser";
+            news.userLastModified = "testuser";
+            news.dateCreated = new Date();
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+        }
+    }
+
+    @Test
+    void testGetNews_DefaultPagination() {
+        given()
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("page", is(0))
+            .body("size", is(10))
+            .body("total", is(15))
+            .body("data", hasSize(10))
+            .body("$", not(hasKey("next")));
+    }
+
+    @Test
+    void testGetNews_Filters() {
+        given()
+            .queryParam("language", "fr")
+            .queryParam("type", "event")
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("total", is(2))
+            .body("data", hasSize(2))
+            .body("data.language", everyItem(is("fr")))
+            .body("data.type", everyItem(is("event")));
+    }
+
+    @Test
+    void testGetNews_WithoutTotal() {
+        given()
+            .queryParam("withTotal", false)
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .body("$", not(hasKey("total")))
+            .body("data", hasSize(10));
+    }
+
+    @Test
+    void testGetNews_CursorTraversal() {
+        Set<String> ids = new HashSet<>();
+        String after = "";
+        int pages = 0;
+        do {
+            ExtractableResponse<?> response = given()
+                .queryParam("after", after)
+                .queryParam("size", 4)
+                .when().get("/news")
+                .then()
+                .statusCode(200)
+                .body("total", is(15))
+                .extract();
+            List<String> pageIds = response.path("data.id");
+            ids.addAll(pageIds);
+            after = response.path("next");
+            pages++;
+        } while (after != null);
+
+        assertEquals(4, pages);
+        assertEquals(15, ids.size());
+    }
+
+    @Test
+    void testGetNews_InvalidParameters() {
+        given()
+            .queryParam("page", -1)
+            .when().get("/news")
+            .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("after", "not-a-cursor")
+            .when().get("/news")
+            .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("type", "article")
+            .when().get("/news")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testGetNewsById() {
+        String id = given()
+            .when().get("/news")
+            .then()
+            .extract()
+            .path("data[0].id");
+
+        given()
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(200)
+            .body("id", is(id))
+            .body("title", notNullValue())
+            .body("type", notNullValue());
+    }
+
+    @Test
+    void testGetNewsById_NotFound() {
+        given()
+            .when().get("/news/" + new ObjectId().toHexString())
+            .then()
+            .statusCode(404);
+
+        given()
+            .when().get("/news/invalid-id")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void testGetNewsBatch() {
+        List<NewsDocument> all = newsRepository.listAll();
+        String first = all.get(1).id.toString();
+        String unknown = new ObjectId().toString();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\": [\"" + unknown + "\", \"" + first + "\"]}")
+            .when().post("/news/batch")
+            .then()
+            .statusCode(200)
+            .body("data.id", is(List.of(first)))
+            .body("missing", is(List.of(unknown)));
+    }
+
+    @Test
+    void testCreateNews() {
+        String id = given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Concert\", \"type\": \"event\", \"language\": \"fr\", \"status\": \"usable\"}")
+            .when().post("/news")
+            .then()
+            .statusCode(201)
+            .header("Location", containsString("/news/"))
+            .body("title", is("Concert"))
+            .body("type", is("event"))
+            .extract()
+            .path("id");
+
+        given()
+            .when().get("/news/" + id)
+            .then()
+            .statusCode(200)
+            .body("title", is("Concert"));
+    }
+
+    @Test
+    void testCreateNews_Invalid() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Concert\", \"type\": \"article\", \"language\": \"fr\", \"status\": \"usable\"}")
+            .when().post("/news")
+            .then()
+            .statusCode(400)
+            .body(is("Type must be 'news' or 'event'"));
+    }
+}
@@ -0,0 +1,100 @@
+package org.gfoo;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.service.NewsCountService;
+import org.gfoo.service.NewsService;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Fails when a carrier thread gets pinned while the news endpoints or the MongoDB driver run on
+ * virtual threads (JFR {@code jdk.VirtualThreadPinned} events recorded during each test).
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadsApiTestProfile.class)
+@VirtualThreadUnit
+@ShouldNotPin
+class VirtualThreadPinningTest {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsService newsService;
+
+    @Inject
+    NewsCountService newsCountService;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        // Inject test data
+        for (int i = 1; i <= 30; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "News " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = i % 3 == 0;
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = "usable";
+            news.dateCreated = new Date();
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+        }
+    }
+
+    @Test
+    void testEndpointsDoNotPin() {
+        String id = given()
+            .when().get("/news")
+            .then()
+            .statusCode(200)
+            .extract()
+            .path("data[0].id");
+
+        given().queryParam("language", "fr").when().get("/news").then().statusCode(200);
+        given().queryParam("after", "").when().get("/news").then().statusCode(200);
+        given().when().get("/news/" + id).then().statusCode(200);
+    }
+
+    @Test
+    void testConcurrentDriverCallsDoNotPin() throws Exception {
+        // More virtual threads than pooled connections, so that some of them wait for a checkout
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> {
+                    int read = newsService.getNews(NewsFilter.ALL, 0, 10).size();
+                    read += newsService.getNewsAfter(new NewsFilter("en", null, null), null, 5).data().size();
+                    try (Stream<?> stream = newsService.streamNews(NewsFilter.ALL, 7)) {
+                        read += (int) stream.count();
+                    }
+                    newsCountService.count(NewsFilter.ALL);
+                    return read;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(45, result.get());
+            }
+        }
+    }
+}
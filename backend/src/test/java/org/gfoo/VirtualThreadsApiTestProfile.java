@@ -0,0 +1,13 @@
+package org.gfoo;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class VirtualThreadsApiTestProfile implements QuarkusTestProfile {
+    
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("news.api.execution-model", "virtual-threads");
+    }
+}
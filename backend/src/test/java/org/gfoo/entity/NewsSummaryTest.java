@@ -0,0 +1,77 @@
+package org.gfoo.entity;
+
+import com.mongodb.MongoClientSettings;
+import io.quarkus.test.junit.QuarkusTest;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsSummaryTest {
+
+    private final CodecRegistry registry = CodecRegistries.fromRegistries(
+        MongoClientSettings.getDefaultCodecRegistry(),
+        CodecRegistries.fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+
+    @Test
+    void testProjectionExcludesAuditFields() {
+        Set<String> fields = Arrays.stream(NewsSummary.class.getFields())
+            .map(field -> field.getName())
+            .collect(Collectors.toSet());
+
+        assertEquals(Set.of("id", "title", "catchLine", "isEvent", "language", "status", "dateCreated",
+            "dateLastModified"), fields);
+    }
+
+    @Test
+    void testProjectionIsSmallerOnTheWire() {
+        NewsDocument document = new NewsDocument();
+        document.id = new ObjectId();
+        document.title = "Breaking News";
+        document.catchLine = "Important announcement";
+        document.isEvent = false;
+        document.language = "en";
+        document.status = "usable";
+        document.userCreated = "editor";
+        document.userLastModified = "editor";
+        document.dateCreated = new Date();
+        document.dateLastModified = new Date();
+
+        NewsSummary summary = new NewsSummary();
+        summary.id = document.id;
+        summary.title = document.title;
+        summary.catchLine = document.catchLine;
+        summary.isEvent = document.isEvent;
+        summary.language = document.language;
+        summary.status = document.status;
+        summary.dateCreated = document.dateCreated;
+        summary.dateLastModified = document.dateLastModified;
+
+        int documentBytes = encodedSize(document, registry.get(NewsDocument.class));
+        int summaryBytes = encodedSize(summary, registry.get(NewsSummary.class));
+
+        assertTrue(summaryBytes < documentBytes,
+            "Projection should be smaller: " + summaryBytes + " >= " + documentBytes);
+    }
+
+    private <T> int encodedSize(T value, Codec<T> codec) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, value, EncoderContext.builder().build());
+        }
+        return buffer.getSize();
+    }
+}
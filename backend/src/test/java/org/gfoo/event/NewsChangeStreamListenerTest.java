@@ -0,0 +1,207 @@
+package org.gfoo.event;
+
+import org.gfoo.ChangeStreamTestProfile;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.repository.ResumeTokenRepository;
+import org.gfoo.service.NewsCache;
+import org.gfoo.service.NewsCountService;
+import org.gfoo.service.NewsIndexService;
+import org.gfoo.service.NewsService;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.BsonTimestamp;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(ChangeStreamTestProfile.class)
+class NewsChangeStreamListenerTest {
+
+    @Inject
+    NewsChangeStreamListener listener;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    ResumeTokenRepository resumeTokenRepository;
+
+    @Inject
+    NewsService newsService;
+
+    @Inject
+    NewsCache newsCache;
+
+    @Inject
+    NewsCountService newsCountService;
+
+    @Inject
+    Event<NewsChangeEvent> changeEvents;
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @Inject
+    Invalidations invalidations;
+
+    /**
+     * Counts the invalidations published by the listener.
+     */
+    @ApplicationScoped
+    static class Invalidations {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        void onChange(@Observes NewsChangeEvent event) {
+            if (event.type() == NewsChangeEvent.Type.INVALIDATED && event.origin() == NewsChangeEvent.Origin.CHANGE_STREAM) {
+                count.incrementAndGet();
+            }
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+        newsCache.invalidateAll();
+    }
+
+    /**
+     * Writes made by another instance: straight to the collection, without local events.
+     */
+    private NewsDocument insertExternally(String title) {
+        return insertExternally(new ObjectId(), title);
+    }
+
+    private NewsDocument insertExternally(ObjectId id, String title) {
+        NewsDocument news = new NewsDocument();
+        news.id = id;
+        news.title = title;
+        news.catchLine = "Written by another instance";
+        news.isEvent = false;
+        news.language = "en";
+        news.status = "usable";
+        news.dateCreated = new Date();
+        news.dateLastModified = new Date();
+        newsRepository.mongoCollection().insertOne(news);
+        return news;
+    }
+
+    private static void eventually(Runnable assertion) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    @Test
+    void testListenerIsRunning() {
+        assertTrue(listener.isRunning());
+    }
+
+    @Test
+    void testExternalInsertInvalidatesMissingEntry() throws InterruptedException {
+        ObjectId id = new ObjectId();
+        assertTrue(newsService.getNewsById(id.toHexString()).isEmpty());
+
+        // Still cached as missing, until the insert is seen on the change stream
+        insertExternally(id, "Remote news");
+
+        eventually(() -> assertTrue(newsService.getNewsById(id.toHexString()).isPresent()));
+    }
+
+    @Test
+    void testExternalUpdateInvalidatesEntry() throws InterruptedException {
+        NewsDocument news = insertExternally("Before");
+        eventually(() -> assertEquals("Before", newsService.getNewsById(news.id.toHexString()).orElseThrow().title()));
+
+        newsRepository.mongoCollection().updateOne(Filters.eq("_id", news.id), Updates.set("title", "After"));
+
+        eventually(() -> assertEquals("After", newsService.getNewsById(news.id.toHexString()).orElseThrow().title()));
+    }
+
+    @Test
+    void testExternalWritesAreCounted() throws InterruptedException {
+        insertExternally("Remote 1");
+        NewsDocument second = insertExternally("Remote 2");
+
+        eventually(() -> assertEquals(2, newsCountService.count(NewsFilter.ALL)));
+
+        newsRepository.mongoCollection().deleteOne(Filters.eq("_id", second.id));
+
+        eventually(() -> assertEquals(1, newsCountService.count(NewsFilter.ALL)));
+    }
+
+    @Test
+    void testEventsSeenBySeedAreNotCountedTwice() throws InterruptedException {
+        // Given - counters seeded after a write
+        NewsDocument news = insertExternally("Seeded");
+        eventually(() -> assertEquals(1, newsCountService.count(NewsFilter.ALL)));
+        newsCountService.reconcile();
+
+        // When - the write is replayed, as by a listener resuming from an older token
+        changeEvents.fire(NewsChangeEvent.inserted(news)
+            .withOrigin(NewsChangeEvent.Origin.CHANGE_STREAM)
+            .withClusterTime(new BsonTimestamp(1, 1)));
+
+        // Then
+        assertEquals(1, newsCountService.count(NewsFilter.ALL));
+        insertExternally("After the seed");
+        eventually(() -> assertEquals(2, newsCountService.count(NewsFilter.ALL)));
+    }
+
+    @Test
+    void testDroppedCollectionRestartsTheStreamAndInvalidates() throws InterruptedException {
+        // Given
+        int before = invalidations.count();
+
+        // When - the collection is dropped, which invalidates the stream
+        newsRepository.mongoCollection().drop();
+        try {
+            // Then - consumers are told that writes made until the stream restarts were not seen
+            eventually(() -> assertTrue(invalidations.count() > before));
+            insertExternally("After the drop");
+            eventually(() -> assertEquals(1, newsCountService.count(NewsFilter.ALL)));
+        } finally {
+            newsIndexService.createMissingIndexes();
+        }
+    }
+
+    @Test
+    void testResumeTokenIsKeyedByInstance() {
+        assertTrue(listener.listener().startsWith(NewsChangeStreamListener.LISTENER + ":"));
+    }
+
+    @Test
+    void testResumeTokenIsPersisted() throws InterruptedException {
+        insertExternally("Checkpointed");
+
+        eventually(() -> assertTrue(resumeTokenRepository.load(listener.listener()).isPresent()));
+    }
+}
@@ -0,0 +1,83 @@
+package org.gfoo.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model HTTP load generator: requests are sent at a fixed rate, on a schedule that does
+ * not depend on the response times, with at most {@code connections} requests in flight.
+ *
+ * <p>Latencies are measured from the time each request was scheduled to be sent, not from the
+ * time it was actually sent: when the server (or the connection limit) stalls, the requests
+ * that should have been sent meanwhile are charged for the wait. This corrects the coordinated
+ * omission of closed-loop tools, which stop sending while they wait and so never measure the
+ * stall. Service times, measured from the actual send, are recorded alongside for comparison.</p>
+ */
+public final class LoadGenerator {
+
+    /**
+     * A request to send, {@code endpoint} naming the histogram it is recorded in.
+     */
+    public record Target(String endpoint, URI uri) {}
+
+    private final HttpClient client;
+
+    private final int connections;
+
+    public LoadGenerator(int connections) {
+        this.connections = connections;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    /**
+     * Sends {@code rate} requests per second for the given duration and waits for the last
+     * responses.
+     */
+    public LoadReport run(int rate, Duration duration, Supplier<Target> targets) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(connections);
+        ConcurrentHashMap<String, LoadReport.EndpointStats> stats = new ConcurrentHashMap<>();
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long sent = 0;
+        for (long intended = start; intended < end; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Target target = targets.get();
+            LoadReport.EndpointStats endpoint = stats.computeIfAbsent(target.endpoint(), LoadReport.EndpointStats::new);
+            inFlight.acquire();
+            long scheduled = intended;
+            long actual = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(target.uri())
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long done = System.nanoTime();
+                    endpoint.record(done - scheduled, done - actual, error == null ? response.statusCode() : -1);
+                    inFlight.release();
+                });
+            sent++;
+        }
+        if (!inFlight.tryAcquire(connections, 60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Responses still pending 60s after the end of the run");
+        }
+        long elapsed = System.nanoTime() - start;
+        return new LoadReport(rate, sent, elapsed, stats.values());
+    }
+}
@@ -0,0 +1,129 @@
+package org.gfoo.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histograms of a load test run, per endpoint.
+ */
+public final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int rate;
+
+    private final long sent;
+
+    private final long elapsedNanos;
+
+    private final List<EndpointStats> endpoints;
+
+    LoadReport(int rate, long sent, long elapsedNanos, Collection<EndpointStats> endpoints) {
+        this.rate = rate;
+        this.sent = sent;
+        this.elapsedNanos = elapsedNanos;
+        this.endpoints = new ArrayList<>(endpoints);
+        this.endpoints.sort(Comparator.comparing(EndpointStats::name));
+    }
+
+    public long errors() {
+        return endpoints.stream().mapToLong(endpoint -> endpoint.errors.get()).sum();
+    }
+
+    public double errorRate() {
+        return sent == 0 ? 0 : (double) errors() / sent;
+    }
+
+    public void print(PrintStream out, String title) {
+        out.printf("%n=== %s ===%n", title);
+        out.printf("target %d req/s, sent %d in %.1fs (%.0f req/s), %d errors%n",
+            rate, sent, elapsedNanos / 1e9, sent / (elapsedNanos / 1e9), errors());
+        out.printf("%-10s %9s %9s %9s %9s %9s %9s | %12s%n",
+            "endpoint", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "service p99");
+        for (EndpointStats endpoint : endpoints) {
+            Histogram latency = endpoint.latency();
+            Histogram service = endpoint.service();
+            out.printf("%-10s %9d %9.2f %9.2f %9.2f %9.2f %9.2f | %12.2f%n",
+                endpoint.name(), latency.getTotalCount(),
+                millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / NANOS_PER_MILLI, millis(service, 99));
+        }
+    }
+
+    /**
+     * Writes the percentile distribution of each endpoint, in milliseconds, as
+     * {@code <prefix>-<endpoint>.hgrm} files readable by the HdrHistogram plotter.
+     */
+    public void write(Path directory, String prefix) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointStats endpoint : endpoints) {
+            Path file = directory.resolve(prefix + "-" + endpoint.name() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                endpoint.latency().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Thread-safe recording of the responses of one endpoint.
+     */
+    static final class EndpointStats {
+
+        private final String name;
+
+        private final Recorder latency = new Recorder(3);
+
+        private final Recorder service = new Recorder(3);
+
+        private final AtomicLong errors = new AtomicLong();
+
+        private Histogram latencySnapshot;
+
+        private Histogram serviceSnapshot;
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        void record(long latencyNanos, long serviceNanos, int status) {
+            latency.recordValue(latencyNanos);
+            service.recordValue(serviceNanos);
+            if (status < 200 || status >= 400) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized Histogram latency() {
+            if (latencySnapshot == null) {
+                latencySnapshot = latency.getIntervalHistogram();
+            }
+            return latencySnapshot;
+        }
+
+        synchronized Histogram service() {
+            if (serviceSnapshot == null) {
+                serviceSnapshot = service.getIntervalHistogram();
+            }
+            return serviceSnapshot;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.gfoo.load;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Parameters of a load test run, read from system properties so that they can be given on the
+ * Maven command line ({@code -Dload.rate=2000}).
+ *
+ * @param rate         Requests per second sent on schedule, whatever the response times (open model)
+ * @param duration     Measured duration
+ * @param warmup       Duration of the run preceding the measure, whose latencies are discarded
+ * @param connections  Maximum number of requests in flight
+ * @param documents    Number of news seeded before the run
+ * @param byIdRatio    Share of {@code GET /news/{id}} requests
+ * @param searchRatio  Share of {@code GET /news/search} requests, the others being {@code GET /news}
+ * @param distribution How ids and pages are picked
+ * @param zipfExponent Skew of the Zipfian distribution
+ * @param pages        Number of distinct pages requested on {@code GET /news}
+ * @param pageSize     Size of the requested pages
+ * @param reportDir    Directory of the histogram files
+ */
+public record LoadSettings(
+    int rate,
+    Duration duration,
+    Duration warmup,
+    int connections,
+    int documents,
+    double byIdRatio,
+    double searchRatio,
+    Distribution distribution,
+    double zipfExponent,
+    int pages,
+    int pageSize,
+    String reportDir
+) {
+
+    public enum Distribution {
+        UNIFORM,
+        ZIPFIAN
+    }
+
+    public static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+            Integer.getInteger("load.rate", 500),
+            duration(System.getProperty("load.duration", "30s")),
+            duration(System.getProperty("load.warmup", "10s")),
+            Integer.getInteger("load.connections", 256),
+            Integer.getInteger("load.documents", 10_000),
+            Double.parseDouble(System.getProperty("load.by-id-ratio", "0.8")),
+            Double.parseDouble(System.getProperty("load.search-ratio", "0")),
+            Distribution.valueOf(System.getProperty("load.distribution", "zipfian").toUpperCase(Locale.ROOT)),
+            Double.parseDouble(System.getProperty("load.zipf-exponent", "0.99")),
+            Integer.getInteger("load.pages", 20),
+            Integer.getInteger("load.page-size", 20),
+            System.getProperty("load.report-dir", "target/load"));
+    }
+
+    /**
+     * Parses {@code 30s}, {@code 5m} or an ISO-8601 duration.
+     */
+    static Duration duration(String value) {
+        String trimmed = value.trim().toUpperCase(Locale.ROOT);
+        return Duration.parse(trimmed.startsWith("P") ? trimmed : "PT" + trimmed);
+    }
+}
@@ -0,0 +1,38 @@
+package org.gfoo.load;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class LoadSettingsTest {
+
+    @Test
+    void testDuration_ShortForms() {
+        assertEquals(Duration.ofSeconds(30), LoadSettings.duration("30s"));
+        assertEquals(Duration.ofMinutes(5), LoadSettings.duration("5m"));
+        assertEquals(Duration.ofMillis(1500), LoadSettings.duration("1.5s"));
+    }
+
+    @Test
+    void testDuration_Iso8601() {
+        assertEquals(Duration.ofMinutes(2), LoadSettings.duration("PT2M"));
+    }
+
+    @Test
+    void testFromSystemProperties_Defaults() {
+        // When
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+
+        // Then - defaults unless overridden on the command line
+        if (System.getProperty("load.rate") == null) {
+            assertEquals(500, settings.rate());
+        }
+        if (System.getProperty("load.distribution") == null) {
+            assertEquals(LoadSettings.Distribution.ZIPFIAN, settings.distribution());
+        }
+    }
+}
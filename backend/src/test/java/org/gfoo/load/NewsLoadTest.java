@@ -0,0 +1,133 @@
+package org.gfoo.load;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.service.NewsIndexService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Open-model load test of {@code GET /news/{id}}, {@code GET /news} and {@code GET /news/search}, excluded from the default
+ * build: run it with {@code mvn -Pload test}, parameters given as {@link LoadSettings} system
+ * properties.
+ */
+@QuarkusTest
+@Tag("load")
+class NewsLoadTest {
+
+    /** Words of the seeded titles and catchLines, drawn with the Zipfian distribution. */
+    private static final List<String> WORDS = List.of(
+        "campus", "research", "students", "conference", "library", "science", "climate", "health",
+        "award", "exhibition", "semester", "faculty", "innovation", "seminar", "partnership",
+        "recherche", "étudiants", "colloque", "bibliothèque", "santé", "prix", "exposition",
+        "rentrée", "faculté", "chercheurs", "séminaire", "climat", "université", "concert", "sport");
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @TestHTTPResource("/news")
+    URI news;
+
+    @Test
+    void testNewsEndpointsUnderLoad() throws Exception {
+        // Given
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        newsIndexService.createMissingIndexes();
+        Random random = new Random(42);
+        List<String> ids = seed(settings.documents(), new ZipfianGenerator(WORDS.size(), 0.8), random);
+        // Hot news spread over the whole collection rather than being the most recent ones
+        Collections.shuffle(ids, random);
+        IntSupplier id = picker(settings, ids.size(), random);
+        IntSupplier page = picker(settings, settings.pages(), random);
+        IntSupplier word = picker(settings, WORDS.size(), random);
+        Supplier<LoadGenerator.Target> targets = () -> {
+            double draw = random.nextDouble();
+            if (draw < settings.byIdRatio()) {
+                return new LoadGenerator.Target("by-id", URI.create(news + "/" + ids.get(id.getAsInt())));
+            }
+            if (draw < settings.byIdRatio() + settings.searchRatio()) {
+                String q = URLEncoder.encode(WORDS.get(word.getAsInt()), StandardCharsets.UTF_8);
+                return new LoadGenerator.Target("search", URI.create(news + "/search?status=usable&q=" + q
+                    + "&withTotal=false&size=" + settings.pageSize()));
+            }
+            return new LoadGenerator.Target("list", URI.create(news + "?status=usable&page=" + page.getAsInt()
+                + "&size=" + settings.pageSize()));
+        };
+        LoadGenerator generator = new LoadGenerator(settings.connections());
+
+        // When
+        generator.run(settings.rate(), settings.warmup(), targets);
+        LoadReport report = generator.run(settings.rate(), settings.duration(), targets);
+
+        // Then
+        String executionModel = ConfigProvider.getConfig()
+            .getOptionalValue("news.api.execution-model", String.class).orElse("worker");
+        String run = executionModel + "-" + settings.rate() + "rps-" + settings.connections() + "c-"
+            + settings.distribution().name().toLowerCase();
+        report.print(System.out, run);
+        report.write(Path.of(settings.reportDir()), run);
+        assertTrue(report.errorRate() < 0.01, report.errors() + " failed requests");
+    }
+
+    private List<String> seed(int documents, ZipfianGenerator words, Random random) {
+        newsRepository.deleteAll();
+        List<NewsDocument> batch = new ArrayList<>();
+        List<String> ids = new ArrayList<>(documents);
+        for (int i = 0; i < documents; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = text(words, random, 4) + " " + i;
+            news.catchLine = text(words, random, 12);
+            news.isEvent = i % 5 == 0;
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = "usable";
+            news.userCreated = "load";
+            news.userLastModified = "load";
+            news.dateCreated = new Date();
+            news.dateLastModified = new Date();
+            batch.add(news);
+            if (batch.size() == 1_000 || i == documents - 1) {
+                newsRepository.persist(batch);
+                batch.forEach(persisted -> ids.add(persisted.id.toHexString()));
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    private static String text(ZipfianGenerator words, Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS.get(words.next(random)));
+        }
+        return text.toString();
+    }
+
+    private static IntSupplier picker(LoadSettings settings, int n, Random random) {
+        if (settings.distribution() == LoadSettings.Distribution.UNIFORM) {
+            return () -> random.nextInt(n);
+        }
+        ZipfianGenerator zipfian = new ZipfianGenerator(n, settings.zipfExponent());
+        return () -> zipfian.next(random);
+    }
+}
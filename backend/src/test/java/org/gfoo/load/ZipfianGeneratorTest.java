@@ -0,0 +1,68 @@
+package org.gfoo.load;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class ZipfianGeneratorTest {
+
+    @Test
+    void testNext_StaysInBounds() {
+        // Given
+        ZipfianGenerator generator = new ZipfianGenerator(10, 0.99);
+        Random random = new Random(1);
+
+        // When / Then
+        for (int i = 0; i < 10_000; i++) {
+            int rank = generator.next(random);
+            assertTrue(rank >= 0 && rank < 10, "rank " + rank);
+        }
+    }
+
+    @Test
+    void testNext_FavoursLowRanks() {
+        // Given
+        ZipfianGenerator generator = new ZipfianGenerator(1_000, 0.99);
+        Random random = new Random(1);
+        int[] counts = new int[1_000];
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            counts[generator.next(random)]++;
+        }
+
+        // Then - rank 0 gets about 1/H(1000) = 13% of the draws, rank 999 about 0.015%
+        assertTrue(counts[0] > 10_000, "rank 0 drawn " + counts[0] + " times");
+        assertTrue(counts[0] > 10 * counts[9]);
+        assertTrue(counts[999] < 100, "rank 999 drawn " + counts[999] + " times");
+    }
+
+    @Test
+    void testNext_ExponentZeroIsUniform() {
+        // Given
+        ZipfianGenerator generator = new ZipfianGenerator(4, 0);
+        Random random = new Random(1);
+        int[] counts = new int[4];
+
+        // When
+        for (int i = 0; i < 40_000; i++) {
+            counts[generator.next(random)]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertEquals(10_000, count, 500);
+        }
+    }
+
+    @Test
+    void testConstructor_RejectsEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(0, 0.99));
+    }
+}
@@ -1,7 +1,9 @@
 package org.gfoo.mapper;
 
 import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.NewsWriteRequest;
 import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
@@ -301,4 +303,72 @@ class NewsMapperTest {
         assertNotNull(response);
         assertNull(response.type());
     }
+
+    @Test
+    void testMapSummaryToResponse() {
+        NewsSummary summary = new NewsSummary();
+        summary.id = new ObjectId();
+        summary.title = "Projected News";
+        summary.catchLine = "Only the exposed fields";
+        summary.isEvent = true;
+        summary.language = "fr";
+        summary.status = "usable";
+        summary.dateCreated = new Date();
+
+        NewsResponse response = newsMapper.toSummaryResponse(summary);
+
+        assertNotNull(response);
+        assertEquals(summary.id.toString(), response.id());
+        assertEquals("Projected News", response.title());
+        assertEquals("event", response.type());
+        assertEquals("Only the exposed fields", response.catchLine());
+        assertEquals("fr", response.language());
+        assertEquals("usable", response.status());
+    }
+
+    @Test
+    void testMapSummaryList() {
+        NewsSummary summary = new NewsSummary();
+        summary.id = new ObjectId();
+        summary.title = "Projected News";
+        summary.isEvent = false;
+
+        List<NewsResponse> responses = newsMapper.toSummaryResponseList(List.of(summary));
+
+        assertEquals(1, responses.size());
+        assertEquals("news", responses.get(0).type());
+    }
+
+    @Test
+    void testMapSummaryWithNullFields() {
+        NewsResponse response = newsMapper.toSummaryResponse(new NewsSummary());
+
+        assertNotNull(response);
+        assertNull(response.id());
+        assertNull(response.type());
+    }
+
+    @Test
+    void testMapWriteRequestToDocument() {
+        // Given
+        Date created = new Date(1_700_000_000_000L);
+        NewsWriteRequest request = new NewsWriteRequest("Concert", "Un récital", "event", "fr", "usable", "editor",
+            created);
+
+        // When
+        NewsDocument document = newsMapper.toDocument(request);
+
+        // Then
+        assertNull(document.id);
+        assertEquals("Concert", document.title);
+        assertEquals("Un récital", document.catchLine);
+        assertTrue(document.isEvent);
+        assertEquals("fr", document.language);
+        assertEquals("usable", document.status);
+        assertEquals("editor", document.userCreated);
+        assertEquals("editor", document.userLastModified);
+        assertEquals(created, document.dateCreated);
+        assertNull(document.dateLastModified);
+        assertFalse(newsMapper.toDocument(new NewsWriteRequest("News", null, "news", "en", "draft", null, null)).isEvent);
+    }
 }
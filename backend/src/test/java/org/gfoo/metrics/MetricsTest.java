@@ -0,0 +1,97 @@
+package org.gfoo.metrics;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+
+@QuarkusTest
+class MetricsTest {
+
+    @Inject
+    NewsRepository newsRepository;
+
+    private String id;
+
+    @BeforeEach
+    void setup() {
+        newsRepository.deleteAll();
+        NewsDocument news = new NewsDocument();
+        news.title = "Measured news";
+        news.language = "en";
+        news.status = "usable";
+        news.isEvent = false;
+        news.dateCreated = new Date();
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+        id = news.id.toHexString();
+    }
+
+    @Test
+    void testMetrics_EndpointLatencyByStatus() {
+        // Given
+        given().when().get("/news/" + id).then().statusCode(200);
+        given().when().get("/news/invalid-id-format").then().statusCode(404);
+
+        // When / Then
+        given()
+            .when().get("/q/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("http_server_requests_seconds_bucket"))
+            .body(containsString("uri=\"/news/{id}\""))
+            .body(containsString("status=\"200\""))
+            .body(containsString("status=\"404\""));
+    }
+
+    @Test
+    void testMetrics_ServiceAndRepositoryTimers() {
+        // Given
+        given().when().get("/news?page=0&size=5").then().statusCode(200);
+
+        // When / Then
+        given()
+            .when().get("/q/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("news_service_seconds_count{"))
+            .body(containsString("method=\"getNews\""))
+            .body(containsString("news_repository_seconds_count{"));
+    }
+
+    @Test
+    void testMetrics_MongoDriver() {
+        // Given
+        given().when().get("/news?page=0&size=5&status=archived").then().statusCode(200);
+
+        // When / Then
+        given()
+            .when().get("/q/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("mongodb_driver_commands_seconds_bucket"))
+            .body(containsString("command=\"find\""))
+            .body(containsString("mongodb_driver_pool_checkout_seconds_count{"))
+            .body(containsString("mongodb_driver_pool_size"));
+    }
+
+    @Test
+    void testMetrics_NewsCache() {
+        // Given
+        given().when().get("/news/" + id).then().statusCode(200);
+
+        // When / Then
+        given()
+            .when().get("/q/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("cache_gets_total{cache=\"news\""));
+    }
+}
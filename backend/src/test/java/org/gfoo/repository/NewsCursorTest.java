@@ -0,0 +1,80 @@
+package org.gfoo.repository;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        NewsCursor cursor = NewsCursor.of(new Date(1700000000000L), new ObjectId());
+
+        NewsCursor decoded = NewsCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void testEncodeDecodeRoundTripWithoutDate() {
+        NewsCursor cursor = NewsCursor.of(null, new ObjectId());
+
+        NewsCursor decoded = NewsCursor.decode(cursor.encode());
+
+        assertNull(decoded.dateCreated());
+        assertEquals(cursor.id(), decoded.id());
+    }
+
+    @Test
+    void testEncodedTokenIsUrlSafe() {
+        String token = NewsCursor.of(new Date(), new ObjectId()).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "Token should only contain URL-safe characters");
+    }
+
+    @Test
+    void testDecodeInvalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode("bm90LWEtY3Vyc29y"));
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode(null));
+    }
+
+    @Test
+    void testNullIdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.of(new Date(), null));
+    }
+
+    @Test
+    void testQueryWithDate() {
+        ObjectId id = new ObjectId();
+        Date date = new Date();
+
+        Document query = NewsCursor.of(date, id).toQuery();
+
+        List<?> branches = query.get("$or", List.class);
+        assertNotNull(branches);
+        assertEquals(3, branches.size());
+        assertEquals(new Document("dateCreated", new Document("$lt", date)), branches.get(0));
+        assertEquals(new Document("dateCreated", date).append("_id", new Document("$lt", id)), branches.get(1));
+        assertEquals(new Document("dateCreated", null), branches.get(2));
+    }
+
+    @Test
+    void testQueryWithoutDate() {
+        ObjectId id = new ObjectId();
+
+        Document query = NewsCursor.of(null, id).toQuery();
+
+        assertTrue(query.containsKey("dateCreated"));
+        assertNull(query.get("dateCreated"));
+        assertEquals(new Document("$lt", id), query.get("_id"));
+    }
+}
@@ -0,0 +1,61 @@
+package org.gfoo.repository;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsFilterTest {
+
+    @Test
+    void testEmptyFilter() {
+        assertTrue(NewsFilter.ALL.isEmpty());
+        assertEquals(new Document(), NewsFilter.ALL.toQuery());
+        assertTrue(NewsFilter.ALL.matches("en", "usable", true));
+        assertTrue(NewsFilter.ALL.matches(null, null, null));
+    }
+
+    @Test
+    void testQueryContainsOnlySetCriteria() {
+        NewsFilter filter = new NewsFilter("fr", null, true);
+
+        assertFalse(filter.isEmpty());
+        assertEquals(new Document("language", "fr").append("isEvent", true), filter.toQuery());
+    }
+
+    @Test
+    void testMatches() {
+        NewsFilter filter = new NewsFilter("en", "usable", false);
+
+        assertTrue(filter.matches("en", "usable", false));
+        assertFalse(filter.matches("fr", "usable", false));
+        assertFalse(filter.matches("en", "deleted", false));
+        assertFalse(filter.matches("en", "usable", true));
+        assertFalse(filter.matches("en", "usable", null));
+    }
+
+    @Test
+    void testDateRangeQuery() {
+        Date from = new Date(1000);
+        Date to = new Date(2000);
+        NewsFilter filter = new NewsFilter(null, "usable", null, from, to);
+
+        assertTrue(filter.hasDateRange());
+        assertFalse(filter.isEmpty());
+        assertEquals(new Document("status", "usable")
+                .append("dateCreated", new Document("$gte", from).append("$lt", to)),
+            filter.toQuery());
+    }
+
+    @Test
+    void testOpenDateRangeQuery() {
+        Date from = new Date(1000);
+        NewsFilter filter = new NewsFilter(null, null, null, from, null);
+
+        assertEquals(new Document("dateCreated", new Document("$gte", from)), filter.toQuery());
+    }
+}
@@ -1,15 +1,25 @@
 package org.gfoo.repository;
 
+import org.gfoo.dto.NewsResponse;
 import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
 import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -221,4 +231,333 @@ class NewsRepositoryTest {
             newsRepository.findByStatus(null);
         });
     }
+
+    @Test
+    void testFindSummaries() {
+        List<NewsSummary> firstPage = newsRepository.findSummaries(NewsFilter.ALL, 0, 3);
+        List<NewsSummary> lastPage = newsRepository.findSummaries(NewsFilter.ALL, 1, 3);
+
+        assertEquals(3, firstPage.size());
+        assertEquals(2, lastPage.size());
+        firstPage.forEach(summary -> {
+            assertNotNull(summary.id);
+            assertNotNull(summary.title);
+            assertNotNull(summary.language);
+        });
+    }
+
+    @Test
+    void testFindResponses() {
+        // Given
+        List<NewsSummary> summaries = newsRepository.findSummaries(NewsFilter.ALL, 0, 10);
+
+        // When
+        List<NewsResponse> firstPage = newsRepository.findResponses(NewsFilter.ALL, 0, 3);
+        List<NewsResponse> lastPage = newsRepository.findResponses(NewsFilter.ALL, 1, 3);
+
+        // Then - same news and order as the summaries, type derived from isEvent
+        assertEquals(3, firstPage.size());
+        assertEquals(2, lastPage.size());
+        List<NewsResponse> responses = new ArrayList<>(firstPage);
+        responses.addAll(lastPage);
+        for (int i = 0; i < summaries.size(); i++) {
+            NewsSummary summary = summaries.get(i);
+            NewsResponse response = responses.get(i);
+            assertEquals(summary.id.toHexString(), response.id());
+            assertEquals(summary.title, response.title());
+            assertEquals(summary.isEvent ? "event" : "news", response.type());
+            assertEquals(summary.catchLine, response.catchLine());
+            assertEquals(summary.language, response.language());
+            assertEquals(summary.status, response.status());
+        }
+    }
+
+    @Test
+    void testFindResponsesWithFilter() {
+        List<NewsResponse> events = newsRepository.findResponses(new NewsFilter(null, null, true), 0, 10);
+
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(response -> "event".equals(response.type())));
+    }
+
+    @Test
+    void testFindResponsesRejectsOverflowingOffset() {
+        assertThrows(IllegalArgumentException.class,
+            () -> newsRepository.findResponses(NewsFilter.ALL, Integer.MAX_VALUE / 10, 20));
+    }
+
+    @Test
+    void testStreamResponses() {
+        try (Stream<NewsResponse> stream = newsRepository.streamResponses(new NewsFilter("en", null, null), 1)) {
+            List<NewsResponse> responses = stream.toList();
+
+            assertEquals(2, responses.size());
+            assertTrue(responses.stream().allMatch(response -> "en".equals(response.language())));
+        }
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.streamResponses(NewsFilter.ALL, 0));
+    }
+
+    @Test
+    void testFindSummaryById() {
+        NewsDocument document = newsRepository.findByStatus("draft").get(0);
+
+        Optional<NewsSummary> summary = newsRepository.findSummaryById(document.id);
+
+        assertTrue(summary.isPresent());
+        assertEquals(document.id, summary.get().id);
+        assertEquals(document.title, summary.get().title);
+        assertEquals(document.catchLine, summary.get().catchLine);
+        assertEquals(document.isEvent, summary.get().isEvent);
+        assertEquals(document.language, summary.get().language);
+        assertEquals(document.status, summary.get().status);
+        assertEquals(document.dateCreated, summary.get().dateCreated);
+    }
+
+    @Test
+    void testFindSummaryByIdNotFound() {
+        assertTrue(newsRepository.findSummaryById(new org.bson.types.ObjectId()).isEmpty());
+    }
+
+    @Test
+    void testFindSummariesByIds() {
+        List<NewsDocument> documents = newsRepository.listAll();
+        org.bson.types.ObjectId unknown = new org.bson.types.ObjectId();
+
+        List<NewsSummary> summaries = newsRepository.findSummariesByIds(
+            List.of(documents.get(0).id, unknown, documents.get(1).id));
+
+        assertEquals(2, summaries.size());
+        assertEquals(Set.of(documents.get(0).id, documents.get(1).id),
+            summaries.stream().map(summary -> summary.id).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testFindSummariesAfter() {
+        List<NewsSummary> first = newsRepository.findSummariesAfter(NewsFilter.ALL, null, 2);
+        List<NewsSummary> rest = newsRepository.findSummariesAfter(NewsFilter.ALL, NewsCursor.of(first.get(1)), 10);
+
+        assertEquals(2, first.size());
+        assertEquals(3, rest.size());
+        assertTrue(rest.stream().noneMatch(summary -> summary.id.equals(first.get(0).id)
+            || summary.id.equals(first.get(1).id)));
+    }
+
+    @Test
+    void testFindSummariesWithFilter() {
+        List<NewsSummary> englishUsable = newsRepository.findSummaries(new NewsFilter("en", "usable", null), 0, 10);
+        List<NewsSummary> events = newsRepository.findSummaries(new NewsFilter(null, null, true), 0, 10);
+
+        assertEquals(2, englishUsable.size());
+        assertTrue(englishUsable.stream().allMatch(summary -> "en".equals(summary.language)));
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(summary -> summary.isEvent));
+    }
+
+    @Test
+    void testFindSummariesAfterWithFilter() {
+        NewsFilter filter = new NewsFilter(null, "usable", null);
+
+        List<NewsSummary> first = newsRepository.findSummariesAfter(filter, null, 2);
+        List<NewsSummary> rest = newsRepository.findSummariesAfter(filter, NewsCursor.of(first.get(1)), 10);
+
+        assertEquals(2, first.size());
+        assertEquals(1, rest.size());
+        assertEquals("usable", rest.get(0).status);
+    }
+
+    @Test
+    void testFindSummariesAreMostRecentFirst() {
+        NewsDocument oldest = newsRepository.findByLanguage("de").get(0);
+        oldest.dateCreated = new Date(0);
+        newsRepository.update(oldest);
+
+        List<NewsSummary> summaries = newsRepository.findSummaries(NewsFilter.ALL, 0, 10);
+
+        assertEquals(oldest.id, summaries.get(summaries.size() - 1).id);
+    }
+
+    @Test
+    void testStreamSummaries() {
+        try (Stream<NewsSummary> stream = newsRepository.streamSummaries(NewsFilter.ALL, 2)) {
+            List<NewsSummary> summaries = stream.toList();
+
+            assertEquals(5, summaries.size());
+            summaries.forEach(summary -> assertNotNull(summary.title));
+        }
+    }
+
+    @Test
+    void testStreamSummariesWithFilter() {
+        try (Stream<NewsSummary> stream =
+                newsRepository.streamSummaries(new NewsFilter("en", null, null), 1)) {
+            assertEquals(2, stream.filter(summary -> "en".equals(summary.language)).count());
+        }
+    }
+
+    @Test
+    void testStreamSummariesWithInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.streamSummaries(NewsFilter.ALL, 0));
+    }
+
+    @Test
+    void testStreamSummariesByIdRange() {
+        // Given
+        List<ObjectId> ids = newsRepository.findAll().stream().map(news -> news.id).sorted().toList();
+
+        // When
+        List<ObjectId> lower;
+        List<ObjectId> upper;
+        try (Stream<NewsSummary> stream = newsRepository.streamSummaries(NewsFilter.ALL, null, ids.get(2), 10)) {
+            lower = stream.map(summary -> summary.id).sorted().toList();
+        }
+        try (Stream<NewsSummary> stream = newsRepository.streamSummaries(NewsFilter.ALL, ids.get(2), null, 10)) {
+            upper = stream.map(summary -> summary.id).sorted().toList();
+        }
+
+        // Then - the ranges are disjoint and cover the collection
+        assertEquals(ids.subList(0, 2), lower);
+        assertEquals(ids.subList(2, 5), upper);
+    }
+
+    @Test
+    void testFindBoundaryId() {
+        List<ObjectId> usable = newsRepository.findUsableNews().stream().map(news -> news.id).sorted().toList();
+        NewsFilter filter = new NewsFilter(null, "usable", null);
+
+        assertEquals(Optional.of(usable.get(0)), newsRepository.findBoundaryId(filter, false));
+        assertEquals(Optional.of(usable.get(usable.size() - 1)), newsRepository.findBoundaryId(filter, true));
+        assertTrue(newsRepository.findBoundaryId(new NewsFilter("it", null, null), true).isEmpty());
+    }
+
+    @Test
+    void testInsertUnordered() {
+        // Given - the second document reuses an existing id
+        NewsDocument first = new NewsDocument();
+        first.title = "Bulk 1";
+        NewsDocument duplicate = new NewsDocument();
+        duplicate.id = newsRepository.findAll().firstResult().id;
+        duplicate.title = "Bulk 2";
+        NewsDocument third = new NewsDocument();
+        third.title = "Bulk 3";
+
+        // When
+        Map<Integer, String> errors = newsRepository.insertUnordered(List.of(first, duplicate, third), true);
+
+        // Then - the documents after the refused one are inserted too
+        assertEquals(Set.of(1), errors.keySet());
+        assertNotNull(first.id);
+        assertEquals(7, newsRepository.count());
+        assertEquals("Bulk 3", newsRepository.findById(third.id).title);
+        assertTrue(newsRepository.insertUnordered(List.of(), true).isEmpty());
+    }
+
+    @Test
+    void testStreamVariantsAreInKeysetOrder() {
+        // When - one document per server round trip
+        List<NewsDocument> usable;
+        try (Stream<NewsDocument> stream = newsRepository.streamUsableNews(1)) {
+            usable = stream.toList();
+        }
+
+        // Then
+        assertEquals(3, usable.size());
+        assertTrue(usable.stream().allMatch(news -> "usable".equals(news.status)));
+        for (int i = 1; i < usable.size(); i++) {
+            NewsDocument previous = usable.get(i - 1);
+            NewsDocument next = usable.get(i);
+            assertTrue(previous.dateCreated.after(next.dateCreated)
+                || previous.dateCreated.equals(next.dateCreated) && previous.id.compareTo(next.id) > 0);
+        }
+        try (Stream<NewsDocument> stream = newsRepository.streamByLanguage("fr", 1)) {
+            assertEquals(Set.of("French News 1", "French News 2"),
+                stream.map(news -> news.title).collect(Collectors.toSet()));
+        }
+        try (Stream<NewsDocument> stream = newsRepository.streamByStatus("archived", 10)) {
+            assertEquals(List.of("German News 1"), stream.map(news -> news.title).toList());
+        }
+    }
+
+    @Test
+    void testPagedVariants() {
+        List<NewsDocument> first = newsRepository.findUsableNews(0, 2);
+        List<NewsDocument> last = newsRepository.findUsableNews(1, 2);
+
+        assertEquals(2, first.size());
+        assertEquals(1, last.size());
+        assertFalse(first.stream().anyMatch(news -> news.id.equals(last.get(0).id)));
+        assertEquals(2, newsRepository.findByLanguage("en", 0, 10).size());
+        assertEquals(1, newsRepository.findByStatus("draft", 0, 10).size());
+        assertTrue(newsRepository.findByStatus("draft", 1, 10).isEmpty());
+    }
+
+    @Test
+    void testKeysetVariantsWalkAllResults() {
+        // Given
+        List<NewsDocument> expected;
+        try (Stream<NewsDocument> stream = newsRepository.streamUsableNews(10)) {
+            expected = stream.toList();
+        }
+
+        // When - one news per page, each page starting after the last news of the previous one
+        List<NewsDocument> walked = new ArrayList<>();
+        List<NewsDocument> page = newsRepository.findUsableNewsAfter(null, 1);
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            page = newsRepository.findUsableNewsAfter(NewsCursor.of(page.get(page.size() - 1)), 1);
+        }
+
+        // Then
+        assertEquals(expected.stream().map(news -> news.id).toList(), walked.stream().map(news -> news.id).toList());
+        List<NewsDocument> english = newsRepository.findByLanguageAfter("en", null, 1);
+        assertEquals(1, newsRepository.findByLanguageAfter("en", NewsCursor.of(english.get(0)), 10).size());
+        assertEquals(1, newsRepository.findByStatusAfter("archived", null, 10).size());
+    }
+
+    @Test
+    void testPagedAndStreamedVariantsWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.findByLanguage(null, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.findByStatus("usable", -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.findUsableNews(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.findByStatusAfter(null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.findUsableNewsAfter(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.streamByLanguage(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsRepository.streamUsableNews(0));
+    }
+
+    @Test
+    void testAnyLanguageCanBeStoredAndIsAnalyzedWhenSupported() {
+        // Given - a language the MongoDB text search does not support
+        NewsDocument chinese = new NewsDocument();
+        chinese.title = "Chinese News";
+        chinese.language = "zh";
+        chinese.status = "usable";
+        chinese.isEvent = false;
+        chinese.dateCreated = new Date();
+
+        // When
+        newsRepository.persist(chinese);
+
+        // Then
+        assertEquals("none", newsRepository.findById(chinese.id).textLanguage);
+        assertEquals("en", newsRepository.findByLanguage("en").get(0).textLanguage);
+    }
+
+    @Test
+    void testBackfillTextLanguage() {
+        // Given - news written without the language of the text analysis, as other writers do
+        newsRepository.mongoCollection().updateMany(new Document(),
+            new Document("$unset", new Document("textLanguage", "")));
+        newsRepository.mongoCollection().updateOne(new Document("title", "English News 1"),
+            new Document("$set", new Document("language", "pl")));
+
+        // When
+        long backfilled = newsRepository.backfillTextLanguage();
+
+        // Then
+        assertEquals(newsRepository.count(), backfilled);
+        assertEquals("none", newsRepository.find("title", "English News 1").firstResult().textLanguage);
+        assertEquals("en", newsRepository.find("title", "English News 2").firstResult().textLanguage);
+        assertEquals("fr", newsRepository.find("title", "French News 1").firstResult().textLanguage);
+        assertEquals(0, newsRepository.backfillTextLanguage());
+    }
 }
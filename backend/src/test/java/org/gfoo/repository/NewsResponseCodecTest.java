@@ -0,0 +1,96 @@
+package org.gfoo.repository;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInvalidOperationException;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.gfoo.dto.NewsResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsResponseCodecTest {
+
+    private final NewsResponseCodec codec = new NewsResponseCodec();
+
+    @Test
+    void testRoundTrip() {
+        // Given
+        NewsResponse news = new NewsResponse(new ObjectId().toHexString(), "Title", "event", "Catch line", "fr", "usable");
+
+        // When
+        BsonDocument document = encode(news);
+
+        // Then - stored as a news document
+        assertEquals(new ObjectId(news.id()), document.getObjectId("_id").getValue());
+        assertTrue(document.getBoolean("isEvent").getValue());
+        assertFalse(document.containsKey("type"));
+        assertEquals(news, decode(document));
+    }
+
+    @Test
+    void testDecodeDerivesTypeFromIsEvent() {
+        // Given
+        BsonDocument news = BsonDocument.parse("{title: 'News', isEvent: false}");
+        BsonDocument missing = BsonDocument.parse("{title: 'Unknown'}");
+        BsonDocument nullType = BsonDocument.parse("{title: 'Unknown', isEvent: null}");
+
+        // When / Then
+        assertEquals("news", decode(news).type());
+        assertNull(decode(missing).type());
+        assertNull(decode(nullType).type());
+    }
+
+    @Test
+    void testDecodeSkipsOtherFields() {
+        // Given - a whole news document, with fields of every kind not exposed by the API
+        ObjectId id = new ObjectId();
+        BsonDocument document = BsonDocument.parse("{_id: {$oid: '" + id.toHexString() + "'},"
+            + " title: 'Title', catchLine: 'Catch line', isEvent: true, language: 'en', status: 'draft',"
+            + " userCreated: 'user1', dateCreated: {$date: '2024-01-01T00:00:00Z'},"
+            + " tags: ['a', 'b'], author: {name: 'user1', roles: ['editor']}, score: 1.5}");
+
+        // When
+        NewsResponse news = decode(document);
+
+        // Then
+        assertEquals(new NewsResponse(id.toHexString(), "Title", "event", "Catch line", "en", "draft"), news);
+    }
+
+    @Test
+    void testDecodeNullFields() {
+        // Given
+        BsonDocument document = BsonDocument.parse("{title: 'Title', catchLine: null, language: null}");
+
+        // When
+        NewsResponse news = decode(document);
+
+        // Then
+        assertEquals(new NewsResponse(null, "Title", null, null, null, null), news);
+        assertEquals(news, decode(encode(news)));
+    }
+
+    @Test
+    void testDecodeRejectsWrongTypes() {
+        // Given
+        BsonDocument document = BsonDocument.parse("{title: 42}");
+
+        // When / Then
+        assertThrows(BsonInvalidOperationException.class, () -> decode(document));
+    }
+
+    private BsonDocument encode(NewsResponse news) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), news, EncoderContext.builder().build());
+        return document;
+    }
+
+    private NewsResponse decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
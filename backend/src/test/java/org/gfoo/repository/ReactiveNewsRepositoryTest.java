@@ -0,0 +1,116 @@
+package org.gfoo.repository;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ReactiveNewsRepositoryTest {
+
+    @Inject
+    ReactiveNewsRepository reactiveNewsRepository;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    private final List<NewsDocument> documents = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+        documents.clear();
+
+        // Inject test data, one second apart, oldest first
+        for (int i = 1; i <= 6; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "News " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = i % 3 == 0;
+            news.language = i % 2 == 0 ? "fr" : "en";
+            news.status = "usable";
+            news.userCreated = "user" + i;
+            news.userLastModified = "user" + i;
+            news.dateCreated = new Date(1_700_000_000_000L + i * 1000L);
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+            documents.add(news);
+        }
+    }
+
+    @Test
+    void testFindSummaries() {
+        List<NewsSummary> summaries = reactiveNewsRepository.findSummaries(NewsFilter.ALL, 0, 4)
+            .await().indefinitely();
+
+        assertEquals(4, summaries.size());
+        assertEquals("News 6", summaries.get(0).title);
+        assertEquals("News 3", summaries.get(3).title);
+    }
+
+    @Test
+    void testFindSummariesWithFilter() {
+        List<NewsSummary> summaries = reactiveNewsRepository.findSummaries(new NewsFilter("fr", null, null), 0, 10)
+            .await().indefinitely();
+
+        assertEquals(3, summaries.size());
+        summaries.forEach(summary -> assertEquals("fr", summary.language));
+    }
+
+    @Test
+    void testFindSummariesAfter() {
+        NewsCursor cursor = NewsCursor.of(documents.get(3));
+
+        List<NewsSummary> summaries = reactiveNewsRepository.findSummariesAfter(NewsFilter.ALL, cursor, 10)
+            .await().indefinitely();
+
+        assertEquals(List.of("News 3", "News 2", "News 1"), summaries.stream().map(summary -> summary.title).toList());
+    }
+
+    @Test
+    void testFindSummariesAfterWithInvalidLimit() {
+        assertThrows(IllegalArgumentException.class,
+            () -> reactiveNewsRepository.findSummariesAfter(NewsFilter.ALL, null, 0).await().indefinitely());
+    }
+
+    @Test
+    void testStreamSummaries() {
+        List<NewsSummary> summaries = reactiveNewsRepository.streamSummaries(new NewsFilter("en", null, null), 2)
+            .collect().asList()
+            .await().indefinitely();
+
+        assertEquals(3, summaries.size());
+        summaries.forEach(summary -> assertEquals("en", summary.language));
+    }
+
+    @Test
+    void testFindSummaryById() {
+        NewsDocument news = documents.get(0);
+
+        NewsSummary summary = reactiveNewsRepository.findSummaryById(news.id).await().indefinitely();
+
+        assertNotNull(summary);
+        assertEquals(news.title, summary.title);
+        assertNull(reactiveNewsRepository.findSummaryById(new ObjectId()).await().indefinitely());
+    }
+
+    @Test
+    void testFindSummariesByIds() {
+        List<NewsSummary> summaries = reactiveNewsRepository
+            .findSummariesByIds(List.of(documents.get(1).id, new ObjectId()))
+            .await().indefinitely();
+
+        assertEquals(1, summaries.size());
+        assertEquals(documents.get(1).id, summaries.get(0).id);
+    }
+}
@@ -0,0 +1,29 @@
+package org.gfoo.repository;
+
+import org.bson.Document;
+
+import java.util.regex.Pattern;
+
+/**
+ * Validator making MongoDB refuse the news whose title starts with a prefix, to test how
+ * writers handle documents refused by the server. Removed on close.
+ */
+public final class RefusedTitles implements AutoCloseable {
+
+    private final NewsRepository newsRepository;
+
+    private RefusedTitles(NewsRepository newsRepository) {
+        this.newsRepository = newsRepository;
+    }
+
+    public static RefusedTitles install(NewsRepository newsRepository, String prefix) {
+        Document validator = new Document("title", new Document("$not", Pattern.compile("^" + Pattern.quote(prefix))));
+        newsRepository.mongoDatabase().runCommand(new Document("collMod", "news").append("validator", validator));
+        return new RefusedTitles(newsRepository);
+    }
+
+    @Override
+    public void close() {
+        newsRepository.mongoDatabase().runCommand(new Document("collMod", "news").append("validator", new Document()));
+    }
+}
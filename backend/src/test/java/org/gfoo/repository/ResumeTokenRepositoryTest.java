@@ -0,0 +1,100 @@
+package org.gfoo.repository;
+
+import com.mongodb.client.MongoClient;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ResumeTokenRepositoryTest {
+
+    private static final String LISTENER = "test-listener";
+
+    @Inject
+    ResumeTokenRepository resumeTokenRepository;
+
+    @Inject
+    MongoClient mongoClient;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String database;
+
+    @AfterEach
+    void cleanup() {
+        resumeTokenRepository.delete(LISTENER);
+    }
+
+    @Test
+    void testLoadWithoutToken() {
+        assertTrue(resumeTokenRepository.load(LISTENER).isEmpty());
+    }
+
+    @Test
+    void testSaveAndLoad() {
+        BsonDocument first = new BsonDocument("_data", new BsonString("8263A1"));
+        BsonDocument second = new BsonDocument("_data", new BsonString("8263A2"));
+
+        resumeTokenRepository.save(LISTENER, first);
+        resumeTokenRepository.save(LISTENER, second);
+
+        Optional<BsonDocument> loaded = resumeTokenRepository.load(LISTENER);
+        assertTrue(loaded.isPresent());
+        assertEquals(second, loaded.get());
+    }
+
+    @Test
+    void testDelete() {
+        resumeTokenRepository.save(LISTENER, new BsonDocument("_data", new BsonString("8263A1")));
+
+        resumeTokenRepository.delete(LISTENER);
+
+        assertTrue(resumeTokenRepository.load(LISTENER).isEmpty());
+    }
+
+    private Document ttlIndex() {
+        for (Document index : mongoClient.getDatabase(database)
+                .getCollection(ResumeTokenRepository.COLLECTION).listIndexes()) {
+            if (ResumeTokenRepository.TTL_INDEX.equals(index.getString("name"))) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void testTokensExpire() {
+        // When
+        resumeTokenRepository.save(LISTENER, new BsonDocument("_data", new BsonString("8263A1")));
+
+        // Then
+        Document index = ttlIndex();
+        assertNotNull(index);
+        assertEquals(new Document("dateLastModified", 1), index.get("key", Document.class));
+        assertEquals(Duration.ofDays(7).toSeconds(), index.get("expireAfterSeconds", Number.class).longValue());
+    }
+
+    @Test
+    void testTtlIndexFollowsTheConfiguredExpiration() {
+        // Given - the index of the default configuration
+        resumeTokenRepository.createTtlIndex(Duration.ofDays(7));
+        try {
+            // When
+            resumeTokenRepository.createTtlIndex(Duration.ofDays(1));
+
+            // Then
+            assertEquals(Duration.ofDays(1).toSeconds(), ttlIndex().get("expireAfterSeconds", Number.class).longValue());
+        } finally {
+            resumeTokenRepository.createTtlIndex(Duration.ofDays(7));
+        }
+    }
+}
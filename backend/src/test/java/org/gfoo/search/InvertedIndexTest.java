@@ -0,0 +1,116 @@
+package org.gfoo.search;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class InvertedIndexTest {
+
+    private static final TextAnalyzer ANALYZER = TextAnalyzer.ENGLISH;
+
+    private static InvertedIndex<String> index(String... texts) {
+        InvertedIndex<String> index = new InvertedIndex<>(Comparator.<String>naturalOrder());
+        for (String text : texts) {
+            index.add(text, new AnalyzedText().add(ANALYZER.analyze(text), 1));
+        }
+        return index;
+    }
+
+    private static List<String> items(List<InvertedIndex.Hit<String>> hits) {
+        return hits.stream().map(InvertedIndex.Hit::item).toList();
+    }
+
+    @Test
+    void testRanksByBm25() {
+        // Given
+        InvertedIndex<String> index = index(
+            "campus library opening",
+            "library library hours",
+            "sports campus",
+            "campus news",
+            "weather report");
+
+        // When
+        List<InvertedIndex.Hit<String>> hits = index.search(ANALYZER.analyze("library campus"), item -> true, 10);
+
+        // Then - the rarer term weighs more, repeated terms score higher
+        assertEquals(List.of("campus library opening", "library library hours", "campus news", "sports campus"),
+            items(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertEquals(4, index.count(ANALYZER.analyze("library campus"), item -> true));
+    }
+
+    @Test
+    void testEqualScoresFollowTheTieBreak() {
+        InvertedIndex<String> index = index("b news", "a news", "c news");
+
+        assertEquals(List.of("a news", "b news", "c news"), items(index.search(ANALYZER.analyze("news"), item -> true, 10)));
+    }
+
+    @Test
+    void testFilterAndLimit() {
+        InvertedIndex<String> index = index("red apple", "green apple", "red car", "apple apple pie");
+
+        assertEquals(List.of("apple apple pie"), items(index.search(List.of("apple"), item -> true, 1)));
+        assertEquals(List.of("red apple"),
+            items(index.search(List.of("apple"), item -> item.startsWith("red"), 10)));
+        assertTrue(index.search(List.of("unknown"), item -> true, 10).isEmpty());
+        assertTrue(index.search(List.of(), item -> true, 10).isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        // Given
+        InvertedIndex<String> index = index("red apple", "green apple", "red car");
+
+        // When
+        index.remove(0);
+        index.remove(0);
+
+        // Then
+        assertEquals(List.of("green apple"), items(index.search(List.of("apple"), item -> true, 10)));
+        assertEquals(1, index.count(List.of("red"), item -> true));
+        assertEquals(2, index.size());
+        assertEquals(1, index.deleted());
+    }
+
+    @Test
+    void testPruningReturnsTheExhaustiveTopHits() {
+        // Given - a Zipfian vocabulary, so that common and rare terms mix in queries
+        Random random = new Random(7);
+        InvertedIndex<String> index = new InvertedIndex<>(Comparator.<String>naturalOrder());
+        for (int doc = 0; doc < 5000; doc++) {
+            List<String> terms = new ArrayList<>();
+            for (int i = 0; i < 3 + random.nextInt(20); i++) {
+                terms.add("t" + (int) Math.floor(Math.pow(200, random.nextDouble())));
+            }
+            index.add("d" + doc, new AnalyzedText().add(terms, 1));
+        }
+
+        for (int query = 0; query < 50; query++) {
+            List<String> terms = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(4); i++) {
+                terms.add("t" + (int) Math.floor(Math.pow(200, random.nextDouble())));
+            }
+
+            // When
+            List<InvertedIndex.Hit<String>> top = index.search(terms, item -> true, 10);
+            List<InvertedIndex.Hit<String>> all = index.search(terms, item -> true, Integer.MAX_VALUE - 1);
+
+            // Then - same documents, scores only differ by the summation order
+            List<InvertedIndex.Hit<String>> expected = all.subList(0, Math.min(10, all.size()));
+            assertEquals(items(expected), items(top), "query " + terms);
+            for (int i = 0; i < top.size(); i++) {
+                assertEquals(expected.get(i).score(), top.get(i).score(), 1e-9);
+            }
+            assertEquals(all.size(), index.count(terms, item -> true));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.gfoo.search;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class PostingListTest {
+
+    private static PostingList of(int count, int stride) {
+        PostingList list = PostingList.EMPTY;
+        for (int i = 0; i < count; i++) {
+            list = list.append(i * stride, i % 7 + 1);
+        }
+        return list;
+    }
+
+    @Test
+    void testIteration() {
+        // Given
+        PostingList list = PostingList.EMPTY.append(0, 2).append(3, 1).append(200, 5);
+
+        // When
+        PostingList.Cursor cursor = list.cursor();
+
+        // Then
+        assertEquals(3, list.size());
+        assertEquals(-1, cursor.doc());
+        assertEquals(0, cursor.next());
+        assertEquals(2, cursor.frequency());
+        assertEquals(3, cursor.next());
+        assertEquals(200, cursor.next());
+        assertEquals(5, cursor.frequency());
+        assertEquals(PostingList.NO_MORE_DOCS, cursor.next());
+        assertEquals(PostingList.NO_MORE_DOCS, cursor.next());
+    }
+
+    @Test
+    void testGapsAreCompressed() {
+        PostingList list = of(1000, 2);
+
+        // One byte for each gap and frequency
+        assertEquals(2000, list.bytes());
+    }
+
+    @Test
+    void testAdvanceUsesSkipsAndMatchesLinearScan() {
+        // Given - 100 blocks
+        PostingList list = of(PostingList.SKIP_INTERVAL * 100, 3);
+
+        // When / Then
+        for (int target : new int[] {0, 1, 190, 191, 192, 5000, 5001, 19_197, 19_199}) {
+            PostingList.Cursor cursor = list.cursor();
+            int expected = target % 3 == 0 ? target : target + 3 - target % 3;
+            assertEquals(expected >= PostingList.SKIP_INTERVAL * 300 ? PostingList.NO_MORE_DOCS : expected,
+                cursor.advance(target), "target " + target);
+            if (cursor.doc() != PostingList.NO_MORE_DOCS) {
+                assertEquals(cursor.doc() / 3 % 7 + 1, cursor.frequency());
+            }
+        }
+    }
+
+    @Test
+    void testSuccessiveAdvances() {
+        // Given
+        PostingList list = of(10_000, 5);
+        PostingList.Cursor cursor = list.cursor();
+        List<Integer> docs = new ArrayList<>();
+
+        // When
+        for (int target = 0; target < 50_000; target += 777) {
+            docs.add(cursor.advance(target));
+        }
+
+        // Then
+        for (int i = 0; i < docs.size(); i++) {
+            int target = i * 777;
+            assertEquals(target % 5 == 0 ? target : target + 5 - target % 5, docs.get(i));
+        }
+        assertEquals(PostingList.NO_MORE_DOCS, cursor.advance(50_000));
+    }
+
+    @Test
+    void testAppendDoesNotChangeEarlierViews() {
+        // Given
+        PostingList first = of(100, 1);
+
+        // When
+        PostingList second = first.append(1000, 1);
+        PostingList third = second.append(2000, 1);
+
+        // Then
+        assertEquals(100, first.size());
+        PostingList.Cursor cursor = first.cursor();
+        assertEquals(99, cursor.advance(99));
+        assertEquals(PostingList.NO_MORE_DOCS, cursor.next());
+        assertEquals(102, third.size());
+    }
+
+    @Test
+    void testAppendRejectsUnorderedDocuments() {
+        PostingList list = PostingList.EMPTY.append(5, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> list.append(5, 1));
+        assertThrows(IllegalArgumentException.class, () -> list.append(3, 1));
+        assertThrows(IllegalArgumentException.class, () -> list.append(6, 0));
+    }
+}
@@ -0,0 +1,121 @@
+package org.gfoo.search;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SuggestionTrieTest {
+
+    private static SuggestionTrie<String> trie(Object... keysAndWeights) {
+        List<SuggestionTrie.Entry<String>> entries = new ArrayList<>();
+        for (int i = 0; i < keysAndWeights.length; i += 2) {
+            String key = (String) keysAndWeights[i];
+            entries.add(new SuggestionTrie.Entry<>(key, (Integer) keysAndWeights[i + 1], key));
+        }
+        return SuggestionTrie.build(entries);
+    }
+
+    private static List<String> values(List<SuggestionTrie.Suggestion<String>> suggestions) {
+        return suggestions.stream().map(SuggestionTrie.Suggestion::value).toList();
+    }
+
+    @Test
+    void testSuggestsHeaviestFirst() {
+        // Given
+        SuggestionTrie<String> trie = trie(
+            "conference de presse", 3,
+            "concert d orgue", 5,
+            "conference annuelle", 1,
+            "concours photo", 4,
+            "campus", 9);
+
+        // When
+        List<SuggestionTrie.Suggestion<String>> suggestions = trie.suggest("con", 10);
+
+        // Then
+        assertEquals(List.of("concert d orgue", "concours photo", "conference de presse", "conference annuelle"),
+            values(suggestions));
+        assertEquals(5, suggestions.get(0).weight());
+        assertEquals(List.of("concert d orgue", "concours photo"), values(trie.suggest("con", 2)));
+        assertEquals(List.of("campus", "concert d orgue"), values(trie.suggest("", 2)));
+    }
+
+    @Test
+    void testPrefixEndingInsideAnEdge() {
+        SuggestionTrie<String> trie = trie("conference de presse", 3, "conference annuelle", 1, "campus", 9);
+
+        assertEquals(List.of("conference de presse", "conference annuelle"), values(trie.suggest("confer", 10)));
+        assertEquals(List.of("conference annuelle"), values(trie.suggest("conference a", 10)));
+        assertEquals(List.of(), values(trie.suggest("conferences", 10)));
+        assertEquals(List.of(), values(trie.suggest("cx", 10)));
+        assertEquals(List.of(), values(trie.suggest("z", 10)));
+    }
+
+    @Test
+    void testSharedKeysAndPrefixKeys() {
+        List<SuggestionTrie.Entry<String>> entries = List.of(
+            new SuggestionTrie.Entry<>("rentree", 1, "a"),
+            new SuggestionTrie.Entry<>("rentree", 3, "b"),
+            new SuggestionTrie.Entry<>("rentree academique", 2, "c"));
+        SuggestionTrie<String> trie = SuggestionTrie.build(entries);
+
+        assertEquals(List.of("b", "c", "a"), values(trie.suggest("rent", 10)));
+        assertEquals(List.of("c"), values(trie.suggest("rentree ", 10)));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    void testEqualWeightsFollowKeyOrder() {
+        SuggestionTrie<String> trie = trie("beta", 1, "alpha", 1, "alphabet", 1, "al", 1);
+
+        assertEquals(List.of("al", "alpha", "alphabet", "beta"), values(trie.suggest("", 10)));
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(List.of(), SuggestionTrie.<String>empty().suggest("", 10));
+        assertEquals(0, SuggestionTrie.empty().size());
+        assertEquals(List.of(), trie("campus", 1).suggest("campus", 0));
+    }
+
+    @Test
+    void testMatchesExhaustiveSearch() {
+        // Given - random keys over a small alphabet, so that they share long prefixes
+        Random random = new Random(11);
+        List<SuggestionTrie.Entry<String>> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int j = 0; j < 1 + random.nextInt(8); j++) {
+                key.append((char) ('a' + random.nextInt(3)));
+            }
+            entries.add(new SuggestionTrie.Entry<>(key.toString(), random.nextInt(100), key + "#" + i));
+        }
+        SuggestionTrie<String> trie = SuggestionTrie.build(entries);
+        Comparator<SuggestionTrie.Entry<String>> order = Comparator
+            .comparingLong((SuggestionTrie.Entry<String> entry) -> entry.weight()).reversed()
+            .thenComparing(SuggestionTrie.Entry::key);
+
+        for (String prefix : List.of("", "a", "ab", "cab", "bbb", "abcab")) {
+            // When
+            List<SuggestionTrie.Suggestion<String>> suggestions = trie.suggest(prefix, 15);
+
+            // Then - same weights and keys; values sharing both may come in any order
+            List<SuggestionTrie.Entry<String>> expected = entries.stream()
+                .filter(entry -> entry.key().startsWith(prefix))
+                .sorted(order)
+                .limit(15)
+                .toList();
+            assertEquals(expected.stream().map(entry -> entry.weight() + " " + entry.key()).toList(),
+                suggestions.stream().map(s -> s.weight() + " " + s.value().substring(0, s.value().indexOf('#'))).toList(),
+                prefix);
+        }
+        assertTrue(trie.nodes() <= 2 * trie.size() + 1);
+    }
+}
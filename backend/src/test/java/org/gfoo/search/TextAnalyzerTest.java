@@ -0,0 +1,53 @@
+package org.gfoo.search;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class TextAnalyzerTest {
+
+    @Test
+    void testForLanguage() {
+        assertEquals(TextAnalyzer.FRENCH, TextAnalyzer.forLanguage("fr"));
+        assertEquals(TextAnalyzer.ENGLISH, TextAnalyzer.forLanguage("EN"));
+        assertEquals(TextAnalyzer.NEUTRAL, TextAnalyzer.forLanguage("de"));
+        assertEquals(TextAnalyzer.NEUTRAL, TextAnalyzer.forLanguage(null));
+    }
+
+    @Test
+    void testNormalization() {
+        assertEquals(List.of("ecole", "2024", "zurich"), TextAnalyzer.NEUTRAL.analyze("École-2024, ZÜRICH !"));
+        assertEquals(List.of(), TextAnalyzer.NEUTRAL.analyze(null));
+        assertEquals(List.of(), TextAnalyzer.NEUTRAL.analyze(" - "));
+    }
+
+    @Test
+    void testFold() {
+        assertEquals("ecole 2024 zurich", TextAnalyzer.fold("  École-2024, ZÜRICH !"));
+        assertEquals("l universite", TextAnalyzer.fold("L'Université"));
+        assertEquals("", TextAnalyzer.fold(null));
+        assertEquals("", TextAnalyzer.fold(" - "));
+    }
+
+    @Test
+    void testFrenchStopWordsElisionsAndStemming() {
+        assertEquals(List.of("election", "etudiant", "universit"),
+            TextAnalyzer.FRENCH.analyze("Les élections des étudiantes à l'université"));
+        assertEquals(TextAnalyzer.FRENCH.analyze("journal"), TextAnalyzer.FRENCH.analyze("journaux"));
+        assertEquals(TextAnalyzer.FRENCH.analyze("rapide"), TextAnalyzer.FRENCH.analyze("rapidement"));
+        assertEquals(TextAnalyzer.FRENCH.analyze("université"), TextAnalyzer.FRENCH.analyze("universités"));
+    }
+
+    @Test
+    void testEnglishStopWordsAndStemming() {
+        assertEquals(List.of("run", "marathon"), TextAnalyzer.ENGLISH.analyze("Running the marathons"));
+        assertEquals(TextAnalyzer.ENGLISH.analyze("library"), TextAnalyzer.ENGLISH.analyze("libraries"));
+        assertEquals(TextAnalyzer.ENGLISH.analyze("open"), TextAnalyzer.ENGLISH.analyze("opened"));
+        assertEquals(TextAnalyzer.ENGLISH.analyze("box"), TextAnalyzer.ENGLISH.analyze("boxes"));
+        assertEquals(List.of("campus", "class"), TextAnalyzer.ENGLISH.analyze("campus class"));
+    }
+}
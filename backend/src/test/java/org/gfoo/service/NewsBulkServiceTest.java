@@ -0,0 +1,168 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsBulkItemResult;
+import org.gfoo.dto.NewsBulkResponse;
+import org.gfoo.dto.NewsWriteRequest;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.repository.RefusedTitles;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsBulkServiceTest {
+
+    private static final String VALID = "{\"title\": \"Concert\", \"type\": \"event\", \"language\": \"fr\", \"status\": \"usable\"}";
+
+    @Inject
+    NewsBulkService newsBulkService;
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @Inject
+    UsableNewsView usableNewsView;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+        newsIndexService.createMissingIndexes();
+    }
+
+    private NewsBulkResponse insert(String body, boolean ndjson) throws IOException {
+        return newsBulkService.insert(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ndjson);
+    }
+
+    @Test
+    void testInsertNdjson() throws IOException {
+        // Given
+        String body = VALID + "\n"
+            + "{\"type\": \"news\", \"language\": \"en\", \"status\": \"usable\"}\n"
+            + "{\"title\": \n"
+            + "\n"
+            + "{\"title\": \"Rentrée\", \"catchLine\": \"Accueil\", \"type\": \"news\", \"language\": \"fr\", "
+            + "\"status\": \"draft\", \"user\": \"editor\", \"dateCreated\": \"2023-11-14T22:13:20Z\"}\n";
+
+        // When
+        NewsBulkResponse response = insert(body, true);
+
+        // Then
+        assertEquals(4, response.received());
+        assertEquals(2, response.inserted());
+        assertEquals(2, response.rejected());
+        assertEquals(NewsBulkItemResult.rejected(1, "Title is required"), response.results().get(1));
+        assertTrue(response.results().get(2).error().startsWith("Invalid JSON"));
+        assertEquals(3, response.results().get(3).index());
+
+        NewsDocument created = newsRepository.findById(new ObjectId(response.results().get(3).id()));
+        assertEquals("Rentrée", created.title);
+        assertEquals("Accueil", created.catchLine);
+        assertFalse(created.isEvent);
+        assertEquals("editor", created.userCreated);
+        assertEquals(new Date(1_700_000_000_000L), created.dateCreated);
+        assertNotNull(created.dateLastModified);
+        assertNotNull(newsRepository.findById(new ObjectId(response.results().get(0).id())).dateCreated);
+        assertEquals(2, newsRepository.count());
+    }
+
+    @Test
+    void testInsertArray() throws IOException {
+        NewsBulkResponse response = insert("[" + VALID + ", \"text\", null, {\"title\": \"x\", \"type\": \"other\"}, "
+            + VALID + "]", false);
+
+        assertEquals(5, response.received());
+        assertEquals(2, response.inserted());
+        assertNotNull(response.results().get(0).id());
+        assertTrue(response.results().get(1).error().startsWith("Invalid news"));
+        assertEquals("Item must be a JSON object", response.results().get(2).error());
+        assertEquals("Type must be 'news' or 'event'", response.results().get(3).error());
+        assertNotNull(response.results().get(4).id());
+    }
+
+    @Test
+    void testMalformedArrayStopsReading() throws IOException {
+        NewsBulkResponse response = insert("[" + VALID + ", {\"title\": ]", false);
+
+        assertEquals(2, response.received());
+        assertEquals(1, response.inserted());
+        assertTrue(response.results().get(1).error().startsWith("Invalid JSON, remaining items ignored"));
+        assertEquals(1, newsRepository.count());
+
+        assertEquals("Unexpected end of the JSON array", insert("[" + VALID, false).results().get(1).error());
+        assertThrows(IllegalArgumentException.class, () -> insert(VALID, false));
+    }
+
+    @Test
+    void testItemsRefusedByMongoDoNotStopTheOthers() throws IOException {
+        try (RefusedTitles ignored = RefusedTitles.install(newsRepository, "Refused")) {
+            NewsBulkResponse response = insert(VALID + "\n" + VALID.replace("Concert", "Refused") + "\n" + VALID, true);
+
+            assertEquals(2, response.inserted());
+            assertNotNull(response.results().get(0).id());
+            assertNotNull(response.results().get(1).error());
+            assertNotNull(response.results().get(2).id());
+            assertEquals(2, newsRepository.count());
+        }
+    }
+
+    @Test
+    void testLanguagesUnknownToTheTextSearchAreAccepted() throws IOException {
+        NewsBulkResponse response = insert(VALID.replace("\"fr\"", "\"pl\"") + "\n" + VALID.replace("\"fr\"", "\"ja\""), true);
+
+        assertEquals(2, response.inserted());
+        assertEquals(2, newsRepository.count("textLanguage", "none"));
+    }
+
+    @Test
+    void testLargeRequestsAreBatchedAndInvalidate() throws IOException, InterruptedException {
+        // Given - more news than a batch and than the news notified one by one
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            body.append(VALID.replace("Concert", "Concert " + i)).append('\n');
+        }
+
+        // When
+        NewsBulkResponse response = insert(body.toString(), true);
+
+        // Then
+        assertEquals(2500, response.inserted());
+        assertEquals(2500, newsRepository.count());
+        for (int i = 0; i < 2500; i++) {
+            assertEquals(i, response.results().get(i).index());
+            assertNotNull(response.results().get(i).id());
+        }
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (usableNewsView.size() != 2500 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(2500, usableNewsView.size());
+    }
+
+    @Test
+    void testValidate() {
+        assertNull(NewsBulkService.validate(new NewsWriteRequest("Title", null, "news", "en", "usable", null, null)));
+        assertEquals("Item must be a JSON object", NewsBulkService.validate(null));
+        assertEquals("Title is required",
+            NewsBulkService.validate(new NewsWriteRequest(" ", null, "news", "en", "usable", null, null)));
+        assertEquals("Type must be 'news' or 'event'",
+            NewsBulkService.validate(new NewsWriteRequest("Title", null, null, "en", "usable", null, null)));
+        assertEquals("Language must be a two-letter lower-case code",
+            NewsBulkService.validate(new NewsWriteRequest("Title", null, "news", "EN", "usable", null, null)));
+        assertEquals("Status must be one of usable, draft, archived, deleted",
+            NewsBulkService.validate(new NewsWriteRequest("Title", null, "news", "en", "published", null, null)));
+    }
+}
@@ -0,0 +1,219 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.CacheReport;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsCacheTest {
+
+    @Inject
+    NewsCache newsCache;
+
+    @Inject
+    NewsService newsService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsMapper newsMapper;
+
+    private NewsDocument news;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test, which also empties the cache
+        newsRepository.deleteAll();
+
+        // Inject test data
+        news = new NewsDocument();
+        news.title = "Cached News";
+        news.catchLine = "Read often";
+        news.isEvent = false;
+        news.language = "en";
+        news.status = "usable";
+        news.dateCreated = new Date();
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+    }
+
+    @Test
+    void testSecondLookupIsAHit() {
+        CacheReport before = newsCache.report();
+
+        newsService.getNewsById(news.id.toHexString());
+        newsService.getNewsById(news.id.toHexString());
+
+        CacheReport after = newsCache.report();
+        assertEquals(1, after.missCount() - before.missCount());
+        assertEquals(1, after.hitCount() - before.hitCount());
+        assertEquals(1, after.size());
+    }
+
+    @Test
+    void testIdsAreNormalized() {
+        newsService.getNewsById(news.id.toHexString());
+
+        assertNotNull(newsCache.getIfPresent(NewsCache.key(news.id.toHexString().toUpperCase())));
+        assertEquals(news.id.toHexString(), NewsCache.key(" " + news.id.toHexString().toUpperCase() + " "));
+        assertNull(NewsCache.key("invalid-id"));
+        assertNull(NewsCache.key(null));
+    }
+
+    @Test
+    void testUpdateInvalidatesEntry() {
+        newsService.getNewsById(news.id.toHexString());
+
+        news.title = "Updated title";
+        newsRepository.update(news);
+
+        Optional<NewsResponse> result = newsService.getNewsById(news.id.toHexString());
+        assertTrue(result.isPresent());
+        assertEquals("Updated title", result.get().title());
+    }
+
+    @Test
+    void testDeleteInvalidatesEntry() {
+        newsService.getNewsById(news.id.toHexString());
+
+        newsRepository.deleteById(news.id);
+
+        assertTrue(newsService.getNewsById(news.id.toHexString()).isEmpty());
+    }
+
+    @Test
+    void testMissingIdIsCachedUntilInserted() {
+        ObjectId id = new ObjectId();
+        assertTrue(newsService.getNewsById(id.toHexString()).isEmpty());
+        assertEquals(Optional.empty(), newsCache.getIfPresent(id.toHexString()));
+
+        NewsDocument created = new NewsDocument();
+        created.id = id;
+        created.title = "Created later";
+        created.language = "fr";
+        created.status = "usable";
+        created.isEvent = true;
+        newsRepository.persist(created);
+
+        assertNull(newsCache.getIfPresent(id.toHexString()));
+        assertTrue(newsService.getNewsById(id.toHexString()).isPresent());
+    }
+
+    @Test
+    void testExplicitInvalidation() {
+        newsService.getNewsById(news.id.toHexString());
+
+        newsCache.invalidate(news.id.toHexString());
+        assertNull(newsCache.getIfPresent(news.id.toHexString()));
+
+        newsService.getNewsById(news.id.toHexString());
+        newsCache.invalidateAll();
+        assertEquals(0, newsCache.size());
+    }
+
+    @Test
+    void testLoadInvalidatedMeanwhileIsNotCached() {
+        // Given
+        String id = new ObjectId().toHexString();
+        VersionedNews stale = VersionedNews.of(
+            new NewsResponse(id, "Stale", "news", null, "en", "usable"), new Date());
+
+        // When - the news is written while it is being read
+        Optional<VersionedNews> loaded = newsCache.get(id, key -> {
+            newsCache.invalidate(key);
+            return Optional.of(stale);
+        });
+
+        // Then - returned to its reader, but not cached
+        assertEquals(Optional.of(stale), loaded);
+        assertNull(newsCache.getIfPresent(id));
+    }
+
+    @Test
+    void testBatchLoadInvalidatedMeanwhileIsNotCached() {
+        // Given - a batch miss, looked up before the news is updated
+        String id = news.id.toHexString();
+        NewsSummary stale = newsRepository.findSummaryById(news.id).orElseThrow();
+        Map<String, Optional<VersionedNews>> found = new LinkedHashMap<>();
+        Map<ObjectId, Long> misses = NewsService.lookupCached(List.of(id), newsCache, found);
+        news.title = "Updated title";
+        newsRepository.update(news);
+
+        // When - the result of the lookup arrives after the update
+        NewsService.cacheLoaded(misses, List.of(stale), found, newsCache, newsMapper);
+
+        // Then
+        assertEquals("Cached News", found.get(id).orElseThrow().news().title());
+        assertNull(newsCache.getIfPresent(id));
+        assertEquals("Updated title", newsService.getNewsById(id).orElseThrow().title());
+    }
+
+    @Test
+    void testConcurrentMissesShareALoad() throws Exception {
+        // Given
+        String id = news.id.toHexString();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, Optional<VersionedNews>> loader = key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        };
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<VersionedNews>> first = executor.submit(() -> newsCache.get(id, loader));
+            loading.await();
+            Future<Optional<VersionedNews>> second = executor.submit(() -> newsCache.get(id, loader));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertEquals(Optional.empty(), first.get());
+            assertEquals(Optional.empty(), second.get());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testWeigh() {
+        NewsResponse response = new NewsResponse(news.id.toHexString(), "Title", "news", "Catchline", "en", "usable");
+
+        VersionedNews versioned = VersionedNews.of(response, new Date());
+
+        int present = NewsCache.weigh(response.id(), Optional.of(versioned));
+        int missing = NewsCache.weigh(response.id(), Optional.empty());
+
+        assertEquals(NewsCache.ENTRY_OVERHEAD + 2 * 24, missing);
+        assertEquals(missing + 2 * (5 + 4 + 9 + 2 + 6 + versioned.etag().length()), present);
+    }
+}
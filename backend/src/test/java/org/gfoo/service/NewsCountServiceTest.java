@@ -0,0 +1,190 @@
+package org.gfoo.service;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsCountServiceTest {
+
+    @Inject
+    NewsCountService newsCountService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        // Inject test data
+        persist("en", "usable", false);
+        persist("en", "usable", true);
+        persist("fr", "usable", false);
+        persist("fr", "deleted", false);
+        persist("de", "draft", true);
+    }
+
+    private NewsDocument persist(String language, String status, boolean isEvent) {
+        NewsDocument news = new NewsDocument();
+        news.title = "News " + language + " " + status;
+        news.catchLine = "Catchline";
+        news.isEvent = isEvent;
+        news.language = language;
+        news.status = status;
+        news.dateCreated = new Date();
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+        return news;
+    }
+
+    private static void eventually(Runnable assertion) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    @Test
+    void testCountAll() {
+        assertEquals(5, newsCountService.count(NewsFilter.ALL));
+    }
+
+    @Test
+    void testCountByFilterCombination() {
+        assertEquals(2, newsCountService.count(new NewsFilter("en", null, null)));
+        assertEquals(3, newsCountService.count(new NewsFilter(null, "usable", null)));
+        assertEquals(2, newsCountService.count(new NewsFilter(null, null, true)));
+        assertEquals(2, newsCountService.count(new NewsFilter(null, "usable", false)));
+        assertEquals(1, newsCountService.count(new NewsFilter("fr", "deleted", false)));
+        assertEquals(0, newsCountService.count(new NewsFilter("es", null, null)));
+    }
+
+    @Test
+    void testCountFollowsInsertAndDelete() {
+        NewsDocument added = persist("en", "usable", false);
+        assertEquals(6, newsCountService.count(NewsFilter.ALL));
+        assertEquals(3, newsCountService.count(new NewsFilter("en", null, null)));
+
+        newsRepository.delete(added);
+        assertEquals(5, newsCountService.count(NewsFilter.ALL));
+        assertEquals(2, newsCountService.count(new NewsFilter("en", null, null)));
+    }
+
+    @Test
+    void testCountFollowsUpdate() throws InterruptedException {
+        // Given - an update, whose previous state is unknown to the counters
+        NewsDocument news = newsRepository.findByStatus("draft").get(0);
+        news.status = "usable";
+        newsRepository.update(news);
+
+        // When / Then - the counters are reseeded in the background
+        eventually(() -> assertEquals(4, newsCountService.count(new NewsFilter(null, "usable", null))));
+        assertEquals(0, newsCountService.count(new NewsFilter(null, "draft", null)));
+    }
+
+    @Test
+    void testCountFollowsDeleteById() throws InterruptedException {
+        NewsDocument news = newsRepository.findByStatus("draft").get(0);
+        newsRepository.deleteById(news.id);
+
+        eventually(() -> assertEquals(4, newsCountService.count(NewsFilter.ALL)));
+        assertEquals(0, newsCountService.count(new NewsFilter(null, "draft", null)));
+    }
+
+    @Test
+    void testCountFollowsDeleteAll() {
+        newsRepository.deleteAll();
+
+        assertEquals(0, newsCountService.count(NewsFilter.ALL));
+    }
+
+    @Test
+    void testReconcileAbsorbsExternalWrites() {
+        // Write bypassing the repository, as an external ingestion job would
+        NewsDocument external = new NewsDocument();
+        external.title = "External";
+        external.language = "en";
+        external.status = "usable";
+        external.isEvent = false;
+        external.persist();
+
+        assertEquals(5, newsCountService.count(NewsFilter.ALL));
+
+        newsCountService.reconcile();
+
+        assertEquals(6, newsCountService.count(NewsFilter.ALL));
+    }
+
+    @Test
+    void testExactAndEstimatedModes() {
+        assertEquals(5, newsCountService.count(NewsFilter.ALL, CountMode.EXACT));
+        assertEquals(2, newsCountService.count(new NewsFilter("fr", null, null), CountMode.EXACT));
+        assertEquals(5, newsCountService.count(NewsFilter.ALL, CountMode.ESTIMATED));
+        // Filtered totals cannot be estimated from metadata and use the counters
+        assertEquals(2, newsCountService.count(new NewsFilter("fr", null, null), CountMode.ESTIMATED));
+    }
+
+    @Test
+    void testCountWithDateRangeIsExact() {
+        NewsDocument old = persist("en", "usable", false);
+        old.dateCreated = new Date(0);
+        newsRepository.update(old);
+
+        assertEquals(1, newsCountService.count(new NewsFilter(null, null, null, null, new Date(1000))));
+        assertEquals(5, newsCountService.count(new NewsFilter(null, null, null, new Date(1000), null)));
+    }
+
+    @Test
+    void testReactiveCount() {
+        assertEquals(5, newsCountService.reactiveCount(NewsFilter.ALL).await().indefinitely());
+        assertEquals(2, newsCountService.reactiveCount(new NewsFilter("en", null, null)).await().indefinitely());
+        assertEquals(0, newsCountService.reactiveCount(new NewsFilter(null, null, null, null, new Date(1000)))
+            .await().indefinitely());
+    }
+
+    @Test
+    void testReactiveCountReseedsStaleCounters() throws InterruptedException {
+        NewsDocument news = newsRepository.findByStatus("draft").get(0);
+        news.status = "usable";
+        newsRepository.update(news);
+
+        eventually(() -> assertEquals(4,
+            newsCountService.reactiveCount(new NewsFilter(null, "usable", null)).await().indefinitely()));
+    }
+
+    @Test
+    void testInsertDuringSeedIsCountedOnce() throws Exception {
+        // Given - inserts running while the counters are reconciled
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 50; i++) {
+                persist("en", "usable", false);
+            }
+        });
+        while (!writer.isDone()) {
+            newsCountService.reconcile();
+        }
+        writer.get();
+
+        // Then - each insert is counted once, whether a seed saw it or not
+        eventually(() -> assertEquals(55, newsCountService.count(NewsFilter.ALL)));
+    }
+}
@@ -0,0 +1,56 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.PagedResponse;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsEtagTest {
+
+    private final NewsResponse news = new NewsResponse(
+        "507f1f77bcf86cd799439011", "Title", "news", "Catchline", "en", "usable");
+
+    @Test
+    void testSameContentSameTag() {
+        NewsResponse copy = new NewsResponse(
+            "507f1f77bcf86cd799439011", "Title", "news", "Catchline", "en", "usable");
+
+        assertEquals(NewsEtag.of(news), NewsEtag.of(copy));
+        assertEquals(22, NewsEtag.of(news).length());
+    }
+
+    @Test
+    void testAnyFieldChangesTag() {
+        String tag = NewsEtag.of(news);
+
+        assertNotEquals(tag, NewsEtag.of(new NewsResponse(news.id(), "Title!", "news", "Catchline", "en", "usable")));
+        assertNotEquals(tag, NewsEtag.of(new NewsResponse(news.id(), "Title", "event", "Catchline", "en", "usable")));
+        assertNotEquals(tag, NewsEtag.of(new NewsResponse(news.id(), "Title", "news", "Catchline", "en", "deleted")));
+        assertNotEquals(tag, NewsEtag.of(new NewsResponse(news.id(), "Title", "news", null, "en", "usable")));
+    }
+
+    @Test
+    void testFieldBoundariesChangeTag() {
+        NewsResponse left = new NewsResponse(news.id(), "ab", "news", "c", "en", "usable");
+        NewsResponse right = new NewsResponse(news.id(), "a", "news", "bc", "en", "usable");
+
+        assertNotEquals(NewsEtag.of(left), NewsEtag.of(right));
+    }
+
+    @Test
+    void testPageTag() {
+        PagedResponse<NewsResponse> page = new PagedResponse<>(List.of(news), 0, 10, 1L, null);
+
+        assertEquals(NewsEtag.of(page), NewsEtag.of(new PagedResponse<>(List.of(news), 0, 10, 1L, null)));
+        assertNotEquals(NewsEtag.of(page), NewsEtag.of(new PagedResponse<>(List.of(news), 1, 10, 1L, null)));
+        assertNotEquals(NewsEtag.of(page), NewsEtag.of(new PagedResponse<>(List.of(news), 0, 10, 2L, null)));
+        assertNotEquals(NewsEtag.of(page), NewsEtag.of(new PagedResponse<>(List.of(news), 0, 10, null, null)));
+        assertNotEquals(NewsEtag.of(page), NewsEtag.of(new PagedResponse<>(List.of(news), 0, 10, 1L, "next")));
+        assertNotEquals(NewsEtag.of(page), NewsEtag.of(new PagedResponse<>(List.of(), 0, 10, 1L, null)));
+    }
+}
@@ -0,0 +1,196 @@
+package org.gfoo.service;
+
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.repository.RefusedTitles;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsImporterTest {
+
+    private static final String VALID = "{\"title\": \"Concert %d\", \"type\": \"event\", \"language\": \"fr\", \"status\": \"usable\"}";
+
+    @Inject
+    NewsImporter newsImporter;
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+        newsIndexService.createMissingIndexes();
+    }
+
+    private Path file(int news) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < news; i++) {
+            content.append(VALID.formatted(i)).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        return Files.writeString(directory.resolve("news.ndjson"), content);
+    }
+
+    @Test
+    void testImportFileInParallelChunks() throws Exception {
+        // Given - several hundred chunks of several batches each
+        Path file = file(5000);
+
+        // When
+        NewsImportReport report = newsImporter.importFile(file, directory.resolve("news.checkpoint"), 1000);
+
+        // Then
+        assertEquals(5000, report.lines());
+        assertEquals(5000, report.inserted());
+        assertEquals(0, report.rejected());
+        assertEquals(0, report.resumedChunks());
+        assertEquals(Files.size(file), report.bytes());
+        assertEquals(Files.size(file), report.bytesRead());
+        assertTrue(report.chunks() > 100);
+        assertEquals(5000, newsRepository.count());
+        assertEquals(5000, newsRepository.listAll().stream().map(news -> news.title).distinct().count());
+    }
+
+    @Test
+    void testInvalidLinesAreRejected() throws Exception {
+        // Given - a line refused by MongoDB among invalid ones
+        Path file = Files.writeString(directory.resolve("news.ndjson"), VALID.formatted(1) + "\n"
+            + "\n"
+            + "{\"title\": \n"
+            + "{\"title\": \"Draft\", \"type\": \"article\", \"language\": \"fr\", \"status\": \"draft\"}\n"
+            + VALID.formatted(2).replace("Concert", "Refused") + "\n"
+            + "{\"title\": \"Archive\", \"type\": \"news\", \"language\": \"en\", \"status\": \"archived\", "
+            + "\"user\": \"editor\", \"dateCreated\": \"2023-11-14T22:13:20Z\"}");
+
+        // When
+        NewsImportReport report;
+        try (RefusedTitles ignored = RefusedTitles.install(newsRepository, "Refused")) {
+            report = newsImporter.importFile(file, directory.resolve("news.checkpoint"), 64);
+        }
+
+        // Then
+        assertEquals(5, report.lines());
+        assertEquals(2, report.inserted());
+        assertEquals(3, report.rejected());
+        NewsDocument archive = newsRepository.find("title", "Archive").firstResult();
+        assertEquals("editor", archive.userCreated);
+        assertEquals(new Date(1_700_000_000_000L), archive.dateCreated);
+    }
+
+    @Test
+    void testInterruptedImportIsResumed() throws Exception {
+        // Given - an import whose checkpoint lost some of its chunks, as if it had been interrupted
+        Path file = file(2000);
+        Path checkpoint = directory.resolve("news.checkpoint");
+        NewsImportReport first = newsImporter.importFile(file, checkpoint, 4096);
+        Properties saved = new Properties();
+        try (var reader = Files.newBufferedReader(checkpoint)) {
+            saved.load(reader);
+        }
+        List<String> done = List.of(saved.getProperty("done").split(","));
+        saved.setProperty("done", String.join(",", done.subList(0, done.size() / 2)));
+        try (var writer = Files.newBufferedWriter(checkpoint)) {
+            saved.store(writer, null);
+        }
+
+        // When
+        NewsImportReport resumed = newsImporter.importFile(file, checkpoint, 4096);
+
+        // Then - the remaining chunks are read again, their news are not created twice
+        assertEquals(2000, first.inserted());
+        assertEquals(done.size() / 2, resumed.resumedChunks());
+        assertEquals(0, resumed.inserted());
+        assertEquals(resumed.lines(), resumed.existing());
+        assertTrue(resumed.lines() > 0 && resumed.lines() < 2000);
+        assertEquals(2000, newsRepository.count());
+
+        NewsImportReport complete = newsImporter.importFile(file, checkpoint, 4096);
+        assertEquals(complete.chunks(), complete.resumedChunks());
+        assertEquals(0, complete.lines());
+    }
+
+    @Test
+    void testCheckpointOfAnotherImportIsRefused() throws Exception {
+        Path file = file(100);
+        Path checkpoint = directory.resolve("news.checkpoint");
+        newsImporter.importFile(file, checkpoint, 1000);
+
+        assertThrows(IllegalArgumentException.class, () -> newsImporter.importFile(file, checkpoint, 2000));
+        assertThrows(IllegalArgumentException.class, () -> newsImporter.importFile(file, checkpoint, 0));
+    }
+
+    @Test
+    void testNewsOfAnotherImportAreNotTakenAsResumed() throws Exception {
+        // Given - another file imported with identifiers already used by a first import
+        Path file = file(100);
+        Path checkpoint = directory.resolve("news.checkpoint");
+        newsImporter.importFile(file, checkpoint, 1000);
+        Path other = Files.writeString(directory.resolve("other.ndjson"),
+            Files.readString(file).replace("Concert", "Koncert"));
+        Path shared = directory.resolve("other.checkpoint");
+        Properties saved = new Properties();
+        try (var reader = Files.newBufferedReader(checkpoint)) {
+            saved.load(reader);
+        }
+        saved.setProperty("done", "");
+        try (var writer = Files.newBufferedWriter(shared)) {
+            saved.store(writer, null);
+        }
+
+        // When / Then - the import fails instead of counting the lines as already present
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> newsImporter.importFile(other, shared, 1000));
+        assertTrue(e.getMessage().contains("another import"));
+        assertEquals(100, newsRepository.count());
+    }
+
+    @Test
+    void testImportsDrawDistinctIdentifierPrefixes() throws IOException {
+        NewsImportCheckpoint first = NewsImportCheckpoint.open(directory.resolve("first.checkpoint"), 100, 10);
+        NewsImportCheckpoint second = NewsImportCheckpoint.open(directory.resolve("second.checkpoint"), 100, 10);
+
+        assertNotEquals(first.id(0), second.id(0));
+    }
+
+    @Test
+    void testChunkBoundsAreLineAligned() throws IOException {
+        // Given
+        Path file = Files.writeString(directory.resolve("lines.ndjson"), "aaaa\nbb\ncccccccc\n\nd");
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            // When / Then
+            assertArrayEquals(new long[] {0, 5, 8, 17, 19}, NewsImporter.chunkBounds(channel, 3));
+            assertArrayEquals(new long[] {0, 17, 19}, NewsImporter.chunkBounds(channel, 10));
+            assertArrayEquals(new long[] {0, 19}, NewsImporter.chunkBounds(channel, 100));
+        }
+    }
+
+    @Test
+    void testIdentifiersEncodeTheLineOffset() throws IOException {
+        NewsImportCheckpoint checkpoint = NewsImportCheckpoint.open(directory.resolve("ids.checkpoint"), 1L << 40, 10);
+
+        assertEquals(0, NewsImportCheckpoint.offset(checkpoint.id(0)));
+        assertEquals((1L << 40) - 1, NewsImportCheckpoint.offset(checkpoint.id((1L << 40) - 1)));
+        assertTrue(checkpoint.id(1).compareTo(checkpoint.id(2)) < 0);
+    }
+}
@@ -0,0 +1,137 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.IndexDefinition;
+import org.gfoo.dto.IndexReport;
+import org.gfoo.repository.NewsIndexes;
+import org.gfoo.repository.NewsRepository;
+import com.mongodb.client.model.IndexOptions;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsIndexServiceTest {
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        newsIndexService.createMissingIndexes();
+    }
+
+    @AfterEach
+    void cleanup() {
+        // Restore the declared index set for other tests
+        newsRepository.mongoCollection().listIndexes().forEach(index -> {
+            String name = index.getString("name");
+            if (name.startsWith("test_")) {
+                newsRepository.mongoCollection().dropIndex(name);
+            }
+        });
+        newsIndexService.createMissingIndexes();
+    }
+
+    @Test
+    void testDeclaredIndexesAreCreated() {
+        IndexReport report = newsIndexService.report();
+
+        assertEquals("news", report.collection());
+        assertTrue(report.missing().isEmpty());
+        assertTrue(report.mismatched().isEmpty());
+        assertEquals(NewsIndexes.declared().size(), report.declared().size());
+        List<String> actualNames = report.actual().stream().map(IndexDefinition::name).toList();
+        assertTrue(actualNames.containsAll(List.of(
+            NewsIndexes.FILTER, NewsIndexes.LANGUAGE, NewsIndexes.KEYSET, NewsIndexes.USABLE, NewsIndexes.TEXT)));
+    }
+
+    @Test
+    void testTextIndexKeysAreReadAsDeclared() {
+        Document listed = new Document("name", NewsIndexes.TEXT)
+            .append("key", new Document("_fts", "text").append("_ftsx", 1))
+            .append("weights", new Document("title", 3).append("catchLine", 1));
+
+        assertEquals(new Document("catchLine", "text").append("title", "text"), NewsIndexService.keys(listed));
+    }
+
+    @Test
+    void testPartialIndexDeclaration() {
+        IndexDefinition usable = newsIndexService.report().declared().stream()
+            .filter(index -> NewsIndexes.USABLE.equals(index.name()))
+            .findFirst()
+            .orElseThrow();
+
+        assertEquals(new Document("status", "usable"), usable.partialFilterExpression());
+    }
+
+    @Test
+    void testMissingIndexIsReportedAndRecreated() {
+        newsRepository.mongoCollection().dropIndex(NewsIndexes.LANGUAGE);
+
+        assertEquals(List.of(NewsIndexes.LANGUAGE), newsIndexService.report().missing());
+
+        List<String> created = newsIndexService.createMissingIndexes();
+
+        assertEquals(List.of(NewsIndexes.LANGUAGE), created);
+        assertTrue(newsIndexService.report().missing().isEmpty());
+    }
+
+    @Test
+    void testCreateMissingIndexesIsIdempotent() {
+        assertTrue(newsIndexService.createMissingIndexes().isEmpty());
+    }
+
+    @Test
+    void testUnexpectedIndexIsReported() {
+        newsRepository.mongoCollection().createIndex(new Document("userCreated", 1),
+            new IndexOptions().name("test_userCreated"));
+
+        IndexReport report = newsIndexService.report();
+
+        assertEquals(List.of("test_userCreated"), report.unexpected());
+        assertFalse(report.inSync());
+    }
+
+    @Test
+    void testMismatchedIndexIsReported() {
+        newsRepository.mongoCollection().dropIndex(NewsIndexes.KEYSET);
+        newsRepository.mongoCollection().createIndex(new Document("dateCreated", 1),
+            new IndexOptions().name(NewsIndexes.KEYSET));
+
+        IndexReport report = newsIndexService.report();
+
+        assertEquals(List.of(NewsIndexes.KEYSET), report.mismatched());
+
+        // Put the declared definition back
+        newsRepository.mongoCollection().dropIndex(NewsIndexes.KEYSET);
+    }
+
+    @Test
+    void testTextIndexOverridingTheLanguageFieldIsReplaced() {
+        // Given - the text index of a previous version, overriding the language with the language field
+        newsRepository.mongoCollection().dropIndex(NewsIndexes.TEXT);
+        newsRepository.mongoCollection().createIndex(new Document("catchLine", "text").append("title", "text"),
+            new IndexOptions().name(NewsIndexes.TEXT).defaultLanguage("none").languageOverride("language"));
+        assertEquals(List.of(NewsIndexes.TEXT), newsIndexService.report().mismatched());
+
+        // When
+        boolean dropped = newsIndexService.dropOutdatedTextIndex();
+        List<String> created = newsIndexService.createMissingIndexes();
+
+        // Then
+        assertTrue(dropped);
+        assertEquals(List.of(NewsIndexes.TEXT), created);
+        assertTrue(newsIndexService.report().mismatched().isEmpty());
+        assertFalse(newsIndexService.dropOutdatedTextIndex());
+    }
+}
@@ -0,0 +1,31 @@
+package org.gfoo.service;
+
+import org.gfoo.IngestionQueueFullTestProfile;
+import org.gfoo.dto.NewsWriteRequest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(IngestionQueueFullTestProfile.class)
+class NewsIngestionQueueFullTest {
+
+    @Inject
+    NewsIngestionQueue newsIngestionQueue;
+
+    @Test
+    void testWritesAreRejectedWhenTheQueueIsFull() {
+        // Given - a write held in the queue
+        NewsWriteRequest request = new NewsWriteRequest("Concert", null, "event", "fr", "usable", null, null);
+        assertFalse(newsIngestionQueue.create(request).isDone());
+
+        // When / Then
+        assertThrows(RejectedExecutionException.class, () -> newsIngestionQueue.create(request));
+        assertEquals(1, newsIngestionQueue.size());
+    }
+}
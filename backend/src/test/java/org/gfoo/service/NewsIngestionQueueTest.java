@@ -0,0 +1,136 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.dto.NewsWriteRequest;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import org.gfoo.repository.RefusedTitles;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsIngestionQueueTest {
+
+    @Inject
+    NewsIngestionQueue newsIngestionQueue;
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+        newsIndexService.createMissingIndexes();
+    }
+
+    private static NewsWriteRequest request(String title, String language) {
+        return new NewsWriteRequest(title, "Catch line", "event", language, "usable", "editor", null);
+    }
+
+    @Test
+    void testCreateCompletesOnceWritten() throws Exception {
+        // When
+        NewsResponse response = newsIngestionQueue.create(request("Concert", "fr")).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("Concert", response.title());
+        assertEquals("event", response.type());
+        NewsDocument created = newsRepository.findById(new ObjectId(response.id()));
+        assertNotNull(created);
+        assertEquals("editor", created.userCreated);
+        assertEquals(created.dateCreated, created.dateLastModified);
+    }
+
+    @Test
+    void testCreateKeepsGivenCreationDate() throws Exception {
+        NewsWriteRequest request = new NewsWriteRequest("Archive", null, "news", "en", "archived", null,
+            new Date(1_700_000_000_000L));
+
+        NewsResponse response = newsIngestionQueue.create(request).get(10, TimeUnit.SECONDS);
+
+        assertEquals(new Date(1_700_000_000_000L), newsRepository.findById(new ObjectId(response.id())).dateCreated);
+    }
+
+    @Test
+    void testConcurrentCreationsAreAllWritten() throws Exception {
+        // Given - more writes than a batch, queued from several threads
+        List<CompletableFuture<NewsResponse>> futures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 300; i++) {
+                    futures.add(newsIngestionQueue.create(request("News " + thread + "-" + i, "en")));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // When
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // Then
+        Set<String> ids = new HashSet<>();
+        futures.forEach(future -> ids.add(future.join().id()));
+        assertEquals(1200, ids.size());
+        assertEquals(1200, newsRepository.count());
+        assertEquals(0, newsIngestionQueue.size());
+    }
+
+    @Test
+    void testInvalidNewsIsRejectedBeforeQueuing() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> newsIngestionQueue.create(request(" ", "fr")));
+
+        assertEquals("Title is required", e.getMessage());
+        assertEquals(0, newsIngestionQueue.size());
+    }
+
+    @Test
+    void testNewsRefusedByMongoFailsItsFutureOnly() throws Exception {
+        try (RefusedTitles ignored = RefusedTitles.install(newsRepository, "Refused")) {
+            // Given
+            CompletableFuture<NewsResponse> refused = newsIngestionQueue.create(request("Refused", "fr"));
+            CompletableFuture<NewsResponse> accepted = newsIngestionQueue.create(request("Accepted", "fr"));
+
+            // When
+            ExecutionException e = assertThrows(ExecutionException.class, () -> refused.get(10, TimeUnit.SECONDS));
+
+            // Then
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("Accepted", accepted.get(10, TimeUnit.SECONDS).title());
+            assertEquals(1, newsRepository.count());
+        }
+    }
+
+    @Test
+    void testAnyLanguageIsAccepted() throws Exception {
+        // When - a language the MongoDB text search does not support
+        NewsResponse response = newsIngestionQueue.create(request("Concert", "zh")).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("zh", response.language());
+        assertEquals("none", newsRepository.findById(new ObjectId(response.id())).textLanguage);
+    }
+}
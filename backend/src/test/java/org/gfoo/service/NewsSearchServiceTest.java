@@ -0,0 +1,110 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsSearchServiceTest {
+
+    @Inject
+    NewsSearchService newsSearchService;
+
+    @Inject
+    NewsIndexService newsIndexService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        newsRepository.deleteAll();
+        newsIndexService.createMissingIndexes();
+
+        persist("Élections municipales à Lausanne", "Les résultats du scrutin", "fr", "usable", false, 1);
+        persist("Concert d'orgue", "Un récital à la cathédrale de Lausanne", "fr", "usable", true, 2);
+        persist("Running the campus marathon", "Students and staff ran together", "en", "usable", true, 3);
+        persist("New library opening hours", "The library opens earlier during exams", "en", "deleted", false, 4);
+        persist("Neue Öffnungszeiten", "Die Bibliothek öffnet früher", "de", "usable", false, 5);
+    }
+
+    private void persist(String title, String catchLine, String language, String status, boolean isEvent, int order) {
+        NewsDocument news = new NewsDocument();
+        news.title = title;
+        news.catchLine = catchLine;
+        news.language = language;
+        news.status = status;
+        news.isEvent = isEvent;
+        news.dateCreated = new Date(1_700_000_000_000L + order * 1000L);
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+    }
+
+    private static List<String> titles(List<NewsResponse> news) {
+        return news.stream().map(NewsResponse::title).toList();
+    }
+
+    @Test
+    void testSearchStemsInTheLanguageOfTheFilter() {
+        List<NewsResponse> french = newsSearchService.search("élection", new NewsFilter("fr", null, null), 0, 10);
+        List<NewsResponse> english = newsSearchService.search("runs", new NewsFilter("en", null, null), 0, 10);
+
+        assertEquals(List.of("Élections municipales à Lausanne"), titles(french));
+        assertEquals(List.of("Running the campus marathon"), titles(english));
+    }
+
+    @Test
+    void testSearchWithoutLanguageMergesEveryLanguage() {
+        assertEquals(List.of("Élections municipales à Lausanne"),
+            titles(newsSearchService.search("élection", NewsFilter.ALL, 0, 10)));
+        assertEquals(List.of("Running the campus marathon"),
+            titles(newsSearchService.search("runs", NewsFilter.ALL, 0, 10)));
+        assertEquals(List.of("Neue Öffnungszeiten"),
+            titles(newsSearchService.search("Bibliothek", NewsFilter.ALL, 0, 10)));
+        assertEquals(3, newsSearchService.count("lausanne library", NewsFilter.ALL));
+    }
+
+    @Test
+    void testSearchRanksTitleMatchesFirst() {
+        List<NewsResponse> news = newsSearchService.search("lausanne", NewsFilter.ALL, 0, 10);
+
+        assertEquals(List.of("Élections municipales à Lausanne", "Concert d'orgue"), titles(news));
+    }
+
+    @Test
+    void testSearchPages() {
+        List<NewsResponse> first = newsSearchService.search("lausanne", NewsFilter.ALL, 0, 1);
+        List<NewsResponse> second = newsSearchService.search("lausanne", NewsFilter.ALL, 1, 1);
+        List<NewsResponse> third = newsSearchService.search("lausanne", NewsFilter.ALL, 2, 1);
+
+        assertEquals(List.of("Élections municipales à Lausanne"), titles(first));
+        assertEquals(List.of("Concert d'orgue"), titles(second));
+        assertTrue(third.isEmpty());
+    }
+
+    @Test
+    void testSearchFilters() {
+        assertEquals(List.of("Concert d'orgue"),
+            titles(newsSearchService.search("lausanne", new NewsFilter(null, null, true), 0, 10)));
+        assertTrue(newsSearchService.search("library", new NewsFilter(null, "usable", null), 0, 10).isEmpty());
+        assertEquals(0, newsSearchService.count("library", new NewsFilter("en", "usable", null)));
+    }
+
+    @Test
+    void testSearchWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> newsSearchService.search(null, NewsFilter.ALL, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsSearchService.search("  ", NewsFilter.ALL, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsSearchService.search("x".repeat(201), NewsFilter.ALL, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsSearchService.search("lausanne", NewsFilter.ALL, -1, 10));
+    }
+}
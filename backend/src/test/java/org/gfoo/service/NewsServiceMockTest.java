@@ -1,15 +1,16 @@
 package org.gfoo.service;
 
 import org.gfoo.dto.NewsResponse;
-import org.gfoo.entity.NewsDocument;
+import org.gfoo.entity.NewsSummary;
 import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsFilter;
 import org.gfoo.repository.NewsRepository;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -18,6 +19,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
@@ -33,43 +35,32 @@ public class NewsServiceMockTest {
     @Inject
     NewsService newsService;
     
+    @Inject
+    NewsCache newsCache;
+    
+    @BeforeEach
+    void clearCache() {
+        // Mocked lookups must not be answered by entries cached by another test
+        newsCache.invalidateAll();
+    }
+    
     @Test
-    void testGetNews_shouldReturnMappedList() {
+    void testGetNews_shouldReturnDecodedList() {
         // Given
         int page = 0;
         int size = 10;
         
-        // Create mock documents
-        NewsDocument doc1 = new NewsDocument();
-        doc1.id = new ObjectId();
-        doc1.title = "News 1";
-        
-        NewsDocument doc2 = new NewsDocument();
-        doc2.id = new ObjectId();
-        doc2.title = "News 2";
-        
-        List<NewsDocument> documents = Arrays.asList(doc1, doc2);
-        
-        // Create mock responses
+        // Create mock responses, decoded by the repository
         NewsResponse response1 = new NewsResponse(
-            doc1.id.toString(), "News 1", "news", "Catchline 1", "en", "usable"
+            new ObjectId().toString(), "News 1", "news", "Catchline 1", "en", "usable"
         );
         NewsResponse response2 = new NewsResponse(
-            doc2.id.toString(), "News 2", "news", "Catchline 2", "en", "usable"
+            new ObjectId().toString(), "News 2", "news", "Catchline 2", "en", "usable"
         );
         List<NewsResponse> expectedResponses = Arrays.asList(response1, response2);
         
-        // Mock the repository's findAll().page(page, size).list() chain
-        // We need to mock PanacheQuery returned by findAll()
-        io.quarkus.mongodb.panache.PanacheQuery<NewsDocument> mockQuery = 
-            Mockito.mock(io.quarkus.mongodb.panache.PanacheQuery.class);
-        
-        when(newsRepository.findAll()).thenReturn(mockQuery);
-        when(mockQuery.page(page, size)).thenReturn(mockQuery);
-        when(mockQuery.list()).thenReturn(documents);
-        
-        // Mock mapper behavior
-        when(newsMapper.toResponseList(documents)).thenReturn(expectedResponses);
+        // Mock the repository's page query
+        when(newsRepository.findResponses(NewsFilter.ALL, page, size)).thenReturn(expectedResponses);
         
         // When
         List<NewsResponse> result = newsService.getNews(page, size);
@@ -79,9 +70,9 @@ public class NewsServiceMockTest {
         assertEquals(2, result.size());
         assertEquals(expectedResponses, result);
         
-        // Verify interactions
-        verify(newsRepository).findAll();
-        verify(newsMapper).toResponseList(documents);
+        // Verify interactions: responses are not mapped again
+        verify(newsRepository).findResponses(NewsFilter.ALL, page, size);
+        verifyNoInteractions(newsMapper);
     }
     
     @Test
@@ -90,7 +81,7 @@ public class NewsServiceMockTest {
         String id = "507f1f77bcf86cd799439011";
         ObjectId objectId = new ObjectId(id);
         
-        NewsDocument document = new NewsDocument();
+        NewsSummary document = new NewsSummary();
         document.id = objectId;
         document.title = "Existing News";
         document.catchLine = "This exists";
@@ -101,10 +92,10 @@ public class NewsServiceMockTest {
         );
         
         // Mock repository behavior
-        when(newsRepository.findByIdOptional(objectId)).thenReturn(Optional.of(document));
+        when(newsRepository.findSummaryById(objectId)).thenReturn(Optional.of(document));
         
         // Mock mapper behavior
-        when(newsMapper.toResponse(document)).thenReturn(expectedResponse);
+        when(newsMapper.toSummaryResponse(document)).thenReturn(expectedResponse);
         
         // When
         Optional<NewsResponse> result = newsService.getNewsById(id);
@@ -116,8 +107,8 @@ public class NewsServiceMockTest {
         assertEquals("news", result.get().type());
         
         // Verify interactions
-        verify(newsRepository).findByIdOptional(objectId);
-        verify(newsMapper).toResponse(document);
+        verify(newsRepository).findSummaryById(objectId);
+        verify(newsMapper).toSummaryResponse(document);
     }
     
     @Test
@@ -127,7 +118,7 @@ public class NewsServiceMockTest {
         ObjectId objectId = new ObjectId(id);
         
         // Mock repository behavior - document not found
-        when(newsRepository.findByIdOptional(objectId)).thenReturn(Optional.empty());
+        when(newsRepository.findSummaryById(objectId)).thenReturn(Optional.empty());
         
         // When
         Optional<NewsResponse> result = newsService.getNewsById(id);
@@ -136,8 +127,8 @@ public class NewsServiceMockTest {
         assertFalse(result.isPresent());
         
         // Verify interactions
-        verify(newsRepository).findByIdOptional(objectId);
-        verify(newsMapper, never()).toResponse(any());
+        verify(newsRepository).findSummaryById(objectId);
+        verify(newsMapper, never()).toSummaryResponse(any());
     }
     
     @Test
@@ -165,19 +156,10 @@ public class NewsServiceMockTest {
         // Given
         int page = 0;
         int size = 10;
-        List<NewsDocument> emptyDocuments = new ArrayList<>();
         List<NewsResponse> emptyResponses = new ArrayList<>();
         
-        // Mock the repository's findAll().page(page, size).list() chain
-        io.quarkus.mongodb.panache.PanacheQuery<NewsDocument> mockQuery = 
-            Mockito.mock(io.quarkus.mongodb.panache.PanacheQuery.class);
-        
-        when(newsRepository.findAll()).thenReturn(mockQuery);
-        when(mockQuery.page(page, size)).thenReturn(mockQuery);
-        when(mockQuery.list()).thenReturn(emptyDocuments);
-        
-        // Mock mapper behavior
-        when(newsMapper.toResponseList(emptyDocuments)).thenReturn(emptyResponses);
+        // Mock the repository's page query
+        when(newsRepository.findResponses(NewsFilter.ALL, page, size)).thenReturn(emptyResponses);
         
         // When
         List<NewsResponse> result = newsService.getNews(page, size);
@@ -187,8 +169,7 @@ public class NewsServiceMockTest {
         assertTrue(result.isEmpty());
         
         // Verify interactions
-        verify(newsRepository).findAll();
-        verify(newsMapper).toResponseList(emptyDocuments);
+        verify(newsRepository).findResponses(NewsFilter.ALL, page, size);
     }
     
     @Test
@@ -203,8 +184,8 @@ public class NewsServiceMockTest {
         assertFalse(result.isPresent());
         
         // Verify no repository interaction for invalid ID
-        verify(newsRepository, never()).findByIdOptional(any());
-        verify(newsMapper, never()).toResponse(any());
+        verify(newsRepository, never()).findSummaryById(any());
+        verify(newsMapper, never()).toSummaryResponse(any());
     }
     
     @Test
@@ -219,8 +200,8 @@ public class NewsServiceMockTest {
         assertFalse(result.isPresent());
         
         // Verify no repository interaction for null ID
-        verify(newsRepository, never()).findByIdOptional(any());
-        verify(newsMapper, never()).toResponse(any());
+        verify(newsRepository, never()).findSummaryById(any());
+        verify(newsMapper, never()).toSummaryResponse(any());
     }
     
     @Test
@@ -235,8 +216,8 @@ public class NewsServiceMockTest {
         assertFalse(result.isPresent());
         
         // Verify no repository interaction for empty ID
-        verify(newsRepository, never()).findByIdOptional(any());
-        verify(newsMapper, never()).toResponse(any());
+        verify(newsRepository, never()).findSummaryById(any());
+        verify(newsMapper, never()).toSummaryResponse(any());
     }
     
     @Test
@@ -251,8 +232,8 @@ public class NewsServiceMockTest {
         assertFalse(result.isPresent());
         
         // Verify no repository interaction for whitespace ID
-        verify(newsRepository, never()).findByIdOptional(any());
-        verify(newsMapper, never()).toResponse(any());
+        verify(newsRepository, never()).findSummaryById(any());
+        verify(newsMapper, never()).toSummaryResponse(any());
     }
     
     @Test
@@ -267,8 +248,8 @@ public class NewsServiceMockTest {
         });
         
         // Verify no repository or mapper interaction
-        verify(newsRepository, never()).findAll();
-        verify(newsMapper, never()).toResponseList(anyList());
+        verify(newsRepository, never()).findResponses(any(), anyInt(), anyInt());
+        verify(newsMapper, never()).toSummaryResponseList(anyList());
     }
     
     @Test
@@ -283,8 +264,8 @@ public class NewsServiceMockTest {
         });
         
         // Verify no repository or mapper interaction
-        verify(newsRepository, never()).findAll();
-        verify(newsMapper, never()).toResponseList(anyList());
+        verify(newsRepository, never()).findResponses(any(), anyInt(), anyInt());
+        verify(newsMapper, never()).toSummaryResponseList(anyList());
     }
     
     @Test
@@ -299,8 +280,8 @@ public class NewsServiceMockTest {
         });
         
         // Verify no repository or mapper interaction
-        verify(newsRepository, never()).findAll();
-        verify(newsMapper, never()).toResponseList(anyList());
+        verify(newsRepository, never()).findResponses(any(), anyInt(), anyInt());
+        verify(newsMapper, never()).toSummaryResponseList(anyList());
     }
     
     @Test
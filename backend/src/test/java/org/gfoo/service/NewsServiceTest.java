@@ -1,5 +1,6 @@
 package org.gfoo.service;
 
+import org.gfoo.dto.NewsBatchResponse;
 import org.gfoo.dto.NewsResponse;
 import org.gfoo.entity.NewsDocument;
 import org.gfoo.repository.NewsRepository;
@@ -9,6 +10,7 @@ import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -357,4 +359,100 @@ class NewsServiceTest {
         
         assertFalse(result.isPresent());
     }
+
+    @Test
+    void testGetNewsAfterTraversesAllItemsOnce() {
+        // Walk the collection two items at a time
+        NewsSlice first = newsService.getNewsAfter(null, 2);
+        NewsSlice second = newsService.getNewsAfter(first.next(), 2);
+        NewsSlice third = newsService.getNewsAfter(second.next(), 2);
+
+        assertEquals(2, first.data().size());
+        assertEquals(2, second.data().size());
+        assertEquals(1, third.data().size());
+        assertNotNull(first.next());
+        assertNotNull(second.next());
+        assertNull(third.next());
+
+        long distinctIds = java.util.stream.Stream.of(first, second, third)
+            .flatMap(slice -> slice.data().stream())
+            .map(NewsResponse::id)
+            .distinct()
+            .count();
+        assertEquals(5, distinctIds);
+    }
+
+    @Test
+    void testGetNewsAfterReturnsMostRecentFirst() {
+        NewsDocument latest = new NewsDocument();
+        latest.title = "Latest News";
+        latest.isEvent = false;
+        latest.language = "en";
+        latest.status = "usable";
+        latest.dateCreated = new Date(System.currentTimeMillis() + 60_000);
+        newsRepository.persist(latest);
+
+        NewsSlice slice = newsService.getNewsAfter("", 1);
+
+        assertEquals(latest.id.toString(), slice.data().get(0).id());
+    }
+
+    @Test
+    void testGetNewsAfterWithInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            newsService.getNewsAfter("invalid-cursor", 10);
+        });
+    }
+
+    @Test
+    void testGetNewsAfterWithZeroSize() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            newsService.getNewsAfter(null, 0);
+        });
+    }
+
+    @Test
+    void testGetNewsByIdsPreservesRequestOrder() {
+        List<NewsDocument> allNews = newsRepository.listAll();
+        String first = allNews.get(2).id.toString();
+        String second = allNews.get(0).id.toString();
+        String unknown = new ObjectId().toString();
+
+        // Duplicates are returned once, unknown ids are reported
+        NewsBatchResponse result = newsService.getNewsByIds(List.of(first, unknown, second, first.toUpperCase()));
+
+        assertEquals(List.of(first, second), result.data().stream().map(NewsResponse::id).toList());
+        assertEquals(allNews.get(2).title, result.data().get(0).title());
+        assertEquals(List.of(unknown), result.missing());
+    }
+
+    @Test
+    void testGetNewsByIdsServesCachedAndLoadedNews() {
+        List<NewsDocument> allNews = newsRepository.listAll();
+        String cached = allNews.get(0).id.toString();
+        String loaded = allNews.get(1).id.toString();
+        newsService.getNewsById(cached);
+
+        NewsBatchResponse result = newsService.getNewsByIds(List.of(loaded, cached));
+
+        assertEquals(List.of(loaded, cached), result.data().stream().map(NewsResponse::id).toList());
+        assertTrue(result.missing().isEmpty());
+    }
+
+    @Test
+    void testGetNewsByIdsWithInvalidIds() {
+        assertThrows(IllegalArgumentException.class, () -> newsService.getNewsByIds(null));
+        assertThrows(IllegalArgumentException.class, () -> newsService.getNewsByIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> newsService.getNewsByIds(List.of("invalid-id-format")));
+    }
+
+    @Test
+    void testGetNewsByIdsAboveMaximum() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            ids.add(new ObjectId().toString());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> newsService.getNewsByIds(ids));
+    }
 }
@@ -0,0 +1,112 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsStats;
+import org.gfoo.dto.NewsStatsBucket;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsStatsServiceTest {
+
+    @Inject
+    NewsStatsService newsStatsService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        persist("en", "usable", false, "2024-01-15T10:00:00Z");
+        persist("en", "usable", true, "2024-01-31T23:00:00Z");
+        persist("fr", "usable", false, "2024-02-01T00:00:00Z");
+        persist("fr", "draft", true, "2024-03-10T12:00:00Z");
+        persist(null, "archived", null, null);
+    }
+
+    private void persist(String language, String status, Boolean isEvent, String dateCreated) {
+        NewsDocument news = new NewsDocument();
+        news.title = "News";
+        news.language = language;
+        news.status = status;
+        news.isEvent = isEvent;
+        news.dateCreated = dateCreated == null ? null : Date.from(Instant.parse(dateCreated));
+        newsRepository.persist(news);
+    }
+
+    @Test
+    void testStats() {
+        // When
+        NewsStats stats = newsStatsService.stats(NewsFilter.ALL, StatsInterval.MONTH);
+
+        // Then
+        assertEquals(5, stats.total());
+        assertEquals(Map.of("en", 2L, "fr", 2L, NewsStats.UNKNOWN, 1L), stats.language());
+        assertEquals(List.of("news", "event", NewsStats.UNKNOWN), List.copyOf(stats.type().keySet()));
+        assertEquals(List.of(2L, 2L, 1L), List.copyOf(stats.type().values()));
+        assertEquals(List.of("usable", "archived", "draft"), List.copyOf(stats.status().keySet()));
+        assertEquals("month", stats.interval());
+        assertEquals(List.of(new NewsStatsBucket("2024-01", 2), new NewsStatsBucket("2024-02", 1),
+            new NewsStatsBucket("2024-03", 1)), stats.created());
+    }
+
+    @Test
+    void testStatsWithFilterAndInterval() {
+        NewsStats stats = newsStatsService.stats(new NewsFilter(null, "usable", null), StatsInterval.DAY);
+
+        assertEquals(3, stats.total());
+        assertEquals(Map.of("usable", 3L), stats.status());
+        assertEquals(List.of("2024-01-15", "2024-01-31", "2024-02-01"),
+            stats.created().stream().map(NewsStatsBucket::period).toList());
+        assertEquals(List.of("2024-W03", "2024-W05", "2024-W10"), newsStatsService.stats(NewsFilter.ALL, StatsInterval.WEEK)
+            .created().stream().map(NewsStatsBucket::period).toList());
+        assertEquals(List.of(new NewsStatsBucket("2024", 4)),
+            newsStatsService.stats(NewsFilter.ALL, StatsInterval.YEAR).created());
+    }
+
+    @Test
+    void testStatsOfNoNews() {
+        NewsStats stats = newsStatsService.stats(new NewsFilter("it", null, null), StatsInterval.MONTH);
+
+        assertEquals(0, stats.total());
+        assertTrue(stats.language().isEmpty());
+        assertTrue(stats.created().isEmpty());
+    }
+
+    @Test
+    void testStatsAreCachedUntilTheNextWrite() {
+        // Given
+        NewsStats first = newsStatsService.stats(NewsFilter.ALL, StatsInterval.MONTH);
+
+        // When / Then - served from the cache
+        assertSame(first, newsStatsService.stats(NewsFilter.ALL, StatsInterval.MONTH));
+
+        // When / Then - recomputed after a write
+        persist("de", "usable", false, "2024-03-11T08:00:00Z");
+        NewsStats second = newsStatsService.stats(NewsFilter.ALL, StatsInterval.MONTH);
+        assertEquals(6, second.total());
+        assertEquals(1L, second.language().get("de"));
+    }
+
+    @Test
+    void testParseInterval() {
+        assertEquals(StatsInterval.WEEK, StatsInterval.parse("week"));
+        assertThrows(IllegalArgumentException.class, () -> StatsInterval.parse("WEEK"));
+        assertThrows(IllegalArgumentException.class, () -> StatsInterval.parse("hour"));
+        assertThrows(IllegalArgumentException.class, () -> StatsInterval.parse(null));
+    }
+}
@@ -0,0 +1,103 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsSuggestion;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsSuggestServiceTest {
+
+    @Inject
+    NewsSuggestService newsSuggestService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        persist("Conférence de presse", "fr", "usable", 1);
+        persist("Concert d'orgue", "fr", "usable", 2);
+        persist("Conference on climate", "en", "usable", 3);
+        persist("Concours photo", "fr", "deleted", 4);
+        persist("Campus library", "en", "usable", 5);
+        newsSuggestService.rebuild();
+    }
+
+    private NewsDocument persist(String title, String language, String status, int order) {
+        NewsDocument news = new NewsDocument();
+        news.title = title;
+        news.catchLine = "Description";
+        news.language = language;
+        news.status = status;
+        news.isEvent = false;
+        news.dateCreated = new Date(1_700_000_000_000L + order * 1000L);
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+        return news;
+    }
+
+    private static List<String> titles(List<NewsSuggestion> suggestions) {
+        return suggestions.stream().map(NewsSuggestion::title).toList();
+    }
+
+    @Test
+    void testSuggestsMostRecentFirst() {
+        assertTrue(newsSuggestService.isWarm());
+        assertEquals(4, newsSuggestService.size());
+        assertEquals(List.of("Conference on climate", "Concert d'orgue", "Conférence de presse"),
+            titles(newsSuggestService.suggest("con", null, 10)));
+        assertEquals(List.of("Conference on climate", "Concert d'orgue"),
+            titles(newsSuggestService.suggest("con", null, 2)));
+    }
+
+    @Test
+    void testIgnoresCaseAccentsAndPunctuation() {
+        assertEquals(List.of("Conference on climate", "Conférence de presse"),
+            titles(newsSuggestService.suggest("CONFÉRENCE", null, 10)));
+        assertEquals(List.of("Concert d'orgue"), titles(newsSuggestService.suggest("concert d orgue", null, 10)));
+    }
+
+    @Test
+    void testLanguage() {
+        List<NewsSuggestion> french = newsSuggestService.suggest("conf", "fr", 10);
+
+        assertEquals(List.of("Conférence de presse"), titles(french));
+        assertEquals("fr", french.get(0).language());
+        assertNotNull(french.get(0).id());
+        assertEquals(List.of(), newsSuggestService.suggest("conf", "de", 10));
+    }
+
+    @Test
+    void testRefreshAfterWrites() {
+        // Given
+        persist("Concert de jazz", "fr", "usable", 6);
+
+        // When
+        newsSuggestService.refresh();
+
+        // Then
+        assertEquals(List.of("Concert de jazz", "Concert d'orgue"),
+            titles(newsSuggestService.suggest("concert", null, 10)));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> newsSuggestService.suggest(null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsSuggestService.suggest(" ", null, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsSuggestService.suggest("x".repeat(101), null, 10));
+        assertThrows(IllegalArgumentException.class, () -> newsSuggestService.suggest("con", null, 0));
+        assertThrows(IllegalArgumentException.class, () -> newsSuggestService.suggest("con", null, 21));
+    }
+}
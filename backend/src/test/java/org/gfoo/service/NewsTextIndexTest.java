@@ -0,0 +1,175 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class NewsTextIndexTest {
+
+    private static final NewsFilter USABLE = new NewsFilter(null, "usable", null);
+
+    @Inject
+    NewsTextIndex newsTextIndex;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    private final List<NewsDocument> documents = new ArrayList<>();
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!newsTextIndex.isWarm() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(newsTextIndex.isWarm());
+
+        // Clean up before each test
+        newsRepository.deleteAll();
+        documents.clear();
+
+        persist("Élections municipales à Lausanne", "Les résultats du scrutin", "fr", "usable", false, 1);
+        persist("Concert d'orgue", "Un récital à la cathédrale de Lausanne", "fr", "usable", true, 2);
+        persist("Running the campus marathon", "Students and staff ran together", "en", "usable", true, 3);
+        persist("New library opening hours", "The library opens earlier during exams", "en", "deleted", false, 4);
+        persist("Neue Öffnungszeiten", "Die Bibliothek öffnet früher", "de", "usable", false, 5);
+        persist("Library of the campus", "Campus libraries open on Sunday", "en", "usable", false, 6);
+    }
+
+    private NewsDocument persist(String title, String catchLine, String language, String status, boolean isEvent,
+            int order) {
+        NewsDocument news = new NewsDocument();
+        news.title = title;
+        news.catchLine = catchLine;
+        news.language = language;
+        news.status = status;
+        news.isEvent = isEvent;
+        news.dateCreated = new Date(1_700_000_000_000L + order * 1000L);
+        news.dateLastModified = new Date();
+        newsRepository.persist(news);
+        documents.add(news);
+        return news;
+    }
+
+    private List<String> titles(String text, NewsFilter filter) {
+        return newsTextIndex.search(text, filter, 0, 10).orElseThrow().stream().map(NewsResponse::title).toList();
+    }
+
+    @Test
+    void testSearch() {
+        assertEquals(5, newsTextIndex.size());
+        assertEquals(List.of("Élections municipales à Lausanne", "Concert d'orgue"), titles("lausanne", USABLE));
+        assertEquals(List.of("Élections municipales à Lausanne"), titles("élection", USABLE));
+        assertEquals(List.of("Library of the campus", "Running the campus marathon"), titles("campus", USABLE));
+        assertEquals(List.of("Running the campus marathon"), titles("runs", USABLE));
+        assertEquals(List.of("Neue Öffnungszeiten"), titles("Bibliothek", USABLE));
+        assertEquals(3L, newsTextIndex.count("lausanne library", USABLE).orElseThrow());
+    }
+
+    @Test
+    void testSearchFiltersAndPages() {
+        assertEquals(List.of("Concert d'orgue"), titles("lausanne", new NewsFilter(null, "usable", true)));
+        assertEquals(List.of("Library of the campus"), titles("library", new NewsFilter("en", "usable", false)));
+        assertEquals(List.of(), titles("lausanne", new NewsFilter("en", "usable", null)));
+
+        assertEquals(List.of("Concert d'orgue"), newsTextIndex.search("lausanne", USABLE, 1, 1).orElseThrow()
+            .stream().map(NewsResponse::title).toList());
+        assertEquals(List.of(), newsTextIndex.search("lausanne", USABLE, 2, 1).orElseThrow());
+    }
+
+    @Test
+    void testUnsupportedFilters() {
+        assertTrue(newsTextIndex.search("lausanne", NewsFilter.ALL, 0, 10).isEmpty());
+        assertTrue(newsTextIndex.search("lausanne", new NewsFilter(null, "draft", null), 0, 10).isEmpty());
+        assertTrue(newsTextIndex.count("lausanne", new NewsFilter(null, "usable", null, new Date(0), null)).isEmpty());
+    }
+
+    @Test
+    void testFollowsWrites() {
+        // Retitled
+        NewsDocument retitled = documents.get(1);
+        retitled.title = "Récital d'orgue";
+        retitled.catchLine = "À la cathédrale";
+        newsRepository.update(retitled);
+        assertEquals(List.of("Élections municipales à Lausanne"), titles("lausanne", USABLE));
+        assertEquals(List.of("Récital d'orgue"), titles("récitals", USABLE));
+
+        // Leaves and enters the index
+        NewsDocument hidden = documents.get(2);
+        hidden.status = "deleted";
+        newsRepository.update(hidden);
+        NewsDocument published = documents.get(3);
+        published.status = "usable";
+        newsRepository.update(published);
+        assertEquals(List.of("Library of the campus", "New library opening hours"), titles("library", USABLE));
+        assertEquals(List.of("Library of the campus"), titles("campus", USABLE));
+
+        newsRepository.delete(documents.get(0));
+        newsRepository.deleteById(documents.get(5).id);
+        persist("Lausanne marathon", "Running through the city", "en", "usable", true, 7);
+
+        assertEquals(List.of("Lausanne marathon"), titles("lausanne", USABLE));
+        assertEquals(List.of("New library opening hours"), titles("library", USABLE));
+        assertEquals(4, newsTextIndex.size());
+    }
+
+    @Test
+    void testClearedEmptiesIndex() {
+        newsRepository.deleteAll();
+
+        assertEquals(0, newsTextIndex.size());
+        assertEquals(List.of(), titles("lausanne", USABLE));
+    }
+
+    @Test
+    void testRebuildAbsorbsExternalWrites() {
+        // Write bypassing the repository, as an external ingestion job would
+        NewsDocument external = new NewsDocument();
+        external.id = new ObjectId();
+        external.title = "External report";
+        external.isEvent = false;
+        external.language = "en";
+        external.status = "usable";
+        external.dateCreated = new Date(1_800_000_000_000L);
+        newsRepository.mongoCollection().insertOne(external);
+
+        assertEquals(List.of(), titles("report", USABLE));
+
+        newsTextIndex.rebuild();
+
+        assertEquals(6, newsTextIndex.size());
+        assertEquals(List.of("External report"), titles("reports", USABLE));
+        assertEquals(List.of("Élections municipales à Lausanne", "Concert d'orgue"), titles("lausanne", USABLE));
+    }
+
+    @Test
+    void testBounds() {
+        ObjectId first = new ObjectId(new Date(1_700_000_000_000L));
+        ObjectId last = new ObjectId(new Date(1_700_000_399_000L));
+
+        List<ObjectId> bounds = NewsTextIndex.bounds(first, last, 4);
+
+        assertEquals(5, bounds.size());
+        assertNull(bounds.get(0));
+        assertNull(bounds.get(4));
+        assertEquals(1_700_000_100, bounds.get(1).getTimestamp());
+        assertEquals(1_700_000_200, bounds.get(2).getTimestamp());
+        assertEquals(1_700_000_300, bounds.get(3).getTimestamp());
+
+        // Ids created within the same second cannot be split
+        assertEquals(2, NewsTextIndex.bounds(first, first, 4).size());
+    }
+}
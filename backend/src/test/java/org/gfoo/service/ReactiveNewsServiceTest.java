@@ -0,0 +1,135 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsBatchResponse;
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ReactiveNewsServiceTest {
+
+    @Inject
+    ReactiveNewsService reactiveNewsService;
+
+    @Inject
+    NewsService newsService;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @BeforeEach
+    void setup() {
+        // Clean up before each test
+        newsRepository.deleteAll();
+
+        // Inject test data
+        for (int i = 1; i <= 7; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "News " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = i % 2 == 0;
+            news.language = i <= 4 ? "en" : "fr";
+            news.status = "usable";
+            news.userCreated = "user" + i;
+            news.userLastModified = "user" + i;
+            news.dateCreated = new Date(1_700_000_000_000L + i * 1000L);
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+        }
+    }
+
+    @Test
+    void testGetNewsMatchesBlockingService() {
+        List<NewsResponse> reactive = reactiveNewsService.getNews(NewsFilter.ALL, 1, 3).await().indefinitely();
+
+        assertEquals(newsService.getNews(NewsFilter.ALL, 1, 3), reactive);
+    }
+
+    @Test
+    void testGetNewsWithInvalidPage() {
+        assertThrows(IllegalArgumentException.class,
+            () -> reactiveNewsService.getNews(NewsFilter.ALL, -1, 10).await().indefinitely());
+        assertThrows(IllegalArgumentException.class,
+            () -> reactiveNewsService.getNews(NewsFilter.ALL, 0, 0).await().indefinitely());
+    }
+
+    @Test
+    void testGetNewsAfterTraversesAllSlices() {
+        List<String> ids = new ArrayList<>();
+        String after = "";
+        int slices = 0;
+        do {
+            NewsSlice slice = reactiveNewsService.getNewsAfter(NewsFilter.ALL, after, 3).await().indefinitely();
+            slice.data().forEach(news -> ids.add(news.id()));
+            after = slice.next();
+            slices++;
+        } while (after != null);
+
+        assertEquals(3, slices);
+        assertEquals(7, ids.size());
+        assertEquals(7, ids.stream().distinct().count());
+    }
+
+    @Test
+    void testGetNewsAfterWithInvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+            () -> reactiveNewsService.getNewsAfter(NewsFilter.ALL, "not-a-cursor", 3).await().indefinitely());
+    }
+
+    @Test
+    void testStreamNews() {
+        List<NewsResponse> news = reactiveNewsService.streamNews(new NewsFilter("fr", null, null), 2)
+            .collect().asList()
+            .await().indefinitely();
+
+        assertEquals(3, news.size());
+        news.forEach(item -> assertEquals("fr", item.language()));
+    }
+
+    @Test
+    void testGetNewsById() {
+        String id = newsService.getNews(NewsFilter.ALL, 0, 1).get(0).id();
+
+        NewsResponse news = reactiveNewsService.getNewsById(id).await().indefinitely();
+
+        assertNotNull(news);
+        assertEquals(id, news.id());
+    }
+
+    @Test
+    void testGetNewsByIdNotFoundOrInvalid() {
+        assertNull(reactiveNewsService.getNewsById(new ObjectId().toHexString()).await().indefinitely());
+        assertNull(reactiveNewsService.getNewsById("invalid-id").await().indefinitely());
+        assertNull(reactiveNewsService.getNewsById(null).await().indefinitely());
+    }
+
+    @Test
+    void testGetNewsByIdsMatchesBlockingService() {
+        List<String> ids = new ArrayList<>(newsService.getNews(NewsFilter.ALL, 0, 3).stream().map(NewsResponse::id).toList());
+        ids.add(1, new ObjectId().toHexString());
+
+        NewsBatchResponse reactive = reactiveNewsService.getNewsByIds(ids).await().indefinitely();
+
+        assertEquals(newsService.getNewsByIds(ids), reactive);
+        assertEquals(3, reactive.data().size());
+        assertEquals(List.of(ids.get(1)), reactive.missing());
+    }
+
+    @Test
+    void testGetNewsByIdsWithInvalidId() {
+        assertThrows(IllegalArgumentException.class,
+            () -> reactiveNewsService.getNewsByIds(List.of("invalid-id")).await().indefinitely());
+    }
+}
@@ -0,0 +1,99 @@
+package org.gfoo.service;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SortedChunksTest {
+
+    private static final Comparator<Integer> ORDER = Comparator.reverseOrder();
+
+    private static void assertSameElements(TreeSet<Integer> expected, SortedChunks<Integer> chunks) {
+        List<Integer> elements = new ArrayList<>(expected);
+        assertEquals(elements.size(), chunks.size());
+        assertEquals(elements, chunks.subList(0, chunks.size()));
+        for (int i = 0; i < elements.size(); i += 97) {
+            assertEquals(elements.get(i), chunks.get(i));
+        }
+    }
+
+    @Test
+    void testInsertsAndRemovesFollowASortedSet() {
+        // Given
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>(ORDER);
+        SortedChunks<Integer> chunks = SortedChunks.empty(ORDER);
+
+        // When - enough writes to split and drop chunks
+        for (int i = 0; i < 20_000; i++) {
+            Integer value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                chunks = chunks.remove(value);
+            } else if (expected.add(value)) {
+                chunks = chunks.insert(value);
+            }
+        }
+
+        // Then
+        assertSameElements(expected, chunks);
+    }
+
+    @Test
+    void testInsertAllMergesEachBatch() {
+        // Given
+        Random random = new Random(7);
+        TreeSet<Integer> expected = new TreeSet<>(ORDER);
+        SortedChunks<Integer> chunks = SortedChunks.empty(ORDER);
+
+        // When - batches landing anywhere, then at the head, as monotonic inserts do
+        for (int batch = 0; batch < 20; batch++) {
+            TreeSet<Integer> added = new TreeSet<>(ORDER);
+            while (added.size() < 300) {
+                int value = batch < 10 ? random.nextInt(1_000_000) : 1_000_000 + batch * 1_000 + added.size();
+                if (!expected.contains(value)) {
+                    added.add(value);
+                }
+            }
+            expected.addAll(added);
+            chunks = chunks.insertAll(added.toArray(Integer[]::new));
+        }
+
+        // Then
+        assertSameElements(expected, chunks);
+    }
+
+    @Test
+    void testFirstAfter() {
+        // Given - 0 to 2999 in descending order
+        Integer[] sorted = new Integer[3_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = sorted.length - 1 - i;
+        }
+        SortedChunks<Integer> chunks = SortedChunks.of(sorted, ORDER);
+
+        // Then
+        assertEquals(0, chunks.firstAfter(5_000));
+        assertEquals(1, chunks.firstAfter(2_999));
+        assertEquals(1_000, chunks.firstAfter(2_000));
+        assertEquals(3_000, chunks.firstAfter(0));
+        assertEquals(3_000, chunks.firstAfter(-1));
+    }
+
+    @Test
+    void testRemoveOfAMissingElementKeepsTheSequence() {
+        SortedChunks<Integer> chunks = SortedChunks.of(new Integer[] {3, 2, 1}, ORDER);
+
+        assertSame(chunks, chunks.remove(4));
+        assertSame(chunks, chunks.remove(0));
+        assertTrue(chunks.remove(3).remove(2).remove(1).isEmpty());
+    }
+}
@@ -0,0 +1,198 @@
+package org.gfoo.service;
+
+import org.gfoo.dto.NewsResponse;
+import org.gfoo.entity.NewsDocument;
+import org.gfoo.mapper.NewsMapper;
+import org.gfoo.repository.NewsCursor;
+import org.gfoo.repository.NewsFilter;
+import org.gfoo.repository.NewsRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class UsableNewsViewTest {
+
+    private static final List<NewsFilter> FILTERS = List.of(
+        new NewsFilter(null, "usable", null),
+        new NewsFilter("en", "usable", null),
+        new NewsFilter(null, "usable", true),
+        new NewsFilter("fr", "usable", false),
+        new NewsFilter("it", "usable", null));
+
+    @Inject
+    UsableNewsView usableNewsView;
+
+    @Inject
+    NewsRepository newsRepository;
+
+    @Inject
+    NewsMapper newsMapper;
+
+    private final List<NewsDocument> documents = new ArrayList<>();
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!usableNewsView.isWarm() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(usableNewsView.isWarm());
+
+        // Clean up before each test
+        newsRepository.deleteAll();
+        documents.clear();
+
+        // Inject test data, some of them sharing the same creation date
+        for (int i = 1; i <= 24; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "News " + i;
+            news.catchLine = "Description " + i;
+            news.isEvent = i % 4 == 0;
+            news.language = i % 3 == 0 ? "de" : i % 2 == 0 ? "fr" : "en";
+            news.status = i % 5 == 0 ? "draft" : "usable";
+            news.dateCreated = i % 6 == 0 ? null : new Date(1_700_000_000_000L + (i / 2) * 1000L);
+            news.dateLastModified = new Date();
+            newsRepository.persist(news);
+            documents.add(news);
+        }
+    }
+
+    private List<NewsResponse> fromMongo(NewsFilter filter, int page, int size) {
+        return newsMapper.toSummaryResponseList(newsRepository.findSummaries(filter, page, size));
+    }
+
+    @Test
+    void testPagesMatchMongo() {
+        for (NewsFilter filter : FILTERS) {
+            for (int page = 0; page < 5; page++) {
+                Optional<List<NewsResponse>> fromView = usableNewsView.page(filter, page, 4);
+                assertTrue(fromView.isPresent());
+                assertEquals(fromMongo(filter, page, 4), fromView.get(), filter + " page " + page);
+            }
+        }
+        assertEquals(20, usableNewsView.size());
+    }
+
+    @Test
+    void testSlicesMatchMongo() {
+        for (NewsFilter filter : FILTERS) {
+            List<NewsResponse> traversed = new ArrayList<>();
+            NewsCursor after = null;
+            do {
+                NewsSlice slice = usableNewsView.slice(filter, after, 3).orElseThrow();
+                traversed.addAll(slice.data());
+                after = slice.next() == null ? null : NewsCursor.decode(slice.next());
+            } while (after != null);
+
+            assertEquals(fromMongo(filter, 0, 100), traversed, filter.toString());
+        }
+    }
+
+    @Test
+    void testUnsupportedFilters() {
+        assertTrue(usableNewsView.page(NewsFilter.ALL, 0, 10).isEmpty());
+        assertTrue(usableNewsView.page(new NewsFilter(null, "draft", null), 0, 10).isEmpty());
+        assertTrue(usableNewsView.page(new NewsFilter(null, "usable", null, new Date(0), null), 0, 10).isEmpty());
+        assertTrue(usableNewsView.slice(NewsFilter.ALL, null, 10).isEmpty());
+    }
+
+    @Test
+    void testFollowsWrites() {
+        NewsFilter usable = new NewsFilter(null, "usable", null);
+
+        // Moves to another partition
+        NewsDocument moved = documents.get(0);
+        moved.language = "it";
+        newsRepository.update(moved);
+        assertEquals(fromMongo(new NewsFilter("it", "usable", null), 0, 10),
+            usableNewsView.page(new NewsFilter("it", "usable", null), 0, 10).orElseThrow());
+
+        // Leaves the view
+        NewsDocument hidden = documents.get(1);
+        hidden.status = "deleted";
+        newsRepository.update(hidden);
+
+        // Enters the view
+        NewsDocument published = documents.get(4);
+        published.status = "usable";
+        newsRepository.update(published);
+
+        newsRepository.delete(documents.get(2));
+        newsRepository.deleteById(documents.get(3).id);
+
+        NewsDocument created = new NewsDocument();
+        created.title = "Newest";
+        created.isEvent = false;
+        created.language = "en";
+        created.status = "usable";
+        created.dateCreated = new Date(1_800_000_000_000L);
+        newsRepository.persist(created);
+
+        assertEquals(fromMongo(usable, 0, 100), usableNewsView.page(usable, 0, 100).orElseThrow());
+        assertEquals("Newest", usableNewsView.page(usable, 0, 1).orElseThrow().get(0).title());
+    }
+
+    @Test
+    void testFollowsBatchInserts() {
+        // Given - a batch spread over several partitions, dates interleaved with the existing news
+        List<NewsDocument> batch = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            NewsDocument news = new NewsDocument();
+            news.title = "Batch " + i;
+            news.isEvent = i % 2 == 0;
+            news.language = i % 3 == 0 ? "en" : "fr";
+            news.status = i % 4 == 0 ? "draft" : "usable";
+            news.dateCreated = i % 5 == 0 ? null : new Date(1_700_000_000_000L + i * 1500L);
+            news.dateLastModified = new Date();
+            batch.add(news);
+        }
+
+        // When
+        newsRepository.insertUnordered(batch, true);
+
+        // Then
+        for (NewsFilter filter : FILTERS) {
+            assertEquals(fromMongo(filter, 0, 100), usableNewsView.page(filter, 0, 100).orElseThrow(),
+                filter.toString());
+        }
+    }
+
+    @Test
+    void testClearedEmptiesView() {
+        newsRepository.deleteAll();
+
+        assertEquals(0, usableNewsView.size());
+        assertEquals(List.of(), usableNewsView.page(new NewsFilter(null, "usable", null), 0, 10).orElseThrow());
+    }
+
+    @Test
+    void testRebuildAbsorbsExternalWrites() {
+        // Write bypassing the repository, as an external ingestion job would
+        NewsDocument external = new NewsDocument();
+        external.id = new ObjectId();
+        external.title = "External";
+        external.isEvent = true;
+        external.language = "en";
+        external.status = "usable";
+        external.dateCreated = new Date(1_800_000_000_000L);
+        newsRepository.mongoCollection().insertOne(external);
+
+        assertEquals(20, usableNewsView.size());
+
+        usableNewsView.rebuild();
+
+        assertEquals(21, usableNewsView.size());
+        assertEquals("External", usableNewsView.page(new NewsFilter("en", "usable", true), 0, 1).orElseThrow()
+            .get(0).title());
+    }
+}